@@ -0,0 +1,56 @@
+package pl.pabilo8.immersiveintelligence.api.ammo.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ballistic angle calculation using firing tables, compared with simulating the trajectory
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BallisticsBenchmark
+{
+	private static final float FORCE = 6f;
+	private static final double GRAVITY = 0.1, DRAG = 0.99, PRECISION = 0.002;
+
+	private int target = 0;
+
+	@Setup
+	public void setUp()
+	{
+		//Build the firing table before measuring
+		IIAmmoUtils.calculateBallisticAngle(100, 0, FORCE, GRAVITY, DRAG, PRECISION);
+	}
+
+	@Benchmark
+	public float calculateBallisticAngle()
+	{
+		target++;
+		return IIAmmoUtils.calculateBallisticAngle(50+target%200, target%40-20, FORCE, GRAVITY, DRAG, PRECISION);
+	}
+
+	/**
+	 * Height difference below the firing table
+	 */
+	@Benchmark
+	public double solveBallisticAngle()
+	{
+		target++;
+		return IIAmmoUtils.solveBallisticAngle(50+target%200, -200, FORCE, GRAVITY, DRAG, PRECISION);
+	}
+
+	@Benchmark
+	public float simulateBallisticAngle()
+	{
+		target++;
+		return IIAmmoUtils.simulateBallisticAngle(50+target%200, target%40-20, FORCE, GRAVITY, DRAG, PRECISION);
+	}
+}
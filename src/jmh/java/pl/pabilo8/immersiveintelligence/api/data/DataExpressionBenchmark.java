@@ -0,0 +1,100 @@
+package pl.pabilo8.immersiveintelligence.api.data;
+
+import org.openjdk.jmh.annotations.*;
+import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
+import pl.pabilo8.immersiveintelligence.api.data.operations.advanced_arithmetic.DataOperationSin;
+import pl.pabilo8.immersiveintelligence.api.data.operations.arithmetic.DataOperationAdd;
+import pl.pabilo8.immersiveintelligence.api.data.operations.array.DataOperationArrayGet;
+import pl.pabilo8.immersiveintelligence.api.data.operations.comparators.DataOperationGreater;
+import pl.pabilo8.immersiveintelligence.api.data.operations.logic.DataOperationAND;
+import pl.pabilo8.immersiveintelligence.api.data.operations.text.DataOperationStringJoin;
+import pl.pabilo8.immersiveintelligence.api.data.operations.type_conversion.DataOperationToString;
+import pl.pabilo8.immersiveintelligence.api.data.operations.vector.DataOperationVectorLength;
+import pl.pabilo8.immersiveintelligence.api.data.types.*;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
+import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks evaluation of a {@link DataTypeExpression} for an operation of each family
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataExpressionBenchmark
+{
+	@Param({"arithmetic", "advanced_arithmetic", "comparator", "logic", "text", "type_conversion", "array", "vector"})
+	public String family;
+
+	private DataPacket packet;
+	private DataTypeExpression expression;
+	private ICompiledValue compiled;
+
+	@Setup
+	public void setUp()
+	{
+		IIDataTypeUtils.registerDataTypes();
+		IIDataOperationUtils.registerDataOperations();
+
+		packet = new DataPacket();
+		packet.setVariable('a', new DataTypeInteger(7));
+		packet.setVariable('b', new DataTypeFloat(0.5f));
+		packet.setVariable('c', new DataTypeString("data"));
+		packet.setVariable('d', new DataTypeBoolean(true));
+		packet.setVariable('e', new DataTypeArray(new DataTypeInteger(1), new DataTypeInteger(2), new DataTypeInteger(3)));
+		packet.setVariable('v', new DataTypeVector(1, 2, 3));
+
+		switch(family)
+		{
+			case "arithmetic":
+				expression = create(new DataOperationAdd(), new DataTypeAccessor('a'), new DataTypeInteger(3));
+				break;
+			case "advanced_arithmetic":
+				expression = create(new DataOperationSin(), new DataTypeAccessor('b'));
+				break;
+			case "comparator":
+				expression = create(new DataOperationGreater(), new DataTypeAccessor('a'), new DataTypeInteger(3));
+				break;
+			case "logic":
+				expression = create(new DataOperationAND(), new DataTypeAccessor('d'), new DataTypeBoolean(false));
+				break;
+			case "text":
+				expression = create(new DataOperationStringJoin(), new DataTypeAccessor('c'), new DataTypeString("packet"));
+				break;
+			case "type_conversion":
+				expression = create(new DataOperationToString(), new DataTypeAccessor('a'));
+				break;
+			case "array":
+				expression = create(new DataOperationArrayGet(), new DataTypeAccessor('e'), new DataTypeInteger(1));
+				break;
+			case "vector":
+				expression = create(new DataOperationVectorLength(), new DataTypeAccessor('v'));
+				break;
+		}
+		compiled = expression.compile();
+	}
+
+	@Benchmark
+	public DataType evaluate()
+	{
+		return expression.getValue(packet);
+	}
+
+	@Benchmark
+	public DataType evaluateCompiled()
+	{
+		return compiled.evaluate(packet);
+	}
+
+	private static DataTypeExpression create(DataOperation operation, DataType... arguments)
+	{
+		return new DataTypeExpression(arguments, operation, 'x');
+	}
+}
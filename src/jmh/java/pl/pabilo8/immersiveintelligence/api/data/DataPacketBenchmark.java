@@ -0,0 +1,80 @@
+package pl.pabilo8.immersiveintelligence.api.data;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.openjdk.jmh.annotations.*;
+import pl.pabilo8.immersiveintelligence.api.data.operations.arithmetic.DataOperationAdd;
+import pl.pabilo8.immersiveintelligence.api.data.types.*;
+import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks NBT serialisation and cloning of a {@link DataPacket}
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataPacketBenchmark
+{
+	private DataPacket packet;
+	private NBTTagCompound nbt;
+
+	@Setup
+	public void setUp()
+	{
+		IIDataTypeUtils.registerDataTypes();
+		IIDataOperationUtils.registerDataOperations();
+
+		packet = new DataPacket();
+		packet.setVariable('a', new DataTypeInteger(5));
+		packet.setVariable('b', new DataTypeFloat(2.5f));
+		packet.setVariable('c', new DataTypeString("Immersive Intelligence"));
+		packet.setVariable('d', new DataTypeBoolean(true));
+		DataType[] values = new DataType[16];
+		for(int i = 0; i < values.length; i++)
+			values[i] = new DataTypeInteger(i);
+		packet.setVariable('e', new DataTypeArray(values));
+		packet.setVariable('f', new DataTypeExpression(new DataType[]{new DataTypeAccessor('a'), new DataTypeInteger(2)}, new DataOperationAdd(), 'f'));
+
+		nbt = packet.toNBT();
+	}
+
+	@Benchmark
+	public NBTTagCompound toNBT()
+	{
+		return packet.toNBT();
+	}
+
+	@Benchmark
+	public DataPacket fromNBT()
+	{
+		return new DataPacket().fromNBT(nbt);
+	}
+
+	@Benchmark
+	public DataPacket roundTrip()
+	{
+		return new DataPacket().fromNBT(packet.toNBT());
+	}
+
+	@Benchmark
+	public DataPacket cloneShared()
+	{
+		return packet.clone();
+	}
+
+	/**
+	 * Reading a mutable variable from a clone copies its variables
+	 */
+	@Benchmark
+	public DataType cloneAndRead()
+	{
+		return packet.clone().getPacketVariable('e');
+	}
+}
@@ -0,0 +1,81 @@
+package pl.pabilo8.immersiveintelligence.api.data.device;
+
+import org.openjdk.jmh.annotations.*;
+import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeInteger;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sending a packet to all connectors in a {@link DataWireNetwork}
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataWireNetworkBenchmark
+{
+	@Param({"8", "64", "512"})
+	public int connectors;
+
+	private DataWireNetwork network;
+	private IDataConnector sender;
+	private DataPacket packet;
+	private int received = 0;
+	//Strong references, as the network only keeps weak ones
+	private IDataConnector[] connected;
+
+	@Setup
+	public void setUp()
+	{
+		network = new DataWireNetwork();
+		connected = new IDataConnector[connectors];
+		for(int i = 0; i < connectors; i++)
+			network.add(connected[i] = createConnector());
+		sender = connected[0];
+
+		packet = new DataPacket();
+		packet.setVariable('a', new DataTypeInteger(1));
+	}
+
+	@Benchmark
+	public int sendPacket()
+	{
+		network.sendPacket(packet, sender);
+		return received;
+	}
+
+	/**
+	 * @return a connector counting received packets
+	 */
+	private IDataConnector createConnector()
+	{
+		return (IDataConnector)Proxy.newProxyInstance(IDataConnector.class.getClassLoader(), new Class[]{IDataConnector.class},
+				(proxy, method, args) -> {
+					switch(method.getName())
+					{
+						case "onPacketReceive":
+							received++;
+							return null;
+						case "getDataNetwork":
+							return network;
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy==args[0];
+					}
+					Class<?> type = method.getReturnType();
+					if(type==boolean.class)
+						return false;
+					if(type.isPrimitive()&&type!=void.class)
+						return type==float.class?0f: type==double.class?0d: type==long.class?0L: 0;
+					return null;
+				});
+	}
+}
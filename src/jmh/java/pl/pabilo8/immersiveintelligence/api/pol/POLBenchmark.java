@@ -0,0 +1,130 @@
+package pl.pabilo8.immersiveintelligence.api.pol;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import pl.pabilo8.immersiveintelligence.api.data.IIDataOperationUtils;
+import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
+import pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice;
+import pl.pabilo8.immersiveintelligence.api.data.pol.POLComputerMemory;
+import pl.pabilo8.immersiveintelligence.api.data.pol.POLProcess;
+import pl.pabilo8.immersiveintelligence.api.data.pol.POLScript;
+import pl.pabilo8.immersiveintelligence.api.data.pol.POLTerminal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and execution of a POL script
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class POLBenchmark
+{
+	/**
+	 * Euclid's Algorithm, same as in the POL computer test
+	 */
+	private static final String[] GCD = {
+			"use ADVANCED_ARITHMETIC",
+			"use COMPARATOR",
+			"use LOGIC",
+			"integer a = 198",
+			"integer b = 24",
+			"exec \"gcd\"",
+			"type @c",
+			"end",
+			";uses @a and @b as parameters, returns @c",
+			"mark gcd",
+			"integer a = modulo @a @b",
+			"swap a b",
+			"if ! (equal @b 0)",
+			"    goto \"gcd\"",
+			"copy a c",
+			"end"
+	};
+
+	private final POLTerminal terminal = new POLBenchmarkTerminal();
+	private POLComputerMemory memory;
+	private ArrayList<String> lines;
+	private POLScript script;
+	private int uncached = 0;
+
+	@Setup
+	public void setUp()
+	{
+		IIDataOperationUtils.registerDataOperations();
+		IIDataTypeUtils.registerDataTypes();
+
+		memory = new POLComputerMemory(8);
+		lines = new ArrayList<>(Arrays.asList(GCD));
+		script = POLScript.prepareScript(lines);
+		memory.putScript("gcd", script);
+	}
+
+	@Benchmark
+	public POLScript prepareScript()
+	{
+		return POLScript.prepareScript(lines);
+	}
+
+	/**
+	 * Each script differs by a comment, so it is parsed every time
+	 */
+	@Benchmark
+	public POLScript prepareScriptUncached()
+	{
+		ArrayList<String> text = new ArrayList<>(lines);
+		text.add(";"+(uncached++));
+		return POLScript.prepareScript(text);
+	}
+
+	@Benchmark
+	public void run(Blackhole blackhole)
+	{
+		POLProcess process = new POLProcess(script);
+		do
+			process.run(memory, terminal);
+		while(process.isRunning());
+		blackhole.consume(memory.packet);
+	}
+
+	private static class POLBenchmarkTerminal extends POLTerminal
+	{
+		@Override
+		public void error(String text)
+		{
+
+		}
+
+		@Override
+		public void type(String text)
+		{
+
+		}
+
+		@Override
+		public void lamp(int lamp, int color, boolean state)
+		{
+
+		}
+
+		@Override
+		public IDataDevice getDeviceAt(int section, int id)
+		{
+			return null;
+		}
+
+		@Override
+		public void sleep(int value)
+		{
+
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package pl.pabilo8.immersiveintelligence.common.util.easynbt;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks syncing fields annotated with {@link SyncNBT}
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("unchecked")
+public class NBTSerialisationBenchmark
+{
+	private final SyncedObject synced = new SyncedObject();
+	private NBTTagCompound nbt;
+
+	@Setup
+	public void setUp()
+	{
+		nbt = serializeAll();
+	}
+
+	@Benchmark
+	public NBTTagCompound serializeAll()
+	{
+		NBTTagCompound into = new NBTTagCompound();
+		NBTSerialisation.synchroniseFor(synced, (serializer, object) -> serializer.serializeAll(object, into));
+		return into;
+	}
+
+	@Benchmark
+	public NBTTagCompound serializeForTime()
+	{
+		NBTTagCompound into = new NBTTagCompound();
+		NBTSerialisation.synchroniseFor(synced, (serializer, object) -> serializer.serializeForTime(object, into, 20));
+		return into;
+	}
+
+	@Benchmark
+	public SyncedObject deserializeAll()
+	{
+		NBTSerialisation.synchroniseFor(synced, (serializer, object) -> serializer.deserializeAll(object, nbt, true));
+		return synced;
+	}
+
+	public static class SyncedObject
+	{
+		@SyncNBT
+		public int progress = 40;
+		@SyncNBT(time = 5)
+		public float rotation = 12.5f;
+		@SyncNBT
+		public boolean active = true;
+		@SyncNBT(time = 0, events = SyncNBT.SyncEvents.TILE_RECIPE_CHANGED)
+		public String recipe = "immersiveintelligence:bullet";
+		@SyncNBT
+		public int[] slots = new int[]{1, 2, 3, 4, 5, 6, 7, 8};
+	}
+}
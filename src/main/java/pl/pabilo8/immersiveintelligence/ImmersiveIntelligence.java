@@ -18,6 +18,7 @@ import pl.pabilo8.immersiveintelligence.common.commands.ii.CommandII;
 import pl.pabilo8.immersiveintelligence.common.compat.IICompatModule;
 import pl.pabilo8.immersiveintelligence.common.event.IEOverrideEventHandler;
 import pl.pabilo8.immersiveintelligence.common.event.LightEngineerEventHandler;
+import pl.pabilo8.immersiveintelligence.common.util.BlockDestructionQueue;
 import pl.pabilo8.immersiveintelligence.common.util.IIReflectionUtils;
 import pl.pabilo8.immersiveintelligence.common.util.IISkinHandler;
 
@@ -87,6 +88,8 @@ public class ImmersiveIntelligence
 			World world = FMLCommonHandler.instance().getMinecraftServerInstance().getEntityWorld();
 			if(!world.isRemote)
 			{
+				//Edits of a previously played world shouldn't carry over
+				BlockDestructionQueue.clear();
 				IISaveData worldData = (IISaveData)world.loadData(IISaveData.class, IISaveData.dataName);
 				if(worldData==null)
 				{
@@ -9,6 +9,7 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
 import net.minecraftforge.common.IPlantable;
+import net.minecraftforge.common.property.IExtendedBlockState;
 import pl.pabilo8.immersiveintelligence.api.ammo.enums.PenetrationHardness;
 import pl.pabilo8.immersiveintelligence.api.ammo.penetration.IPenetrationHandler;
 import pl.pabilo8.immersiveintelligence.api.ammo.penetration.PenetrationHandler;
@@ -21,15 +22,17 @@ import pl.pabilo8.immersiveintelligence.common.IIUtils;
 import pl.pabilo8.immersiveintelligence.common.util.IIStringUtil;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
+ * Handlers are resolved once per block state and entity class, then cached until a new handler is registered.
+ *
  * @author Pabilo8
- * @updated 17.03.2024
+ * @updated 18.10.2026
  * @ii-approved 0.3.1
  * @since 05-03-2020
  */
@@ -42,16 +45,25 @@ public class PenetrationRegistry
 	/**
 	 * Registry of PenetrationHandlers for entities
 	 */
-	private static final HashMap<Predicate<Entity>, IPenetrationHandler> REGISTERED_ENTITIES = new HashMap<>();
+	private static final LinkedHashMap<Predicate<Entity>, IPenetrationHandler> REGISTERED_ENTITIES = new LinkedHashMap<>();
 	/**
 	 * Registry of PenetrationHandlers for blocks
 	 */
-	private static final HashMap<Predicate<IBlockState>, IPenetrationHandler> REGISTERED_BLOCKS = new HashMap<>();
+	private static final LinkedHashMap<Predicate<IBlockState>, IPenetrationHandler> REGISTERED_BLOCKS = new LinkedHashMap<>();
 	/**
 	 * Registry of PenetrationHandlers for block materials
 	 */
 	private static final LinkedHashMap<Predicate<Material>, IPenetrationHandler> REGISTERED_MATERIALS = new LinkedHashMap<>();
 
+	/**
+	 * Resolved handlers for block states, states don't override equals, so they're compared by identity
+	 */
+	private static final ConcurrentHashMap<IBlockState, IPenetrationHandler> CACHED_STATES = new ConcurrentHashMap<>();
+	/**
+	 * Resolved handlers for entity classes
+	 */
+	private static final ConcurrentHashMap<Class<? extends Entity>, IPenetrationHandler> CACHED_ENTITIES = new ConcurrentHashMap<>();
+
 	public static void init()
 	{
 		//Bedrock
@@ -80,8 +92,8 @@ public class PenetrationRegistry
 		registerMetalMaterial(PenetrationHandlerMetal.create("iron", PenetrationHardness.IRON, 1.33f, 250f));
 		registerMetalMaterial(PenetrationHandlerMetal.create("steel", PenetrationHardness.STEEL, 1.5f, 300f));
 		registerMetalMaterial(PenetrationHandlerMetal.create("tungsten", PenetrationHardness.TUNGSTEN, 1.5f, 350f));
-		REGISTERED_MATERIALS.put(material -> material==Material.ANVIL, PenetrationHandlerMetal.get("iron"));
-		REGISTERED_MATERIALS.put(material -> material==Material.IRON, PenetrationHandlerMetal.get("iron"));
+		registerMaterial(Material.ANVIL, PenetrationHandlerMetal.get("iron"));
+		registerMaterial(Material.IRON, PenetrationHandlerMetal.get("iron"));
 
 		//Multiblocks and machines
 		PenetrationHandler penHandlerMechanical = new PenetrationHandler(PenetrationHardness.IRON,
@@ -156,7 +168,7 @@ public class PenetrationRegistry
 		registerMaterial(Material.GOURD, new PenetrationHandler(PenetrationHardness.FRAGILE, 1f, 150, IIParticles.PARTICLE_DEBRIS_STRAW, IISounds.impactFoliage, null));
 
 		//EntityLivingBase
-		REGISTERED_ENTITIES.put(entity -> entity instanceof EntityLivingBase,
+		registerEntity(entity -> entity instanceof EntityLivingBase,
 				new PenetrationHandler(PenetrationHardness.FRAGILE, 1f, 0, IIParticles.PARTICLE_DEBRIS_FLESH, IISounds.impactFlesh, null));
 	}
 
@@ -171,6 +183,20 @@ public class PenetrationRegistry
 	public static void registerState(Predicate<IBlockState> check, IPenetrationHandler handler)
 	{
 		REGISTERED_BLOCKS.put(check, handler);
+		clearCache();
+	}
+
+	/**
+	 * Registers a new penetration handler for entities.<br>
+	 * Handlers are cached per entity class, so the check shouldn't depend on the entity's state.
+	 *
+	 * @param check   Entity check
+	 * @param handler penetration handler
+	 */
+	public static void registerEntity(Predicate<Entity> check, IPenetrationHandler handler)
+	{
+		REGISTERED_ENTITIES.put(check, handler);
+		clearCache();
 	}
 
 	/**
@@ -182,6 +208,7 @@ public class PenetrationRegistry
 	public static void registerMaterial(Material check, IPenetrationHandler handler)
 	{
 		REGISTERED_MATERIALS.put(material -> material==check, handler);
+		clearCache();
 	}
 
 	/**
@@ -194,6 +221,7 @@ public class PenetrationRegistry
 	{
 		final HashSet<Material> hashSet = new HashSet<>(Arrays.asList(materials));
 		REGISTERED_MATERIALS.put(hashSet::contains, handler);
+		clearCache();
 	}
 
 	//TODO: 29.03.2024 multi-ore version of this
@@ -216,13 +244,14 @@ public class PenetrationRegistry
 
 	public static void registerMetalMaterial(PenetrationHandlerMetal handler, boolean hasSlab, boolean hasSheetMetal, boolean hasSheetmetalSlab)
 	{
-		REGISTERED_BLOCKS.put(iBlockState -> IIUtils.compareBlockstateOredict(iBlockState, "block"+IIStringUtil.toCamelCase(handler.getName(), false)), handler);
+		final String name = IIStringUtil.toCamelCase(handler.getName(), false);
+		registerOre("block"+name, handler);
 		if(hasSlab)
-			REGISTERED_BLOCKS.put(iBlockState -> IIUtils.compareBlockstateOredict(iBlockState, "slab"+IIStringUtil.toCamelCase(handler.getName(), false)), handler);
+			registerOre("slab"+name, handler);
 		if(hasSheetMetal)
-			REGISTERED_BLOCKS.put(iBlockState -> IIUtils.compareBlockstateOredict(iBlockState, "blockSheetmetal"+IIStringUtil.toCamelCase(handler.getName(), false)), handler);
+			registerOre("blockSheetmetal"+name, handler);
 		if(hasSheetmetalSlab)
-			REGISTERED_BLOCKS.put(iBlockState -> IIUtils.compareBlockstateOredict(iBlockState, "slabSheetmetal"+IIStringUtil.toCamelCase(handler.getName(), false)), handler);
+			registerOre("slabSheetmetal"+name, handler);
 
 	}
 
@@ -230,11 +259,34 @@ public class PenetrationRegistry
 	{
 		for(Block b : blocks)
 			REGISTERED_BLOCKS.put(iBlockState -> iBlockState.getBlock()==b, handler);
+		clearCache();
+	}
+
+	/**
+	 * Clears resolved handlers, called whenever a handler is registered
+	 */
+	public static void clearCache()
+	{
+		CACHED_STATES.clear();
+		CACHED_ENTITIES.clear();
 	}
 
 	//--- Getters ---//
 
 	public static IPenetrationHandler getPenetrationHandler(IBlockState state)
+	{
+		//Extended states are created on demand, use the base state instead
+		if(state instanceof IExtendedBlockState)
+			state = ((IExtendedBlockState)state).getClean();
+		return CACHED_STATES.computeIfAbsent(state, PenetrationRegistry::findPenetrationHandler);
+	}
+
+	public static IPenetrationHandler getPenetrationHandler(Entity entity)
+	{
+		return CACHED_ENTITIES.computeIfAbsent(entity.getClass(), c -> findPenetrationHandler(entity));
+	}
+
+	private static IPenetrationHandler findPenetrationHandler(IBlockState state)
 	{
 		for(Entry<Predicate<IBlockState>, IPenetrationHandler> e : REGISTERED_BLOCKS.entrySet())
 			if(e.getKey().test(state))
@@ -247,7 +299,7 @@ public class PenetrationRegistry
 		return DEFAULT;
 	}
 
-	public static IPenetrationHandler getPenetrationHandler(Entity entity)
+	private static IPenetrationHandler findPenetrationHandler(Entity entity)
 	{
 		for(Entry<Predicate<Entity>, IPenetrationHandler> e : REGISTERED_ENTITIES.entrySet())
 			if(e.getKey().test(entity))
@@ -6,6 +6,7 @@ import pl.pabilo8.immersiveintelligence.api.ammo.parts.IAmmoType;
 import pl.pabilo8.immersiveintelligence.common.entity.ammo.types.EntityAmmoProjectile;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -13,12 +14,26 @@ import java.util.Map;
  *
  * @author Pabilo8 (pabilo@iiteam.net)
  * @ii-approved 0.3.1
+ * @updated 18.10.2026
  * @since 04.06.2024
  */
 public class AmmoBallisticsCache
 {
 	private static final Map<Integer, CachedBallisticStats> cache = new HashMap<>();
 	private static final double BALLISTIC_PRECISION = 0.25;
+	private static final int MAX_FIRING_TABLES = 32;
+
+	/**
+	 * Firing tables for projectile parameters, the least recently used ones are removed first
+	 */
+	private static final Map<Long, FiringTable> firingTables = new LinkedHashMap<Long, FiringTable>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, FiringTable> eldest)
+		{
+			return size() > MAX_FIRING_TABLES;
+		}
+	};
 
 	/**
 	 * Retrieves the cached stats for the given ammo type, core, propellant and core type
@@ -33,6 +48,31 @@ public class AmmoBallisticsCache
 		return cache.computeIfAbsent(key, k -> new CachedBallisticStats(type, stack));
 	}
 
+	/**
+	 * Retrieves a firing table for the given projectile parameters, building it if needed.<br>
+	 * As velocity and gravity depend on the ammo type and its mass, each one of them has its own table.
+	 *
+	 * @param force   speed (blocks/tick) of the projectile
+	 * @param gravity gravity of the projectile
+	 * @param drag    drag factor of the projectile
+	 * @return the firing table
+	 */
+	public static FiringTable getFiringTable(float force, double gravity, double drag)
+	{
+		long key = ((Float.floatToIntBits(force)*31L)+Double.doubleToLongBits(gravity))*31L+Double.doubleToLongBits(drag);
+		synchronized(firingTables)
+		{
+			FiringTable table = firingTables.get(key);
+			//Rebuild on hash collision
+			if(table==null||!table.matches(force, gravity, drag))
+			{
+				table = new FiringTable(force, gravity, drag);
+				firingTables.put(key, table);
+			}
+			return table;
+		}
+	}
+
 	/**
 	 * Caches the ballistic stats for the given ammo stack
 	 *
@@ -137,4 +177,138 @@ public class AmmoBallisticsCache
 			return distances[(int)Math.floor(angle/BALLISTIC_PRECISION)];
 		}
 	}
+
+	/**
+	 * Distances travelled by a projectile for each firing angle, until it descends to a given height difference.<br>
+	 * Used to find a ballistic angle by interpolation, instead of simulating the trajectory for each angle.
+	 *
+	 * @author Pabilo8
+	 * @since 18.10.2026
+	 */
+	public static class FiringTable
+	{
+		private static final int ANGLE_STEPS = (int)Math.ceil(90/BALLISTIC_PRECISION);
+		private static final double ANGLE_STEP = Math.PI*0.5/ANGLE_STEPS;
+		private static final int HEIGHT_STEP = 2, MIN_HEIGHT = -128, MAX_HEIGHT = 256;
+		/**
+		 * Simulation limit for a single trajectory
+		 */
+		private static final int MAX_TICKS = 24000;
+
+		private final float force;
+		private final double gravity, drag;
+		/**
+		 * Highest height difference in the table
+		 */
+		private final int maxHeight;
+		/**
+		 * Distances by angle and height difference, from {@link #MIN_HEIGHT} to {@link #maxHeight}
+		 */
+		private final float[][] distances;
+
+		public FiringTable(float force, double gravity, double drag)
+		{
+			this.force = force;
+			this.gravity = gravity;
+			this.drag = drag;
+
+			//max height without drag, when fired vertically
+			double apex = gravity > 0?(force*force)/(2*gravity): MAX_HEIGHT;
+			this.maxHeight = (int)Math.min(Math.ceil(apex/HEIGHT_STEP)*HEIGHT_STEP, MAX_HEIGHT);
+			int heights = (maxHeight-MIN_HEIGHT)/HEIGHT_STEP+1;
+			this.distances = new float[ANGLE_STEPS][heights];
+
+			for(int i = 0; i < ANGLE_STEPS; i++)
+			{
+				double angle = i*ANGLE_STEP;
+				double motionX = MathHelper.cos((float)angle)*force;
+				double motionY = MathHelper.sin((float)angle)*force;
+				double posX = 0, posY = 0, prevX = 0, prevY = 0;
+				float[] row = distances[i];
+				//highest height not reached yet
+				int h = heights-1;
+
+				for(int tick = 0; h >= 0; tick++)
+				{
+					//the projectile reaches all heights above it, once it's descending
+					if(motionY <= 0||tick==MAX_TICKS)
+						while(h >= 0&&(tick==MAX_TICKS||MIN_HEIGHT+h*HEIGHT_STEP >= posY))
+						{
+							int height = MIN_HEIGHT+h*HEIGHT_STEP;
+							//interpolate between ticks, if the height was crossed
+							row[h--] = (float)(tick > 0&&prevY > height&&height >= posY?
+									prevX+(posX-prevX)*(prevY-height)/(prevY-posY): posX);
+						}
+
+					prevX = posX;
+					prevY = posY;
+					motionX *= drag;
+					motionY *= drag;
+					motionY -= gravity;
+					posX += motionX;
+					posY += motionY;
+				}
+			}
+		}
+
+		boolean matches(float force, double gravity, double drag)
+		{
+			return this.force==force&&this.gravity==gravity&&this.drag==drag;
+		}
+
+		/**
+		 * @param distance distance to target
+		 * @param height   height difference between the gun and target
+		 * @param minAngle lowest angle (in radians) to be checked
+		 * @return angle (in radians) landing the projectile closest to the target, NaN if the height is outside the table
+		 */
+		public double getAngle(double distance, double height, double minAngle)
+		{
+			if(height < MIN_HEIGHT||height > maxHeight||distances[0].length < 2)
+				return Double.NaN;
+
+			//interpolate between heights
+			double heightPos = (height-MIN_HEIGHT)/HEIGHT_STEP;
+			int h = Math.min((int)heightPos, distances[0].length-2);
+			double t = heightPos-h;
+
+			int first = Math.max((int)Math.ceil(minAngle/ANGLE_STEP), 0);
+			if(first >= ANGLE_STEPS)
+				return Double.NaN;
+
+			int best = first;
+			double bestError = Double.MAX_VALUE, bestOffset = 0, previousOffset = Double.NaN;
+			int bracket = -1;
+			for(int i = first; i < ANGLE_STEPS; i++)
+			{
+				double offset = getDistance(i, h, t)-distance;
+				if(Math.abs(offset) < bestError)
+				{
+					bestError = Math.abs(offset);
+					bestOffset = offset;
+					best = i;
+					//the target lies between this and the previous angle
+					bracket = previousOffset*offset <= 0?i-1: -1;
+				}
+				else if(i==best+1&&bestOffset*offset <= 0)
+					bracket = best;
+				previousOffset = offset;
+			}
+
+			//interpolate between angles around the target
+			if(bracket >= first)
+			{
+				double d0 = getDistance(bracket, h, t), d1 = getDistance(bracket+1, h, t);
+				if(d0!=d1)
+					return (bracket+MathHelper.clamp((distance-d0)/(d1-d0), 0, 1))*ANGLE_STEP;
+			}
+			return best*ANGLE_STEP;
+		}
+
+		private double getDistance(int angle, int height, double t)
+		{
+			float[] row = distances[angle];
+			return row[height]+(row[height+1]-row[height])*t;
+		}
+	}
 }
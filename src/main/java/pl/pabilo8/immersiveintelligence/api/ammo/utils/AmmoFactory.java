@@ -14,6 +14,7 @@ import pl.pabilo8.immersiveintelligence.api.ammo.parts.AmmoCore;
 import pl.pabilo8.immersiveintelligence.api.ammo.parts.IAmmoType;
 import pl.pabilo8.immersiveintelligence.common.IILogger;
 import pl.pabilo8.immersiveintelligence.common.entity.ammo.EntityAmmoBase;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.ProjectileManager;
 import pl.pabilo8.immersiveintelligence.common.entity.ammo.types.EntityAmmoProjectile;
 
 import javax.annotation.Nullable;
@@ -27,6 +28,7 @@ import java.util.function.Supplier;
  * @param <E> The ammo entity class
  * @author Pabilo8
  * @ii-approved 0.3.1
+ * @updated 18.10.2026
  * @since 02.01.2024
  */
 public class AmmoFactory<E extends EntityAmmoBase<? super E>>
@@ -67,6 +69,10 @@ public class AmmoFactory<E extends EntityAmmoBase<? super E>>
 	 * the owner is always ignored and doesn't have to be added to this list
 	 */
 	private List<Entity> ignoredEntities;
+	/**
+	 * Whether plain projectiles should be simulated by the {@link ProjectileManager} instead of being spawned as entities
+	 */
+	private boolean pooled;
 
 //--- Constructor ---//
 
@@ -92,6 +98,7 @@ public class AmmoFactory<E extends EntityAmmoBase<? super E>>
 		this.ignoredEntities = null;
 		this.velocityModifier = 1f;
 		this.dir = Vec3d.ZERO;
+		this.pooled = false;
 	}
 
 	public AmmoFactory(World world)
@@ -241,11 +248,25 @@ public class AmmoFactory<E extends EntityAmmoBase<? super E>>
 		return this;
 	}
 
+	/**
+	 * Allows plain projectiles to be simulated by the {@link ProjectileManager}, used by rapid-firing guns.<br>
+	 * Pooled projectiles aren't spawned in the world and are reused after they detonate, so {@link #create()} doesn't return them.
+	 *
+	 * @param pooled Whether the ammo can be pooled
+	 * @return The factory
+	 */
+	public AmmoFactory<E> setPooled(boolean pooled)
+	{
+		this.pooled = pooled;
+		return this;
+	}
+
 	/**
 	 * Builds the ammo based on passed data and spawns it in the world.
 	 *
-	 * @return The ammo entity
+	 * @return The ammo entity, null if it's pooled
 	 */
+	@Nullable
 	public E create()
 	{
 		return create(null);
@@ -254,8 +275,8 @@ public class AmmoFactory<E extends EntityAmmoBase<? super E>>
 	/**
 	 * Builds the ammo based on passed data and spawns it in the world.
 	 *
-	 * @param action The action to perform on the ammo entity before it is spawned
-	 * @return The ammo entity
+	 * @param action The action to perform on the ammo entity before it is spawned, it shouldn't keep a reference to pooled entities
+	 * @return The ammo entity, null if it's pooled, see {@link #setPooled(boolean)}
 	 */
 	@Nullable
 	public E create(@Nullable Consumer<E> action)
@@ -273,7 +294,8 @@ public class AmmoFactory<E extends EntityAmmoBase<? super E>>
 
 		//Create the entity
 		World currentWorld = this.world.get();
-		E entity = ammo.getAmmoEntity(currentWorld);
+		boolean managed = pooled&&ProjectileManager.canPool(currentWorld, ammo);
+		E entity = managed?(E)ProjectileManager.obtain(currentWorld): ammo.getAmmoEntity(currentWorld);
 		entity.setFromStack(stack);
 		entity.setOwner(owner);
 
@@ -288,6 +310,12 @@ public class AmmoFactory<E extends EntityAmmoBase<? super E>>
 		if(action!=null)
 			action.accept(entity);
 		//Spawn the entity in the world
+		if(managed)
+		{
+			//Pooled entities are reused after they detonate, so they can't be returned
+			ProjectileManager.spawn(currentWorld, (EntityAmmoProjectile)entity);
+			return null;
+		}
 		currentWorld.spawnEntity(entity);
 		return entity;
 	}
@@ -130,11 +130,91 @@ public class IIAmmoUtils
 		);
 	}
 
-	//TODO: 15.02.2024 use an equation instead of simulating the trajectory
+	/**
+	 * Finds the ballistic angle using a firing table from {@link AmmoBallisticsCache#getFiringTable(float, double, double)}.<br>
+	 * Targets outside the table's height range are found with {@link #solveBallisticAngle(double, double, float, double, double, double)}.
+	 *
+	 * @param distance       distance to target
+	 * @param height         height difference between the gun and target
+	 * @param force          speed (blocks/s) of the bullet
+	 * @param gravity        gravity of the bullet
+	 * @param drag           drag factor of the bullet
+	 * @param anglePrecision precision with which the angle will be searched, the lower the number, the higher the precision
+	 * @return optimal ballistic shooting angle
+	 */
+	public static float calculateBallisticAngle(double distance, double height, float force, double gravity, double drag, double anglePrecision)
+	{
+		if(gravity==0D)
+			return 90F-(float)(Math.atan(height/distance)*180F/Math.PI);
+
+		double angle = AmmoBallisticsCache.getFiringTable(force, gravity, drag).getAngle(distance, height, Math.PI*anglePrecision);
+		if(Double.isNaN(angle))
+			angle = solveBallisticAngle(distance, height, force, gravity, drag, anglePrecision);
+
+		return 90F-(float)(angle*180D/Math.PI);
+	}
+
+	/**
+	 * Finds the ballistic angle by checking every degree, then bisecting between the angles around the target.
+	 *
+	 * @param distance       distance to target
+	 * @param height         height difference between the gun and target
+	 * @param force          speed (blocks/s) of the bullet
+	 * @param gravity        gravity of the bullet
+	 * @param drag           drag factor of the bullet
+	 * @param anglePrecision precision with which the angle will be searched, the lower the number, the higher the precision
+	 * @return optimal ballistic shooting angle in radians
+	 */
+	public static double solveBallisticAngle(double distance, double height, float force, double gravity, double drag, double anglePrecision)
+	{
+		final double step = Math.PI/180D;
+		double bestAngle = Math.PI*anglePrecision;
+		double bestOffset = simulateBallisticDistance(bestAngle, height, force, gravity, drag)-distance;
+		double lower = Double.NaN, upper = Double.NaN, lowerOffset = 0;
+
+		double previousAngle = bestAngle, previousOffset = bestOffset;
+		for(double i = bestAngle+step; i < Math.PI*0.5D; i += step)
+		{
+			double offset = simulateBallisticDistance(i, height, force, gravity, drag)-distance;
+			if(Math.abs(offset) < Math.abs(bestOffset))
+			{
+				bestOffset = offset;
+				bestAngle = i;
+			}
+			//remember the first angle pair the target lies between
+			if(Double.isNaN(lower)&&previousOffset*offset <= 0)
+			{
+				lower = previousAngle;
+				upper = i;
+				lowerOffset = previousOffset;
+			}
+			previousAngle = i;
+			previousOffset = offset;
+		}
+
+		if(Double.isNaN(lower))
+			return bestAngle;
+
+		//bisect, until the precision is reached
+		while(upper-lower > anglePrecision)
+		{
+			double mid = (lower+upper)/2;
+			double offset = simulateBallisticDistance(mid, height, force, gravity, drag)-distance;
+			if(offset*lowerOffset > 0)
+			{
+				lower = mid;
+				lowerOffset = offset;
+			}
+			else
+				upper = mid;
+		}
+		return (lower+upper)/2;
+	}
 
 	/**
 	 * Pitch calculation for artillery stolen from Pneumaticcraft. Huge thanks to desht and MineMaarten for this amazing code!
-	 * <a href="https://github.com/TeamPneumatic/pnc-repressurized/blob/master/src/main/java/me/desht/pneumaticcraft/common/tileentity/TileEntityAirCannon.java">https://github.com/TeamPneumatic/pnc-repressurized/blob/master/src/main/java/me/desht/pneumaticcraft/common/tileentity/TileEntityAirCannon.java</a>
+	 * <a href="https://github.com/TeamPneumatic/pnc-repressurized/blob/master/src/main/java/me/desht/pneumaticcraft/common/tileentity/TileEntityAirCannon.java">https://github.com/TeamPneumatic/pnc-repressurized/blob/master/src/main/java/me/desht/pneumaticcraft/common/tileentity/TileEntityAirCannon.java</a><br>
+	 * Simulates the trajectory for every angle, used as a reference for {@link #calculateBallisticAngle(double, double, float, double, double, double)}.
 	 *
 	 * @param distance       distance to target
 	 * @param height         height difference between the gun and target
@@ -146,7 +226,7 @@ public class IIAmmoUtils
 	 * @author desht
 	 * @author MineMaarten
 	 */
-	public static float calculateBallisticAngle(double distance, double height, float force, double gravity, double drag, double anglePrecision)
+	public static float simulateBallisticAngle(double distance, double height, float force, double gravity, double drag, double anglePrecision)
 	{
 		double bestAngle = 0;
 		double bestDistance = Float.MAX_VALUE;
@@ -158,20 +238,7 @@ public class IIAmmoUtils
 		 */
 		for(double i = Math.PI*anglePrecision; i < Math.PI*0.5D; i += anglePrecision)
 		{
-			double motionX = MathHelper.cos((float)i)*force;// calculate the x component of the vector
-			double motionY = MathHelper.sin((float)i)*force;// calculate the y component of the vector
-			double posX = 0;
-			double posY = 0;
-			while(posY > height||motionY > 0)
-			{
-				// simulate movement, until we reach the y-level required
-				motionX *= drag;
-				motionY *= drag;
-				motionY -= gravity;
-				posX += motionX;
-				posY += motionY;
-			}
-			double distanceToTarget = Math.abs(distance-posX);
+			double distanceToTarget = Math.abs(distance-simulateBallisticDistance(i, height, force, gravity, drag));
 			if(distanceToTarget < bestDistance)
 			{
 				bestDistance = distanceToTarget;
@@ -182,46 +249,30 @@ public class IIAmmoUtils
 		return 90F-(float)(bestAngle*180D/Math.PI);
 	}
 
-	//TODO: 15.02.2024 check out optimized version
-	/*
-	//Optimized version
-	public static float calculateBallisticAngle(double distance, double height, float force, double gravity, double drag, double anglePrecision) {
-    double lowerBound = Math.PI * anglePrecision;
-    double upperBound = Math.PI * 0.5D;
-    double bestAngle = 0;
-    double bestDistance = Double.MAX_VALUE;
-
-    while (Math.abs(upperBound - lowerBound) > anglePrecision) {
-        double midPoint = (lowerBound + upperBound) / 2;
-        double motionX = MathHelper.cos((float)midPoint) * force;
-        double motionY = MathHelper.sin((float)midPoint) * force;
-        double posX = 0;
-        double posY = 0;
-
-        while (posY > height || motionY > 0) {
-            motionX *= drag;
-            motionY *= drag;
-            motionY -= gravity;
-            posX += motionX;
-            posY += motionY;
-        }
-
-        double distanceToTarget = Math.abs(distance - posX);
-        if (distanceToTarget < bestDistance) {
-            bestDistance = distanceToTarget;
-            bestAngle = midPoint;
-        }
-
-        if (posX < distance) {
-            lowerBound = midPoint;
-        } else {
-            upperBound = midPoint;
-        }
-    }
-
-    return 90F - (float)(bestAngle * 180D / Math.PI);
-}
+	/**
+	 * @return distance travelled by the projectile fired at an angle (in radians), until it descends to the given height, interpolated between ticks
 	 */
+	private static double simulateBallisticDistance(double angle, double height, float force, double gravity, double drag)
+	{
+		double motionX = MathHelper.cos((float)angle)*force;// calculate the x component of the vector
+		double motionY = MathHelper.sin((float)angle)*force;// calculate the y component of the vector
+		double posX = 0, prevX = 0;
+		double posY = 0, prevY = 0;
+		boolean moved = false;
+		while(posY > height||motionY > 0)
+		{
+			// simulate movement, until we reach the y-level required
+			prevX = posX;
+			prevY = posY;
+			moved = true;
+			motionX *= drag;
+			motionY *= drag;
+			motionY -= gravity;
+			posX += motionX;
+			posY += motionY;
+		}
+		return moved&&prevY > height?prevX+(posX-prevX)*(prevY-height)/(prevY-posY): posX;
+	}
 
 	public static float getDirectFireAngle(double initialVelocity, double mass, Vec3d toTarget)
 	{
@@ -1,31 +1,45 @@
 package pl.pabilo8.immersiveintelligence.api.ammo.utils;
 
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import pl.pabilo8.immersiveintelligence.api.ammo.penetration.DamageBlockPos;
 import pl.pabilo8.immersiveintelligence.api.ammo.penetration.IPenetrationHandler;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Graphics;
+import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Weapons;
+import pl.pabilo8.immersiveintelligence.common.IISaveData;
+import pl.pabilo8.immersiveintelligence.common.network.EffectQueue;
 import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
 import pl.pabilo8.immersiveintelligence.common.network.messages.MessageBlockDamageSync;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.Map.Entry;
 
 /**
+ * Stores hitpoints of blocks damaged by projectiles.<br>
+ * Damage is kept per dimension, in maps keyed with {@link BlockPos#toLong()}, limited to {@link Weapons#blockDamageLimit} least recently hit blocks.
+ * Damaged blocks heal over {@link Weapons#blockDamageHealTime} ticks.
+ *
  * @author Pabilo8
  * @ii-approved 0.3.1
+ * @updated 18.10.2026
  * @since 29.03.2024
  */
 public class PenetrationCache
 {
 	/**
-	 * List of blocks that have been damaged by a projectile
+	 * Interval (in ticks) between healing damaged blocks
 	 */
-	public static ArrayList<DamageBlockPos> blockDamage = new ArrayList<>();
+	private static final int HEAL_INTERVAL = 20;
+
+	/**
+	 * Blocks that have been damaged by a projectile, per dimension
+	 */
+	private static final HashMap<Integer, DimensionBlockDamage> blockDamage = new HashMap<>();
 	/**
-	 * Client side version of {@link #blockDamage}
+	 * Client side version of {@link #blockDamage}, damage is the fraction of remaining hitpoints
 	 */
 	public static ArrayList<DamageBlockPos> blockDamageClient = new ArrayList<DamageBlockPos>()
 	{
@@ -41,15 +55,14 @@ public class PenetrationCache
 	public static float getBlockHitpoints(IPenetrationHandler pen, BlockPos pos, World world)
 	{
 		float hp = pen.getIntegrity()/pen.getThickness();
-		DamageBlockPos blockHitPos = new DamageBlockPos(pos, world, pen.getIntegrity());
+		DimensionBlockDamage damage = blockDamage.get(world.provider.getDimension());
+		BlockDamage blockHit = damage==null?null: damage.get(pos.toLong());
 
-		for(DamageBlockPos damageBlockPos : blockDamage)
+		if(blockHit!=null)
 		{
-			if(damageBlockPos.equals(blockHitPos))
-				return damageBlockPos.damage;
+			blockHit.maxHp = hp;
+			return blockHit.hp;
 		}
-
-		blockDamage.add(new DamageBlockPos(blockHitPos, hp));
 		return hp;
 	}
 
@@ -60,27 +73,198 @@ public class PenetrationCache
 		if(!IIAmmoUtils.ammoBreaksBlocks||!pen.canBeDamaged())
 			return;
 
-		DamageBlockPos dimensionBlockPos = new DamageBlockPos(pos, world, pen.getIntegrity());
+		int dimension = world.provider.getDimension();
+		DamageBlockPos dimensionBlockPos = new DamageBlockPos(pos, dimension, 0);
+		float maxHp = pen.getIntegrity()/pen.getThickness();
 		float newHp = getBlockHitpoints(pen, pos, world)-(bulletDamage*pen.getThickness());
 		if(newHp > 0)
 		{
-			List<DamageBlockPos> list = blockDamage.stream().filter(damageBlockPos -> damageBlockPos.equals(dimensionBlockPos)).collect(Collectors.toList());
-			if(!list.isEmpty())
-				list.forEach(damageBlockPos -> damageBlockPos.damage = newHp);
-			else
-				blockDamage.add(new DamageBlockPos(dimensionBlockPos, newHp));
-
-			IIPacketHandler.sendToClient(dimensionBlockPos, world,
-					new MessageBlockDamageSync(new DamageBlockPos(dimensionBlockPos, newHp/(pen.getIntegrity()/pen.getThickness())), direction));
+			blockDamage.computeIfAbsent(dimension, d -> new DimensionBlockDamage())
+					.setHitpoints(pos.toLong(), newHp, maxHp);
+
+			EffectQueue.queue(world, new Vec3d(dimensionBlockPos), IIPacketHandler.DEFAULT_RANGE,
+					new MessageBlockDamageSync(new DamageBlockPos(dimensionBlockPos, newHp/maxHp), direction));
 		}
-		else if(newHp <= 0)
+		else
 		{
-			blockDamage.removeIf(damageBlockPos -> damageBlockPos.equals(dimensionBlockPos));
+			removeBlockDamage(dimension, pos);
 			world.getBlockState(pos).getBlock().breakBlock(world, pos, world.getBlockState(pos));
 			world.destroyBlock(dimensionBlockPos, false);
 
-			IIPacketHandler.sendToClient(dimensionBlockPos, world,
-					new MessageBlockDamageSync(new DamageBlockPos(dimensionBlockPos, newHp/(pen.getIntegrity()/pen.getThickness())), direction));
+			EffectQueue.queue(world, new Vec3d(dimensionBlockPos), IIPacketHandler.DEFAULT_RANGE,
+					new MessageBlockDamageSync(new DamageBlockPos(dimensionBlockPos, newHp/maxHp), direction));
+		}
+		IISaveData.setDirty(dimension);
+	}
+
+	/**
+	 * @param dimension dimension of the block
+	 * @param pos       position of the block
+	 * @return the removed block damage, null if the block wasn't damaged
+	 */
+	@Nullable
+	public static DamageBlockPos removeBlockDamage(int dimension, BlockPos pos)
+	{
+		DimensionBlockDamage damage = blockDamage.get(dimension);
+		BlockDamage removed = damage==null?null: damage.removeBlock(pos.toLong());
+		return removed==null?null: new DamageBlockPos(pos, dimension, removed.hp);
+	}
+
+	/**
+	 * Heals damaged blocks in a world, should be called every tick.<br>
+	 * Fully healed blocks are removed and synced to clients.
+	 */
+	public static void healBlockDamage(World world)
+	{
+		if(Weapons.blockDamageHealTime <= 0||world.getTotalWorldTime()%HEAL_INTERVAL!=0)
+			return;
+		int dimension = world.provider.getDimension();
+		DimensionBlockDamage damage = blockDamage.get(dimension);
+		if(damage==null||damage.isEmpty())
+			return;
+
+		float healed = HEAL_INTERVAL/(float)Weapons.blockDamageHealTime;
+		Iterator<Entry<Long, BlockDamage>> iterator = damage.entrySet().iterator();
+		while(iterator.hasNext())
+		{
+			Entry<Long, BlockDamage> entry = iterator.next();
+			BlockDamage block = entry.getValue();
+			//Max hitpoints of blocks loaded from older saves are unknown until they're hit again
+			if(block.maxHp <= 0)
+				continue;
+
+			block.hp += block.maxHp*healed;
+			if(block.hp >= block.maxHp)
+			{
+				iterator.remove();
+				damage.removeFromChunk(entry.getKey(), block);
+				DamageBlockPos pos = new DamageBlockPos(BlockPos.fromLong(entry.getKey()), dimension, 0);
+				EffectQueue.queue(world, new Vec3d(pos), IIPacketHandler.DEFAULT_RANGE, new MessageBlockDamageSync(pos));
+			}
+		}
+		IISaveData.setDirty(dimension);
+	}
+
+	/**
+	 * Forgets damage of blocks in an unloaded chunk, if enabled in {@link Weapons#blockDamageChunkUnload}
+	 */
+	public static void onChunkUnload(int dimension, ChunkPos chunk)
+	{
+		if(!Weapons.blockDamageChunkUnload)
+			return;
+		DimensionBlockDamage damage = blockDamage.get(dimension);
+		if(damage!=null)
+			damage.removeChunk(ChunkPos.asLong(chunk.x, chunk.z));
+	}
+
+	public static void clearBlockDamage()
+	{
+		blockDamage.clear();
+		blockDamageClient.clear();
+	}
+
+	/**
+	 * @param data block damage saved by {@link #writeBlockDamage()}, {x, y, z, dimension, hp*16, maxHp*16}, max hp is missing in older saves
+	 */
+	public static void readBlockDamage(int[] data)
+	{
+		if(data.length < 5)
+			return;
+		float hp = data[4]/16f, maxHp = data.length > 5?data[5]/16f: 0;
+
+		blockDamage.computeIfAbsent(data[3], d -> new DimensionBlockDamage())
+				.setHitpoints(new BlockPos(data[0], data[1], data[2]).toLong(), hp, maxHp);
+		if(maxHp > 0)
+			blockDamageClient.add(new DamageBlockPos(data[0], data[1], data[2], data[3], hp/maxHp));
+	}
+
+	/**
+	 * @return all damaged blocks in a format readable by {@link #readBlockDamage(int[])}
+	 */
+	public static List<int[]> writeBlockDamage()
+	{
+		ArrayList<int[]> data = new ArrayList<>();
+		for(Entry<Integer, DimensionBlockDamage> dimension : blockDamage.entrySet())
+			for(Entry<Long, BlockDamage> entry : dimension.getValue().entrySet())
+			{
+				BlockPos pos = BlockPos.fromLong(entry.getKey());
+				BlockDamage block = entry.getValue();
+				data.add(new int[]{pos.getX(), pos.getY(), pos.getZ(), dimension.getKey(), (int)(block.hp*16), (int)(block.maxHp*16)});
+			}
+		return data;
+	}
+
+	/**
+	 * Damaged blocks of a single dimension, in access order, so the least recently hit ones can be evicted.<br>
+	 * Blocks are also grouped by chunk, so they can be dropped when it is unloaded.
+	 */
+	private static class DimensionBlockDamage extends LinkedHashMap<Long, BlockDamage>
+	{
+		private final HashMap<Long, HashSet<Long>> chunks = new HashMap<>();
+
+		public DimensionBlockDamage()
+		{
+			super(64, 0.75f, true);
+		}
+
+		void setHitpoints(long pos, float hp, float maxHp)
+		{
+			BlockDamage block = get(pos);
+			if(block==null)
+			{
+				block = new BlockDamage(pos);
+				put(pos, block);
+				chunks.computeIfAbsent(block.chunk, c -> new HashSet<>()).add(pos);
+			}
+			block.hp = hp;
+			block.maxHp = maxHp;
+		}
+
+		@Nullable
+		BlockDamage removeBlock(long pos)
+		{
+			BlockDamage block = remove(pos);
+			if(block!=null)
+				removeFromChunk(pos, block);
+			return block;
+		}
+
+		void removeChunk(long chunk)
+		{
+			HashSet<Long> positions = chunks.remove(chunk);
+			if(positions!=null)
+				for(Long pos : positions)
+					remove(pos);
+		}
+
+		void removeFromChunk(long pos, BlockDamage block)
+		{
+			HashSet<Long> positions = chunks.get(block.chunk);
+			if(positions!=null&&positions.remove(pos)&&positions.isEmpty())
+				chunks.remove(block.chunk);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Long, BlockDamage> eldest)
+		{
+			if(Weapons.blockDamageLimit > 0&&size() > Weapons.blockDamageLimit)
+			{
+				removeFromChunk(eldest.getKey(), eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+	}
+
+	private static class BlockDamage
+	{
+		final long chunk;
+		float hp, maxHp;
+
+		BlockDamage(long pos)
+		{
+			BlockPos blockPos = BlockPos.fromLong(pos);
+			this.chunk = ChunkPos.asLong(blockPos.getX()>>4, blockPos.getZ()>>4);
 		}
 	}
 }
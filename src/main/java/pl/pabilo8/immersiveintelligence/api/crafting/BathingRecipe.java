@@ -15,6 +15,7 @@ import java.util.*;
 /**
  * @author Pabilo8
  * @since 08-08-2019
+ * @updated 18.10.2026
  */
 public class BathingRecipe extends MultiblockRecipe
 {
@@ -25,6 +26,7 @@ public class BathingRecipe extends MultiblockRecipe
 	public final FluidStack fluidInput;
 
 	public static final LinkedList<BathingRecipe> recipeList = new LinkedList<>();
+	private static final RecipeIndex<BathingRecipe> INDEX = RecipeIndex.ofItems(() -> recipeList, recipe -> recipe.itemInput);
 	final int totalProcessTime;
 	final int totalProcessEnergy;
 
@@ -70,12 +72,13 @@ public class BathingRecipe extends MultiblockRecipe
 				it.remove();
 			}
 		}
+		RecipeIndex.invalidateAll();
 		return list;
 	}
 
 	public static BathingRecipe findRecipe(ItemStack item_input, FluidStack fluid_input)
 	{
-		for(BathingRecipe recipe : recipeList)
+		for(BathingRecipe recipe : INDEX.getCandidates(item_input))
 		{
 			if(recipe.itemInput.matchesItemStack(item_input)&&fluid_input.isFluidEqual(recipe.fluidInput)&&fluid_input.amount >= recipe.fluidInput.amount)
 			{
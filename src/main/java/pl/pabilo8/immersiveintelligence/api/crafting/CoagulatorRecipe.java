@@ -17,6 +17,7 @@ import java.util.Map.Entry;
 /**
  * @author Pabilo8
  * @since 08-08-2019
+ * @updated 18.10.2026
  */
 public class CoagulatorRecipe extends MultiblockRecipe
 {
@@ -24,6 +25,7 @@ public class CoagulatorRecipe extends MultiblockRecipe
 	public final ItemStack itemOutput;
 
 	public static LinkedList<CoagulatorRecipe> recipeList = new LinkedList<>();
+	private static final RecipeIndex<CoagulatorRecipe> INDEX = RecipeIndex.ofFluids(() -> recipeList, recipe -> recipe.fluidInput);
 	public static HashMap<ItemStack, Integer> dryingMap = new HashMap<>();
 	int totalProcessTime;
 	int totalProcessEnergy;
@@ -64,12 +66,13 @@ public class CoagulatorRecipe extends MultiblockRecipe
 				it.remove();
 			}
 		}
+		RecipeIndex.invalidateAll();
 		return list;
 	}
 
 	public static CoagulatorRecipe findRecipe(FluidStack fluidInput, FluidStack coagulantInput)
 	{
-		for(CoagulatorRecipe recipe : recipeList)
+		for(CoagulatorRecipe recipe : INDEX.getCandidates(fluidInput))
 		{
 			if(fluidInput.isFluidEqual(recipe.fluidInput)&&fluidInput.amount >= recipe.fluidInput.amount&&
 					coagulantInput.isFluidEqual(recipe.coagulantInput)&&coagulantInput.amount >= recipe.coagulantInput.amount)
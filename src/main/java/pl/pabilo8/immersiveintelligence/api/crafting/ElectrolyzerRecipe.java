@@ -16,6 +16,7 @@ import java.util.stream.Collectors;
 /**
  * @author Pabilo8
  * @since 08-08-2019
+ * @updated 18.10.2026
  */
 public class ElectrolyzerRecipe extends IIMultiblockRecipe
 {
@@ -23,6 +24,7 @@ public class ElectrolyzerRecipe extends IIMultiblockRecipe
 	public final FluidStack[] fluidOutputs;
 
 	public static ArrayList<ElectrolyzerRecipe> recipeList = new ArrayList<>();
+	private static final RecipeIndex<ElectrolyzerRecipe> INDEX = RecipeIndex.ofFluids(() -> recipeList, recipe -> recipe.fluidInput);
 	public int energyPerTick;
 
 	public ElectrolyzerRecipe(FluidStack fluidInput, FluidStack fluidOutput1, @Nullable FluidStack fluidOutput2, int energy, int time)
@@ -61,13 +63,14 @@ public class ElectrolyzerRecipe extends IIMultiblockRecipe
 				.filter(r -> r.fluidInput.isFluidEqual(fluidInput))
 				.collect(Collectors.toList());
 		recipeList.removeAll(recipes);
+		RecipeIndex.invalidateAll();
 
 		return recipes;
 	}
 
 	public static ElectrolyzerRecipe findRecipe(FluidStack fluidInput)
 	{
-		for(ElectrolyzerRecipe recipe : recipeList)
+		for(ElectrolyzerRecipe recipe : INDEX.getCandidates(fluidInput))
 			if(recipe.fluidInput.getFluid()==fluidInput.getFluid()&&fluidInput.amount >= recipe.fluidInput.amount)
 				return recipe;
 		return null;
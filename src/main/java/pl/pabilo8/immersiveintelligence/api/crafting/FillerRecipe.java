@@ -21,6 +21,7 @@ import java.util.List;
 /**
  * @author Pabilo8
  * @since 14-04-2020
+ * @updated 18.10.2026
  */
 public class FillerRecipe extends IIMultiblockRecipe
 {
@@ -28,6 +29,7 @@ public class FillerRecipe extends IIMultiblockRecipe
 	public final ItemStack itemOutput;
 
 	public static ArrayList<FillerRecipe> recipeList = new ArrayList<>();
+	private static final RecipeIndex<FillerRecipe> INDEX = RecipeIndex.ofItems(() -> recipeList, recipe -> recipe.itemInput);
 	public DustStack dust;
 	//for bullets only
 	IAmmoTypeItem bullet = null;
@@ -77,6 +79,7 @@ public class FillerRecipe extends IIMultiblockRecipe
 				it.remove();
 			}
 		}
+		RecipeIndex.invalidateAll();
 		return list;
 	}
 
@@ -90,7 +93,7 @@ public class FillerRecipe extends IIMultiblockRecipe
 
 	public static FillerRecipe findRecipe(ItemStack item_input, DustStack stack)
 	{
-		for(FillerRecipe recipe : recipeList)
+		for(FillerRecipe recipe : INDEX.getCandidates(item_input))
 			if(recipe.itemInput.matches(item_input)&&recipe.dust.canMergeWith(stack)&&recipe.dust.amount <= stack.amount)
 				return recipe;
 		return null;
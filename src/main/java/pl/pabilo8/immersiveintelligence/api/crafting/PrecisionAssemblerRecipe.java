@@ -19,6 +19,7 @@ import java.util.*;
 /**
  * @author Pabilo8
  * @since 08-08-2019
+ * @updated 18.10.2026
  */
 public class PrecisionAssemblerRecipe extends MultiblockRecipe
 {
@@ -92,6 +93,7 @@ public class PrecisionAssemblerRecipe extends MultiblockRecipe
 				it.remove();
 			}
 		}
+		RecipeIndex.invalidateAll();
 		return list;
 	}
 
@@ -100,64 +102,25 @@ public class PrecisionAssemblerRecipe extends MultiblockRecipe
 		if(!(scheme.getItem() instanceof ItemIIAssemblyScheme))
 			return null;
 
-		for(PrecisionAssemblerRecipe recipe : recipeList)
-		{
-			if(!Objects.equals(IIContent.itemAssemblyScheme.getRecipeForStack(scheme), recipe))
-				continue;
-
-			//Whether it should be accepted or not.
-			boolean jawohl = true;
-
-			if(recipe.inputs.length > item_input.length)
-				continue;
-
-			for(int i = 0; i < recipe.inputs.length; i += 1)
-			{
-				if(!recipe.inputs[i].matches(item_input[i]))
-				{
-					jawohl = false;
-					break;
-				}
-			}
-
-
-			if(jawohl)
-				if(tools.length < recipe.tools.length)
-					continue;
-
-
-			if(jawohl)
-			{
-				ArrayList<String> neededTools = new ArrayList<>(Arrays.asList(recipe.tools));
-
-				ArrayList<String> availableTools = new ArrayList<>();
-				for(ItemStack toolstack : tools)
-				{
-					if(!toolstack.isEmpty()&&toolstack.getItem() instanceof IPrecisionTool)
-						availableTools.add(((IPrecisionTool)toolstack.getItem()).getPrecisionToolType(toolstack));
-				}
+		//The scheme decides the recipe, there's no need to check the others
+		PrecisionAssemblerRecipe recipe = IIContent.itemAssemblyScheme.getRecipeForStack(scheme);
+		if(recipe==null||recipe.inputs.length > item_input.length||tools.length < recipe.tools.length)
+			return null;
 
-				for(String tool : neededTools)
-				{
-					if(!jawohl)
-						break;
-
-					if(availableTools.contains(tool))
-					{
-						availableTools.remove(tool);
-					}
-					else
-						jawohl = false;
-				}
+		for(int i = 0; i < recipe.inputs.length; i += 1)
+			if(!recipe.inputs[i].matches(item_input[i]))
+				return null;
 
+		ArrayList<String> availableTools = new ArrayList<>();
+		for(ItemStack toolstack : tools)
+			if(!toolstack.isEmpty()&&toolstack.getItem() instanceof IPrecisionTool)
+				availableTools.add(((IPrecisionTool)toolstack.getItem()).getPrecisionToolType(toolstack));
 
-			}
+		for(String tool : recipe.tools)
+			if(!availableTools.remove(tool))
+				return null;
 
-			//Whether ze recipe ist richtig.
-			if(jawohl)
-				return recipe;
-		}
-		return null;
+		return recipe;
 	}
 
 	public static List<PrecisionAssemblerRecipe> findIncompleteBathingRecipe(ItemStack[] item_input, ItemStack scheme)
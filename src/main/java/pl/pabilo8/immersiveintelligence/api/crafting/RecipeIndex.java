@@ -0,0 +1,195 @@
+package pl.pabilo8.immersiveintelligence.api.crafting;
+
+import blusunrize.immersiveengineering.api.crafting.IngredientStack;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Index of machine recipes by the item, ore dictionary name or fluid of their input.<br>
+ * Returns the recipes that could match an input, in the order they were registered in, so only these have to be checked.
+ * The index is rebuilt on the next lookup after {@link #invalidateAll()} is called or the size of the recipe list changes.
+ *
+ * @param <R> recipe type
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class RecipeIndex<R>
+{
+	private static final ArrayList<RecipeIndex<?>> INDEXES = new ArrayList<>();
+	/**
+	 * Incremented each time recipes are changed, see {@link RecipeMissCache}
+	 */
+	private static int generation = 0;
+
+	private final Supplier<? extends Collection<R>> recipes;
+	@Nullable
+	private final Function<R, IngredientStack> itemKey;
+	@Nullable
+	private final Function<R, FluidStack> fluidKey;
+
+	private boolean valid = false;
+	private int builtSize = 0;
+	private ArrayList<R> indexed = new ArrayList<>();
+	private final HashMap<Item, IntArrayList> byItem = new HashMap<>();
+	private final HashMap<Integer, IntArrayList> byOre = new HashMap<>();
+	private final HashMap<Fluid, IntArrayList> byFluid = new HashMap<>();
+	/**
+	 * Recipes which can't be indexed, i.e. ones with fluid container inputs, always returned as candidates
+	 */
+	private final IntArrayList unindexed = new IntArrayList();
+
+	private RecipeIndex(Supplier<? extends Collection<R>> recipes, @Nullable Function<R, IngredientStack> itemKey, @Nullable Function<R, FluidStack> fluidKey)
+	{
+		this.recipes = recipes;
+		this.itemKey = itemKey;
+		this.fluidKey = fluidKey;
+		INDEXES.add(this);
+	}
+
+	/**
+	 * @param recipes recipe list getter
+	 * @param itemKey item input of a recipe
+	 * @return an index of recipes by their item input
+	 */
+	public static <R> RecipeIndex<R> ofItems(Supplier<? extends Collection<R>> recipes, Function<R, IngredientStack> itemKey)
+	{
+		return new RecipeIndex<>(recipes, itemKey, null);
+	}
+
+	/**
+	 * @param recipes  recipe list getter
+	 * @param fluidKey fluid input of a recipe
+	 * @return an index of recipes by their fluid input
+	 */
+	public static <R> RecipeIndex<R> ofFluids(Supplier<? extends Collection<R>> recipes, Function<R, FluidStack> fluidKey)
+	{
+		return new RecipeIndex<>(recipes, null, fluidKey);
+	}
+
+	/**
+	 * Marks all indexes as outdated, should be called when recipes are added or removed
+	 */
+	public static void invalidateAll()
+	{
+		generation++;
+		for(RecipeIndex<?> index : INDEXES)
+			index.valid = false;
+	}
+
+	/**
+	 * @return number of times recipes were changed
+	 */
+	public static int getGeneration()
+	{
+		return generation;
+	}
+
+	/**
+	 * @param stack item input
+	 * @return recipes with an item input possibly matching the stack
+	 */
+	public List<R> getCandidates(ItemStack stack)
+	{
+		build();
+		BitSet found = new BitSet(indexed.size());
+		add(found, unindexed);
+		add(found, byItem.get(stack.getItem()));
+		if(!stack.isEmpty())
+			for(int ore : OreDictionary.getOreIDs(stack))
+				add(found, byOre.get(ore));
+		return collect(found);
+	}
+
+	/**
+	 * @param fluid fluid input
+	 * @return recipes with a fluid input possibly matching the fluid
+	 */
+	public List<R> getCandidates(@Nullable FluidStack fluid)
+	{
+		build();
+		BitSet found = new BitSet(indexed.size());
+		add(found, unindexed);
+		if(fluid!=null)
+			add(found, byFluid.get(fluid.getFluid()));
+		return collect(found);
+	}
+
+	private void build()
+	{
+		Collection<R> current = recipes.get();
+		if(valid&&builtSize==current.size())
+			return;
+
+		//Recipe lists could be changed directly
+		if(valid)
+			generation++;
+
+		indexed = new ArrayList<>(current);
+		builtSize = indexed.size();
+		byItem.clear();
+		byOre.clear();
+		byFluid.clear();
+		unindexed.clear();
+
+		for(int i = 0; i < indexed.size(); i++)
+		{
+			R recipe = indexed.get(i);
+			if(itemKey!=null)
+				indexItem(i, itemKey.apply(recipe));
+			else if(fluidKey!=null)
+			{
+				FluidStack fluid = fluidKey.apply(recipe);
+				if(fluid==null)
+					unindexed.add(i);
+				else
+					byFluid.computeIfAbsent(fluid.getFluid(), f -> new IntArrayList()).add(i);
+			}
+		}
+		valid = true;
+	}
+
+	private void indexItem(int i, @Nullable IngredientStack ingredient)
+	{
+		if(ingredient==null||ingredient.fluid!=null)
+			unindexed.add(i);
+		else if(ingredient.oreName!=null)
+			byOre.computeIfAbsent(OreDictionary.getOreID(ingredient.oreName), o -> new IntArrayList()).add(i);
+		else if(ingredient.stackList!=null)
+		{
+			//The same item can be listed multiple times with different metadata
+			HashSet<Item> items = new HashSet<>();
+			for(ItemStack stack : ingredient.stackList)
+				items.add(stack.getItem());
+			for(Item item : items)
+				byItem.computeIfAbsent(item, it -> new IntArrayList()).add(i);
+		}
+		else
+			byItem.computeIfAbsent(ingredient.stack.getItem(), it -> new IntArrayList()).add(i);
+	}
+
+	private static void add(BitSet found, @Nullable IntArrayList recipes)
+	{
+		if(recipes!=null)
+			for(int i = 0; i < recipes.size(); i++)
+				found.set(recipes.getInt(i));
+	}
+
+	private List<R> collect(BitSet found)
+	{
+		if(found.isEmpty())
+			return Collections.emptyList();
+		ArrayList<R> candidates = new ArrayList<>(found.cardinality());
+		for(int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i+1))
+			candidates.add(indexed.get(i));
+		return candidates;
+	}
+}
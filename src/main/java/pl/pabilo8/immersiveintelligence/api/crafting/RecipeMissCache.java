@@ -0,0 +1,71 @@
+package pl.pabilo8.immersiveintelligence.api.crafting;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.Objects;
+
+/**
+ * Remembers the last inputs no recipe was found for, so a machine doesn't search for recipes again until its inputs change.<br>
+ * Forgotten when recipes are changed, see {@link RecipeIndex#invalidateAll()}.
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class RecipeMissCache
+{
+	private Object[] inputs = null;
+	private int generation = -1;
+
+	/**
+	 * @param inputs current inputs of the machine ({@link ItemStack}s, {@link FluidStack}s or other comparable objects)
+	 * @return whether no recipe was found for exactly the same inputs
+	 */
+	public boolean isKnownMiss(Object... inputs)
+	{
+		if(this.inputs==null||generation!=RecipeIndex.getGeneration()||this.inputs.length!=inputs.length)
+			return false;
+		for(int i = 0; i < inputs.length; i++)
+			if(!isEqual(this.inputs[i], inputs[i]))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Remembers inputs no recipe was found for
+	 *
+	 * @param inputs current inputs of the machine
+	 */
+	public void setMiss(Object... inputs)
+	{
+		this.inputs = new Object[inputs.length];
+		for(int i = 0; i < inputs.length; i++)
+			this.inputs[i] = copy(inputs[i]);
+		this.generation = RecipeIndex.getGeneration();
+	}
+
+	public void clear()
+	{
+		this.inputs = null;
+	}
+
+	private static Object copy(Object input)
+	{
+		if(input instanceof ItemStack)
+			return ((ItemStack)input).copy();
+		if(input instanceof FluidStack)
+			return ((FluidStack)input).copy();
+		if(input instanceof DustStack)
+			return ((DustStack)input).copy();
+		return input;
+	}
+
+	private static boolean isEqual(Object cached, Object input)
+	{
+		if(cached instanceof ItemStack&&input instanceof ItemStack)
+			return ItemStack.areItemStacksEqual((ItemStack)cached, (ItemStack)input);
+		if(cached instanceof FluidStack&&input instanceof FluidStack)
+			return ((FluidStack)cached).isFluidStackIdentical((FluidStack)input);
+		return Objects.equals(cached, input);
+	}
+}
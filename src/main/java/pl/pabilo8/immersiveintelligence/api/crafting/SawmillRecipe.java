@@ -23,12 +23,14 @@ import java.util.List;
 /**
  * @author Pabilo8
  * @since 14-04-2020
+ * @updated 18.10.2026
  */
 
 //Recipe for Sawmill planks is handled in IIRecipes
 public class SawmillRecipe extends MultiblockRecipe implements IIIMultiblockRecipe
 {
 	public static ArrayList<SawmillRecipe> RECIPES = new ArrayList<>();
+	private static final RecipeIndex<SawmillRecipe> INDEX = RecipeIndex.ofItems(() -> RECIPES, recipe -> recipe.itemInput);
 	//REFACTOR: 12.09.2024 convert to hex
 	private static final IIColor DEFAULT_COLOR = IIColor.fromFloatRGB(0.22392157f, 0.21372549019607842f, 0.15176470588235294f);
 
@@ -120,12 +122,13 @@ public class SawmillRecipe extends MultiblockRecipe implements IIIMultiblockReci
 				it.remove();
 			}
 		}
+		RecipeIndex.invalidateAll();
 		return list;
 	}
 
 	public static SawmillRecipe findRecipe(ItemStack item_input)
 	{
-		for(SawmillRecipe recipe : RECIPES)
+		for(SawmillRecipe recipe : INDEX.getCandidates(item_input))
 		{
 			if(recipe.itemInput.matchesItemStackIgnoringSize(item_input))
 			{
@@ -142,7 +145,7 @@ public class SawmillRecipe extends MultiblockRecipe implements IIIMultiblockReci
 
 	public static boolean isValidRecipeInput(ItemStack stack)
 	{
-		for(SawmillRecipe recipe : RECIPES)
+		for(SawmillRecipe recipe : INDEX.getCandidates(stack))
 			if(recipe.itemInput.matchesItemStack(stack))
 				return true;
 		return false;
@@ -123,6 +123,7 @@ public class VulcanizerRecipe extends MultiblockRecipe
 				}
 			}
 		}
+		RecipeIndex.invalidateAll();
 		return list;
 	}
 
@@ -2,35 +2,136 @@ package pl.pabilo8.immersiveintelligence.api.data;
 
 import net.minecraft.item.EnumDyeColor;
 import net.minecraft.nbt.NBTTagCompound;
-import org.apache.commons.lang3.ArrayUtils;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeAccessor;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeNull;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType.IGenericDataType;
+import pl.pabilo8.immersiveintelligence.api.data.types.generic.NumericDataType;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.*;
 
 /**
- * A container for 36 {@link DataType Data Variables} used to exchange information between {@link pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice Data Devices}, central component of the data system.
+ * A container for 36 {@link DataType Data Variables} used to exchange information between {@link pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice Data Devices}, central component of the data system.<br>
+ * Variables are stored in a fixed array of slots, indexed by the position of their name in {@link #varCharacters}.
  *
  * @author Pabilo8
- * @updated 28.10.2024
+ * @updated 18.10.2026
  * @ii-approved 0.3.1
  * @since 2019-05-31
  */
 public class DataPacket implements Iterable<DataType>
 {
-	public Map<Character, DataType> variables = new HashMap<>();
+	public static final char[] varCharacters = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0'};
+	/**
+	 * Amount of variable slots in a packet
+	 */
+	public static final int SLOTS = varCharacters.length;
+	/**
+	 * Slot index for each character, -1 if the character is not a variable name
+	 */
+	private static final byte[] SLOT_BY_CHAR = new byte[128];
+	/**
+	 * Variable names as NBT keys, indexed by slot
+	 */
+	private static final String[] SLOT_KEYS = new String[SLOTS];
+
+	static
+	{
+		Arrays.fill(SLOT_BY_CHAR, (byte)-1);
+		for(int i = 0; i < SLOTS; i++)
+		{
+			SLOT_BY_CHAR[varCharacters[i]] = (byte)i;
+			SLOT_KEYS[i] = String.valueOf(varCharacters[i]);
+		}
+	}
+
+	/**
+	 * Map view of the variables, kept for compatibility.<br>
+	 * Prefer using the methods of this class directly, as they don't box characters.
+	 */
+	public final Map<Character, DataType> variables = new VariableMap();
+
+	private DataType[] slots = new DataType[SLOTS];
+	/**
+	 * Bitmask of occupied slots
+	 */
+	private long usedSlots = 0;
 	private EnumDyeColor packetColor = EnumDyeColor.WHITE;
 	private int packetAddress = -1;
+	/**
+	 * Whether {@link #slots} are shared with another packet, see {@link #clone()}.<br>
+	 * Set on both the original and the clone, the first one to write copies the variables for itself.
+	 */
+	private boolean copyOnWrite = false;
 
-	public static final char[] varCharacters = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0'};
+	//--- Slots ---//
+
+	/**
+	 * @param c variable name
+	 * @return slot index of the variable, -1 if the character is not a valid variable name
+	 */
+	public static int getSlot(char c)
+	{
+		return c < SLOT_BY_CHAR.length?SLOT_BY_CHAR[c]: -1;
+	}
+
+	/**
+	 * @param slot slot index
+	 * @return variable name at the slot
+	 */
+	public static char getVariableName(int slot)
+	{
+		return varCharacters[slot];
+	}
+
+	/**
+	 * @return bitmask of occupied slots, bit N is set if slot N holds a variable
+	 */
+	public long getUsedSlots()
+	{
+		return usedSlots;
+	}
+
+	/**
+	 * Gets a variable by its slot index, without resolving accessors or expressions.
+	 *
+	 * @param slot slot index
+	 * @return variable in the slot or null if the slot is empty
+	 */
+	@Nullable
+	public DataType getSlotVariable(int slot)
+	{
+		DataType type = slots[slot];
+		//Mutable variables can be modified in place by the caller (i.e. array operations), so they can't be shared
+		if(copyOnWrite&&type!=null&&!type.isImmutable())
+		{
+			detachVariables();
+			return slots[slot];
+		}
+		return type;
+	}
+
+	/**
+	 * Sets a variable by its slot index
+	 *
+	 * @param slot slot index
+	 * @param type variable, null to clear the slot
+	 */
+	public void setSlotVariable(int slot, @Nullable DataType type)
+	{
+		detachVariables();
+		slots[slot] = type;
+		if(type==null)
+			usedSlots &= ~(1L<<slot);
+		else
+			usedSlots |= 1L<<slot;
+	}
+
+	//--- Variable Types ---//
 
 	/**
 	 * @param preferred type, can be {@link DataType} for *any* type and an interface annotated with {@link IGenericDataType} a generic/bridging type
@@ -49,19 +150,20 @@ public class DataPacket implements Iterable<DataType>
 
 			if(preferred.isInstance(type))
 				return (T)type;
-			else if(!preferred.isAnnotationPresent(IGenericDataType.class))
+		}
+
+		//Registered types are created using their supplier, reflection is only used for unregistered ones
+		DataType instance = IIDataTypeUtils.getVarInstance(preferred);
+		if(!preferred.isInstance(instance)&&!preferred.isAnnotationPresent(IGenericDataType.class))
+		{
+			try
+			{
+				return preferred.newInstance();
+			} catch(InstantiationException|IllegalAccessException ignored)
 			{
-				try
-				{
-					DataType p = preferred.newInstance();
-					return preferred.cast(p);
-				} catch(InstantiationException|IllegalAccessException ignored)
-				{
-				}
 			}
 		}
-
-		return (T)IIDataTypeUtils.getVarInstance(preferred);
+		return (T)instance;
 	}
 
 	public DataType evaluateVariable(@Nullable DataType actual, boolean allowExpressions)
@@ -74,37 +176,91 @@ public class DataPacket implements Iterable<DataType>
 			return actual;
 	}
 
+	//--- Primitive Access ---//
+
+	/**
+	 * Gets a numeric variable as an int, without creating wrapper objects for numeric variables.<br>
+	 * Accessors and expressions are resolved.
+	 *
+	 * @param name variable name
+	 * @return value of the variable, 0 if it's missing or not numeric
+	 */
+	public int getInt(char name)
+	{
+		DataType type = resolveSlot(getSlot(name));
+		return type instanceof NumericDataType?((NumericDataType)type).intValue(): 0;
+	}
+
+	/**
+	 * Gets a numeric variable as a float, without creating wrapper objects for numeric variables.<br>
+	 * Accessors and expressions are resolved.
+	 *
+	 * @param name variable name
+	 * @return value of the variable, 0 if it's missing or not numeric
+	 */
+	public float getFloat(char name)
+	{
+		DataType type = resolveSlot(getSlot(name));
+		return type instanceof NumericDataType?((NumericDataType)type).floatValue(): 0;
+	}
+
+	/**
+	 * Gets a boolean variable, accessors and expressions are resolved.
+	 *
+	 * @param name variable name
+	 * @return value of the variable, false if it's missing or not a boolean
+	 */
+	public boolean getBoolean(char name)
+	{
+		DataType type = resolveSlot(getSlot(name));
+		return type instanceof DataTypeBoolean&&((DataTypeBoolean)type).value;
+	}
+
+	@Nullable
+	private DataType resolveSlot(int slot)
+	{
+		if(slot==-1)
+			return null;
+		DataType type = slots[slot];
+		if(type instanceof DataTypeAccessor||type instanceof DataTypeExpression)
+			return evaluateVariable(type, true);
+		return type;
+	}
+
+	//--- Variables ---//
+
 	public boolean hasAnyVariables()
 	{
-		return variables.size() > 0;
+		return usedSlots!=0;
 	}
 
-	public boolean hasVariable(Character c)
+	public boolean hasVariable(char c)
 	{
-		return variables.containsKey(c);
+		int slot = getSlot(c);
+		return slot!=-1&&(usedSlots&(1L<<slot))!=0;
 	}
 
 	public boolean hasAnyVariables(Character... names)
 	{
 		for(Character c : names)
-			if(!variables.containsKey(c))
+			if(!hasVariable(c))
 				return false;
 		return true;
 	}
 
-	public DataType getPacketVariable(Character name)
+	public DataType getPacketVariable(char name)
 	{
-		if(variables.containsKey(name))
-			return variables.get(name);
-		return new DataTypeNull();
+		int slot = getSlot(name);
+		DataType type = slot==-1?null: getSlotVariable(slot);
+		return type==null?new DataTypeNull(): type;
 	}
 
-	public boolean setVariable(Character c, DataType type)
+	public boolean setVariable(char c, DataType type)
 	{
-		if(ArrayUtils.contains(varCharacters, c))
+		int slot = getSlot(c);
+		if(slot!=-1)
 		{
-			variables.remove(c);
-			variables.put(c, type);
+			setSlotVariable(slot, type);
 			return true;
 		}
 		return false;
@@ -130,33 +286,107 @@ public class DataPacket implements Iterable<DataType>
 
 	public void removeAllVariables()
 	{
-		for(char c : varCharacters)
-			removeVariable(c);
+		//No need to copy the variables only to remove them afterwards
+		if(copyOnWrite)
+		{
+			slots = new DataType[SLOTS];
+			copyOnWrite = false;
+		}
+		else
+			Arrays.fill(slots, null);
+		usedSlots = 0;
 	}
 
 	public void removeVariables(Character... names)
 	{
 		for(Character c : names)
-			if(ArrayUtils.contains(varCharacters, c))
-				variables.remove(c);
+			removeVariable(c);
 	}
 
-	public boolean removeVariable(Character c)
+	public boolean removeVariable(char c)
 	{
-		if(ArrayUtils.contains(varCharacters, c))
+		int slot = getSlot(c);
+		if(slot!=-1)
 		{
-			variables.remove(c);
+			if((usedSlots&(1L<<slot))!=0)
+				setSlotVariable(slot, null);
 			return true;
 		}
 		return false;
 	}
 
+	//--- Iteration ---//
+
+	/**
+	 * Performs an action for each variable in this packet, in slot order.
+	 *
+	 * @param action performed for each variable
+	 */
+	public void forEachVariable(VariableConsumer action)
+	{
+		detachMutableVariables();
+		for(long mask = usedSlots; mask!=0; mask &= mask-1)
+		{
+			int slot = Long.numberOfTrailingZeros(mask);
+			action.accept(varCharacters[slot], slots[slot]);
+		}
+	}
+
+	/**
+	 * Iterates over variables in slot order
+	 */
+	@Override
+	public Iterator<DataType> iterator()
+	{
+		detachMutableVariables();
+		return new Iterator<DataType>()
+		{
+			long remaining = usedSlots;
+
+			@Override
+			public boolean hasNext()
+			{
+				return remaining!=0;
+			}
+
+			@Override
+			public DataType next()
+			{
+				if(remaining==0)
+					throw new NoSuchElementException();
+				int slot = Long.numberOfTrailingZeros(remaining);
+				remaining &= remaining-1;
+				return slots[slot];
+			}
+		};
+	}
+
+	public int size()
+	{
+		return Long.bitCount(usedSlots);
+	}
+
+	public void trimNulls()
+	{
+		for(long mask = usedSlots; mask!=0; mask &= mask-1)
+		{
+			int slot = Long.numberOfTrailingZeros(mask);
+			if(slots[slot] instanceof DataTypeNull)
+				setSlotVariable(slot, null);
+		}
+	}
+
+	//--- Serialization ---//
+
 	public NBTTagCompound toNBT()
 	{
 		NBTTagCompound nbt = new NBTTagCompound();
 
-		for(Map.Entry<Character, DataType> entry : variables.entrySet())
-			nbt.setTag(String.valueOf(entry.getKey()), entry.getValue().valueToNBT());
+		for(long mask = usedSlots; mask!=0; mask &= mask-1)
+		{
+			int slot = Long.numberOfTrailingZeros(mask);
+			nbt.setTag(SLOT_KEYS[slot], slots[slot].valueToNBT());
+		}
 
 		if(packetColor!=EnumDyeColor.WHITE)
 			nbt.setInteger("color", packetColor.getMetadata());
@@ -169,17 +399,18 @@ public class DataPacket implements Iterable<DataType>
 
 	public DataPacket fromNBT(NBTTagCompound nbt)
 	{
-		variables.clear();
-		for(Character c : varCharacters)
-			if(nbt.hasKey(String.valueOf(c)))
+		removeAllVariables();
+		for(int slot = 0; slot < SLOTS; slot++)
+			if(nbt.hasKey(SLOT_KEYS[slot]))
 			{
-				NBTTagCompound n = nbt.getCompoundTag(String.valueOf(c));
-				String type = n.getString("Type");
-				if(IIDataTypeUtils.metaTypesByName.containsKey(type))
+				NBTTagCompound n = nbt.getCompoundTag(SLOT_KEYS[slot]);
+				DataType.TypeMetaInfo<?> meta = IIDataTypeUtils.metaTypesByName.get(n.getString("Type"));
+				if(meta!=null)
 				{
-					DataType data = IIDataTypeUtils.metaTypesByName.get(type).supplier.get();
+					DataType data = meta.supplier.get();
 					data.valueFromNBT(n);
-					variables.put(c, data);
+					slots[slot] = data;
+					usedSlots |= 1L<<slot;
 				}
 			}
 		if(nbt.hasKey("color"))
@@ -189,14 +420,64 @@ public class DataPacket implements Iterable<DataType>
 		return this;
 	}
 
+	//--- Copying ---//
+
+	/**
+	 * Creates a copy-on-write clone of this packet.<br>
+	 * Both packets share their variables until either of them is modified or a mutable variable is accessed,
+	 * so receivers that only read from the packet never pay for a copy.
+	 *
+	 * @return a clone of this packet
+	 * @see DataType#copy()
+	 */
 	@Override
 	public DataPacket clone()
 	{
 		DataPacket packet = new DataPacket();
-		packet.fromNBT(this.toNBT());
+		packet.slots = this.slots;
+		packet.usedSlots = this.usedSlots;
+		packet.packetColor = this.packetColor;
+		packet.packetAddress = this.packetAddress;
+		packet.copyOnWrite = this.copyOnWrite = true;
 		return packet;
 	}
 
+	/**
+	 * Replaces shared variables with structural copies owned by this packet.
+	 */
+	private void detachVariables()
+	{
+		if(!copyOnWrite)
+			return;
+
+		DataType[] copied = new DataType[SLOTS];
+		for(long mask = usedSlots; mask!=0; mask &= mask-1)
+		{
+			int slot = Long.numberOfTrailingZeros(mask);
+			copied[slot] = slots[slot].copy();
+		}
+		slots = copied;
+		copyOnWrite = false;
+	}
+
+	/**
+	 * Detaches the variables only if any of them could be modified in place.
+	 */
+	private void detachMutableVariables()
+	{
+		if(!copyOnWrite)
+			return;
+
+		for(long mask = usedSlots; mask!=0; mask &= mask-1)
+			if(!slots[Long.numberOfTrailingZeros(mask)].isImmutable())
+			{
+				detachVariables();
+				return;
+			}
+	}
+
+	//--- Object ---//
+
 	@Override
 	public String toString()
 	{
@@ -212,32 +493,138 @@ public class DataPacket implements Iterable<DataType>
 		{
 			DataPacket other = (DataPacket)obj;
 
-			if(!variables.keySet().equals(other.variables.keySet()))
+			if(usedSlots!=other.usedSlots)
 				return false;
 			if(!matchesConnector(other.packetColor, other.packetAddress))
 				return false;
-			for(Entry<Character, DataType> entry : variables.entrySet())
-				if(!other.getPacketVariable(entry.getKey()).toString().equals(entry.getValue().toString()))
+			for(long mask = usedSlots; mask!=0; mask &= mask-1)
+			{
+				int slot = Long.numberOfTrailingZeros(mask);
+				if(!other.slots[slot].toString().equals(slots[slot].toString()))
 					return false;
+			}
 
 			return true;
 		}
 		return false;
 	}
 
-	@Override
-	public Iterator<DataType> iterator()
+	/**
+	 * A consumer of variable name and value pairs, avoids boxing the name
+	 */
+	@FunctionalInterface
+	public interface VariableConsumer
 	{
-		return variables.values().iterator();
+		void accept(char name, DataType value);
 	}
 
-	public int size()
+	/**
+	 * {@link Map} view of the packet's slots, used by {@link #variables}
+	 */
+	private class VariableMap extends AbstractMap<Character, DataType>
 	{
-		return variables.size();
-	}
+		@Override
+		public int size()
+		{
+			return DataPacket.this.size();
+		}
 
-	public void trimNulls()
-	{
-		variables.entrySet().removeIf(entry -> entry.getValue() instanceof DataTypeNull);
+		@Override
+		public boolean isEmpty()
+		{
+			return usedSlots==0;
+		}
+
+		@Override
+		public boolean containsKey(Object key)
+		{
+			return key instanceof Character&&hasVariable((Character)key);
+		}
+
+		@Override
+		public DataType get(Object key)
+		{
+			if(!(key instanceof Character))
+				return null;
+			int slot = getSlot((Character)key);
+			return slot==-1?null: getSlotVariable(slot);
+		}
+
+		@Override
+		public DataType put(Character key, DataType value)
+		{
+			int slot = getSlot(key);
+			if(slot==-1)
+				throw new IllegalArgumentException("Invalid variable name: "+key);
+			DataType previous = slots[slot];
+			setSlotVariable(slot, value);
+			return previous;
+		}
+
+		@Override
+		public DataType remove(Object key)
+		{
+			DataType previous = get(key);
+			if(previous!=null)
+				removeVariable((Character)key);
+			return previous;
+		}
+
+		@Override
+		public void clear()
+		{
+			removeAllVariables();
+		}
+
+		@Nonnull
+		@Override
+		public Set<Entry<Character, DataType>> entrySet()
+		{
+			return new AbstractSet<Entry<Character, DataType>>()
+			{
+				@Override
+				public int size()
+				{
+					return DataPacket.this.size();
+				}
+
+				@Nonnull
+				@Override
+				public Iterator<Entry<Character, DataType>> iterator()
+				{
+					detachMutableVariables();
+					return new Iterator<Entry<Character, DataType>>()
+					{
+						long remaining = usedSlots;
+						int lastSlot = -1;
+
+						@Override
+						public boolean hasNext()
+						{
+							return remaining!=0;
+						}
+
+						@Override
+						public Entry<Character, DataType> next()
+						{
+							if(remaining==0)
+								throw new NoSuchElementException();
+							lastSlot = Long.numberOfTrailingZeros(remaining);
+							remaining &= remaining-1;
+							return new SimpleImmutableEntry<>(varCharacters[lastSlot], slots[lastSlot]);
+						}
+
+						@Override
+						public void remove()
+						{
+							if(lastSlot==-1)
+								throw new IllegalStateException();
+							setSlotVariable(lastSlot, null);
+							lastSlot = -1;
+						}
+					};
+				}
+			};
+		}
 	}
 }
@@ -15,7 +15,6 @@ import pl.pabilo8.immersiveintelligence.common.util.ISerializableEnum;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map.Entry;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -38,17 +37,17 @@ public class IIDataHandlingUtils
 
 	public static boolean asBoolean(char variable, DataPacket packet)
 	{
-		return packet.getVarInType(DataTypeBoolean.class, packet.getPacketVariable(variable)).value;
+		return packet.getBoolean(variable);
 	}
 
 	public static int asInt(char variable, DataPacket packet)
 	{
-		return packet.getVarInType(NumericDataType.class, packet.getPacketVariable(variable)).intValue();
+		return packet.getInt(variable);
 	}
 
 	public static float asFloat(char variable, DataPacket packet)
 	{
-		return packet.getVarInType(NumericDataType.class, packet.getPacketVariable(variable)).floatValue();
+		return packet.getFloat(variable);
 	}
 
 	public static String asString(char variable, DataPacket packet)
@@ -153,13 +152,14 @@ public class IIDataHandlingUtils
 	{
 		//Detect any callback strings and give responses to them in a new packet
 		DataPacket sent = new DataPacket();
-		for(Entry<Character, DataType> entry : packet.variables.entrySet())
-			if(entry.getKey()!='c'&&entry.getValue() instanceof DataTypeString)
+		packet.forEachVariable((name, value) -> {
+			if(name!='c'&&value instanceof DataTypeString)
 			{
-				DataType reply = mapper.apply(entry.getValue().toString());
+				DataType reply = mapper.apply(value.toString());
 				if(reply!=null)
-					sent.setVariable(entry.getKey(), reply);
+					sent.setVariable(name, reply);
 			}
+		});
 
 		//If there are no callback variables, return null
 		return sent.hasAnyVariables()?sent: null;
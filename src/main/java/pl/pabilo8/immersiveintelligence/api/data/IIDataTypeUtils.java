@@ -107,10 +107,11 @@ public class IIDataTypeUtils
 	@Nonnull
 	public static DataType getVarInstance(Class<? extends DataType> type)
 	{
-		if(type.isAnnotationPresent(IGenericDataType.class))
-			type = type.getAnnotation(IGenericDataType.class).defaultType();
-
+		//Registered generic types are mapped to their default type's meta, no need to check the annotation
 		TypeMetaInfo<?> meta = metaTypesByClass.get(type);
+		if(meta==null&&type.isAnnotationPresent(IGenericDataType.class))
+			meta = metaTypesByClass.get(type.getAnnotation(IGenericDataType.class).defaultType());
+
 		return meta==null?new DataTypeNull(): meta.supplier.get();
 	}
 }
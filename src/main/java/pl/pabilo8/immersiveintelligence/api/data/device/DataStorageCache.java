@@ -0,0 +1,88 @@
+package pl.pabilo8.immersiveintelligence.api.data.device;
+
+import blusunrize.immersiveengineering.common.util.ItemNBTHelper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.Constants.NBT;
+import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
+
+/**
+ * Caches packets decoded from the NBT of {@link IDataStorageItem}s, so repeated reads of the same item don't parse its data again.<br>
+ * Entries are weakly keyed by the identity of the data tag and are removed when the item's data is written.
+ * Decoded packets are never modified, callers receive copy-on-write clones of them.
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class DataStorageCache
+{
+	/**
+	 * Max number of decoded packets stored
+	 */
+	public static final int MAX_SIZE = 256;
+
+	private static final Cache<NBTTagCompound, DataPacket> CACHE = CacheBuilder.newBuilder()
+			.weakKeys()
+			.maximumSize(MAX_SIZE)
+			.recordStats()
+			.build();
+
+	/**
+	 * @param stack data storage item
+	 * @param key   key of the data tag
+	 * @return a clone of the decoded packet, safe to be modified
+	 */
+	public static DataPacket getStoredData(ItemStack stack, String key)
+	{
+		NBTTagCompound tag = stack.getTagCompound();
+		if(tag==null||!tag.hasKey(key, NBT.TAG_COMPOUND))
+			return new DataPacket();
+
+		NBTTagCompound data = tag.getCompoundTag(key);
+		DataPacket decoded = CACHE.getIfPresent(data);
+		if(decoded==null)
+		{
+			decoded = new DataPacket().fromNBT(data);
+			CACHE.put(data, decoded);
+		}
+		return decoded.clone();
+	}
+
+	/**
+	 * Writes a packet to a data storage item, removing its previous data from the cache
+	 *
+	 * @param stack  data storage item
+	 * @param key    key of the data tag
+	 * @param packet packet to be written
+	 */
+	public static void writeStoredData(ItemStack stack, String key, DataPacket packet)
+	{
+		NBTTagCompound tag = stack.getTagCompound();
+		if(tag!=null&&tag.hasKey(key, NBT.TAG_COMPOUND))
+			CACHE.invalidate(tag.getCompoundTag(key));
+		ItemNBTHelper.setTagCompound(stack, key, packet.toNBT());
+	}
+
+	/**
+	 * @return number of reads of an already decoded packet
+	 */
+	public static long getHitCount()
+	{
+		return CACHE.stats().hitCount();
+	}
+
+	/**
+	 * @return number of reads which required decoding a packet
+	 */
+	public static long getMissCount()
+	{
+		return CACHE.stats().missCount();
+	}
+
+	public static void clear()
+	{
+		CACHE.invalidateAll();
+	}
+}
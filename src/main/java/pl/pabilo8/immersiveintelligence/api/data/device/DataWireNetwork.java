@@ -9,18 +9,38 @@ import net.minecraft.world.World;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.common.wire.IIDataWireType;
 
+import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
 import java.util.*;
 
 import static blusunrize.immersiveengineering.api.energy.wires.ImmersiveNetHandler.INSTANCE;
 
 /**
+ * A network of {@link IDataConnector}s connected with data wires.<br>
+ * Connecting two networks relabels the smaller one, disconnecting a wire only searches the part of the network around it.
+ *
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 2019-05-31
  */
 public class DataWireNetwork
 {
 	public List<WeakReference<IDataConnector>> connectors = new ArrayList<>();
+	/**
+	 * Whether this network was created by a full search, see {@link #updateConnectors(BlockPos, World, DataWireNetwork)}.<br>
+	 * Such networks are kept up to date by {@link #connectConnectors(IDataConnector, IImmersiveConnectable)} and {@link #removeConnection(IDataConnector, Connection)},
+	 * so they don't have to be searched again when a connector is loaded.
+	 */
+	private boolean built = false;
+	/**
+	 * Amount of {@link #sendPacket(DataPacket, IDataConnector)} calls in progress, receivers can send packets back through the network
+	 */
+	private int sendDepth = 0;
+	/**
+	 * Ends of the last wire checked by {@link #removeConnection(IDataConnector, Connection)}, both connectors of a wire report its removal
+	 */
+	@Nullable
+	private BlockPos removedStart = null, removedEnd = null;
 
 	public DataWireNetwork add(IDataConnector connector)
 	{
@@ -51,8 +71,17 @@ public class DataWireNetwork
 		}
 	}
 
-	public void removeFromNetwork(IDataConnector removedConnector)
+	/**
+	 * Rebuilds the network by searching it from scratch.<br>
+	 * When called with a null connector (i.e. when a connector is loaded), networks that are already built are left untouched.
+	 *
+	 * @param removedConnector connector that caused the rebuild, null if it's a refresh
+	 */
+	public void removeFromNetwork(@Nullable IDataConnector removedConnector)
 	{
+		if(removedConnector==null&&built)
+			return;
+
 		Iterator<WeakReference<IDataConnector>> iterator = connectors.iterator();
 		Set<DataWireNetwork> knownNets = new HashSet<>();
 		while(iterator.hasNext())
@@ -69,6 +98,140 @@ public class DataWireNetwork
 
 	}
 
+	/**
+	 * Joins networks of two connectors after a wire was connected between them.<br>
+	 * Connectors of the smaller network are moved into the larger one, without searching the wires.
+	 *
+	 * @param connector connector the wire was connected to
+	 * @param other     the other end of the wire
+	 */
+	public static void connectConnectors(IDataConnector connector, IImmersiveConnectable other)
+	{
+		//Relays and other non-data connectables require a search
+		if(!(other instanceof IDataConnector))
+		{
+			updateConnectors(Utils.toCC(connector), connector.getConnectorWorld(), connector.getDataNetwork());
+			return;
+		}
+
+		DataWireNetwork first = connector.getDataNetwork(), second = ((IDataConnector)other).getDataNetwork();
+		first.clearRemovedConnection();
+		second.clearRemovedConnection();
+		if(first==second)
+			return;
+
+		if(first.connectors.size() >= second.connectors.size())
+			first.absorb(second);
+		else
+			second.absorb(first);
+	}
+
+	/**
+	 * Moves all connectors of another network into this one
+	 */
+	private void absorb(DataWireNetwork other)
+	{
+		for(WeakReference<IDataConnector> ref : other.connectors)
+		{
+			IDataConnector conn = ref.get();
+			if(conn!=null)
+			{
+				conn.setDataNetwork(this);
+				connectors.add(ref);
+			}
+		}
+		other.connectors.clear();
+		built |= other.built;
+	}
+
+	/**
+	 * Splits the network after a wire was removed.<br>
+	 * Searches from both ends of the wire at once, if the searches meet, the network is still connected.
+	 * Otherwise, the side which was fully searched first (the smaller one) is moved into a new network.
+	 *
+	 * @param connector  connector the wire was removed from
+	 * @param connection the removed wire, null if all wires were removed
+	 */
+	public void removeConnection(IDataConnector connector, @Nullable Connection connection)
+	{
+		if(connection==null)
+		{
+			removeFromNetwork(connector);
+			return;
+		}
+
+		//The other end of the wire has already checked the network
+		if(isRemovedConnection(connection))
+		{
+			clearRemovedConnection();
+			return;
+		}
+
+		World world = connector.getConnectorWorld();
+		IImmersiveConnectable start = ApiUtils.toIIC(connection.start, world), end = ApiUtils.toIIC(connection.end, world);
+		if(start instanceof IDataConnector&&end instanceof IDataConnector&&((IDataConnector)start).getDataNetwork()!=((IDataConnector)end).getDataNetwork())
+			return;
+		removedStart = connection.start;
+		removedEnd = connection.end;
+
+		int dimension = world.provider.getDimension();
+		SplitSearch fromStart = new SplitSearch(connection.start), fromEnd = new SplitSearch(connection.end);
+
+		while(true)
+		{
+			if(fromStart.step(world, dimension, fromEnd))
+				return;
+			if(fromStart.open.isEmpty())
+			{
+				split(world, fromStart.visited);
+				return;
+			}
+
+			if(fromEnd.step(world, dimension, fromStart))
+				return;
+			if(fromEnd.open.isEmpty())
+			{
+				split(world, fromEnd.visited);
+				return;
+			}
+		}
+	}
+
+	private boolean isRemovedConnection(Connection connection)
+	{
+		return (connection.start.equals(removedStart)&&connection.end.equals(removedEnd))||
+				(connection.start.equals(removedEnd)&&connection.end.equals(removedStart));
+	}
+
+	private void clearRemovedConnection()
+	{
+		removedStart = null;
+		removedEnd = null;
+	}
+
+	/**
+	 * Moves connectors at given positions into a new network
+	 */
+	private void split(World world, Set<BlockPos> positions)
+	{
+		DataWireNetwork newNet = new DataWireNetwork();
+		newNet.built = true;
+		for(BlockPos pos : positions)
+		{
+			IImmersiveConnectable iic = ApiUtils.toIIC(pos, world);
+			if(iic instanceof IDataConnector)
+			{
+				((IDataConnector)iic).setDataNetwork(newNet);
+				newNet.add((IDataConnector)iic);
+			}
+		}
+
+		connectors.removeIf(ref -> {
+			IDataConnector conn = ref.get();
+			return conn==null||conn.getDataNetwork()==newNet;
+		});
+	}
+
 	public static void updateConnectors(BlockPos start, World world, DataWireNetwork network)
 	{
 		int dimension = world.provider.getDimension();
@@ -76,6 +239,8 @@ public class DataWireNetwork
 		open.add(start);
 		Set<BlockPos> closed = new HashSet<>();
 		network.connectors.clear();
+		network.clearRemovedConnection();
+		network.built = true;
 		while(!open.isEmpty())
 		{
 			Iterator<BlockPos> it = open.iterator();
@@ -93,24 +258,76 @@ public class DataWireNetwork
 			if(connsAtBlock!=null&&iic!=null)
 				for(Connection c : connsAtBlock)
 				{
-					if(Objects.equals(c.cableType.getCategory(), IIDataWireType.DATA_CATEGORY)&&
-							iic.allowEnergyToPass(c)&&
-							!closed.contains(c.end))
+					if(isDataConnection(iic, c)&&!closed.contains(c.end))
 						open.add(c.end);
 				}
 		}
 	}
 
+	private static boolean isDataConnection(IImmersiveConnectable iic, Connection c)
+	{
+		return Objects.equals(c.cableType.getCategory(), IIDataWireType.DATA_CATEGORY)&&iic.allowEnergyToPass(c);
+	}
+
 	//Ethernet-like data packet sending
 	public void sendPacket(DataPacket packet, IDataConnector sender)
 	{
-		for(WeakReference<IDataConnector> connectorRef : connectors)
+		sendDepth++;
+		int unloaded = 0;
+		for(int i = 0; i < connectors.size(); i++)
 		{
-			IDataConnector connector = connectorRef.get();
-			if(connector!=null&&!connector.equals(sender))
-			{
+			IDataConnector connector = connectors.get(i).get();
+			if(connector==null)
+				unloaded++;
+			else if(connector!=sender)
 				connector.onPacketReceive(packet);
-			}
+		}
+		sendDepth--;
+
+		//Drop unloaded connectors, unless a receiver is still sending through this network
+		if(unloaded > 0&&sendDepth==0)
+			connectors.removeIf(ref -> ref.get()==null);
+	}
+
+	/**
+	 * One side of a search started from both ends of a removed wire
+	 */
+	private static class SplitSearch
+	{
+		final ArrayDeque<BlockPos> open = new ArrayDeque<>();
+		final Set<BlockPos> visited = new HashSet<>();
+
+		SplitSearch(BlockPos start)
+		{
+			open.add(start);
+			visited.add(start);
+		}
+
+		/**
+		 * Visits a single position
+		 *
+		 * @return true if this search reached a position visited by the other one
+		 */
+		boolean step(World world, int dimension, SplitSearch other)
+		{
+			BlockPos next = open.poll();
+			if(next==null)
+				return false;
+
+			IImmersiveConnectable iic = ApiUtils.toIIC(next, world);
+			Set<Connection> connsAtBlock = INSTANCE.getConnections(dimension, next);
+			if(connsAtBlock==null||iic==null)
+				return false;
+
+			for(Connection c : connsAtBlock)
+				if(isDataConnection(iic, c))
+				{
+					if(other.visited.contains(c.end))
+						return true;
+					if(visited.add(c.end))
+						open.add(c.end);
+				}
+			return false;
 		}
 	}
 }
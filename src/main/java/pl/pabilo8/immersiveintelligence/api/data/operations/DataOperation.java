@@ -2,6 +2,7 @@ package pl.pabilo8.immersiveintelligence.api.data.operations;
 
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeNull;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
@@ -15,19 +16,70 @@ import java.lang.annotation.Target;
  * Represents a data operation that can be executed on a {@link DataPacket}, based on {@link DataTypeExpression} instructions.
  *
  * @author Pabilo8
- * @updated 09.10.2024
+ * @updated 18.10.2026
  * @ii-approved 0.3.1
  * @since 05.07.2019
  */
 public abstract class DataOperation
 {
+	/**
+	 * Cached annotation of this operation's class
+	 */
+	private DataOperationMeta meta = null;
+
 	@Nonnull
 	public abstract DataType execute(DataPacket packet, DataTypeExpression data);
 
+	/**
+	 * Compiles an expression using this operation into a closure, called once when a script or a circuit is compiled.<br>
+	 * By default the expression is executed as usual, on a copy of it if it has mutable constants (i.e. arrays modified by the operation). Operations can override this to work on {@link #compileArguments(DataTypeExpression, boolean) compiled arguments},
+	 * so nested expressions and accessors are linked once, instead of being resolved on each evaluation.
+	 *
+	 * @param expression expression to be compiled, must not be modified afterwards
+	 * @return compiled expression
+	 */
+	@Nonnull
+	public ICompiledValue compile(DataTypeExpression expression)
+	{
+		if(!expression.hasMutableConstants())
+			return packet -> execute(packet, expression);
+		return packet -> execute(packet, expression.copy());
+	}
+
+	/**
+	 * @param expression       compiled expression
+	 * @param allowExpressions whether expressions in arguments should be evaluated, same as in {@link DataPacket#evaluateVariable(DataType, boolean)}
+	 * @return compiled arguments of the expression
+	 */
+	protected final ICompiledValue[] compileArguments(DataTypeExpression expression, boolean allowExpressions)
+	{
+		ICompiledValue[] arguments = new ICompiledValue[getMeta().allowedTypes().length];
+		for(int i = 0; i < arguments.length; i++)
+			arguments[i] = DataTypeExpression.compileValue(expression.getArgument(i), allowExpressions);
+		return arguments;
+	}
+
+	/**
+	 * Evaluates a compiled argument, same as {@link DataPacket#getVarInType(Class, DataType)} does with an uncompiled one
+	 *
+	 * @param packet    packet the expression is evaluated in
+	 * @param argument  compiled argument
+	 * @param preferred type of the argument
+	 * @return value of the argument or a new instance of the preferred type, if it's of a different type
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <T extends DataType> T getArgument(DataPacket packet, ICompiledValue argument, Class<T> preferred)
+	{
+		DataType value = argument.evaluate(packet);
+		return preferred.isInstance(value)?(T)value: packet.getVarInType(preferred, null);
+	}
+
 	@Nonnull
 	public DataOperationMeta getMeta()
 	{
-		return this.getClass().getAnnotation(DataOperationMeta.class);
+		if(meta==null)
+			meta = this.getClass().getAnnotation(DataOperationMeta.class);
+		return meta;
 	}
 
 	/**
@@ -3,6 +3,7 @@ package pl.pabilo8.immersiveintelligence.api.data.operations.arithmetic;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeFloat;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeInteger;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
@@ -13,6 +14,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "divide", expression = "/",
 		allowedTypes = {NumericDataType.class, NumericDataType.class}, params = {"dividend", "divisor"},
@@ -23,11 +25,21 @@ public class DataOperationDivide extends DataOperation
 	@Override
 	public DataType execute(DataPacket packet, DataTypeExpression data)
 	{
-		NumericDataType t1, t2;
+		return divide(packet.getVarInType(NumericDataType.class, data.getArgument(0)),
+				packet.getVarInType(NumericDataType.class, data.getArgument(1)));
+	}
 
-		t1 = packet.getVarInType(NumericDataType.class, data.getArgument(0));
-		t2 = packet.getVarInType(NumericDataType.class, data.getArgument(1));
+	@Nonnull
+	@Override
+	public ICompiledValue compile(DataTypeExpression expression)
+	{
+		ICompiledValue[] arguments = compileArguments(expression, true);
+		return packet -> divide(getArgument(packet, arguments[0], NumericDataType.class),
+				getArgument(packet, arguments[1], NumericDataType.class));
+	}
 
+	private static DataType divide(NumericDataType t1, NumericDataType t2)
+	{
 		if(t2.floatValue()==0)
 			return t1 instanceof DataTypeInteger?new DataTypeInteger(Integer.MAX_VALUE): new DataTypeFloat(Float.MAX_VALUE);
 
@@ -14,6 +14,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "array_get", allowedTypes = {DataTypeArray.class, DataTypeInteger.class}, params = {"array", "index"}, expectedResult = DataType.class)
 public class DataOperationArrayGet extends DataOperation
@@ -25,7 +26,6 @@ public class DataOperationArrayGet extends DataOperation
 		DataTypeArray array = packet.getVarInType(DataTypeArray.class, data.getArgument(0));
 		DataTypeInteger index = packet.getVarInType(DataTypeInteger.class, data.getArgument(1));
 
-		DataType[] arr = array.value;
-		return arr.length > 0?arr[MathHelper.clamp(index.value, 0, arr.length-1)]: new DataTypeNull();
+		return array.size() > 0?array.get(MathHelper.clamp(index.value, 0, array.size()-1)): new DataTypeNull();
 	}
 }
@@ -12,6 +12,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "array_length", allowedTypes = {DataTypeArray.class}, params = {"array"}, expectedResult = DataTypeInteger.class)
 public class DataOperationArrayLength extends DataOperation
@@ -21,6 +22,6 @@ public class DataOperationArrayLength extends DataOperation
 	public DataType execute(DataPacket packet, DataTypeExpression data)
 	{
 		DataTypeArray array = packet.getVarInType(DataTypeArray.class, data.getArgument(0));
-		return new DataTypeInteger(array.value.length);
+		return new DataTypeInteger(array.size());
 	}
 }
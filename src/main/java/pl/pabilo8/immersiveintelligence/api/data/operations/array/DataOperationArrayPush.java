@@ -9,12 +9,11 @@ import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeNull;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
 
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "array_push", allowedTypes = {DataTypeArray.class, DataType.class},
 		params = {"array", "inserted"}, expectedResult = DataTypeNull.class, resultMatters = false)
@@ -37,10 +36,7 @@ public class DataOperationArrayPush extends DataOperation
 			tries++;
 		}
 
-		DataType[] arr = array.value;
-		ArrayList<DataType> dataTypes = new ArrayList<>(Arrays.asList(arr));
-		dataTypes.add(pushed);
-		array.value = dataTypes.toArray(new DataType[0]);
+		array.push(pushed);
 
 		return new DataTypeNull();
 	}
@@ -6,12 +6,11 @@ import pl.pabilo8.immersiveintelligence.api.data.types.*;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
 
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "array_set", allowedTypes = {DataTypeArray.class, DataTypeInteger.class, DataType.class},
 		params = {"array", "index", "value"}, expectedResult = DataTypeNull.class, resultMatters = false)
@@ -33,10 +32,7 @@ public class DataOperationArraySet extends DataOperation
 			tries++;
 		}
 
-		DataType[] arr = array.value;
-		ArrayList<DataType> dataTypes = new ArrayList<>(Arrays.asList(arr));
-		dataTypes.add(index, t3);
-		array.value = dataTypes.toArray(new DataType[0]);
+		array.insert(index, t3);
 
 		return array;
 	}
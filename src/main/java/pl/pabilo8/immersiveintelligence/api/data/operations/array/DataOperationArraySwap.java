@@ -13,6 +13,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "array_swap", allowedTypes = {DataTypeArray.class, DataTypeInteger.class, DataTypeInteger.class},
 		params = {"array", "first", "second"}, expectedResult = DataTypeNull.class, resultMatters = false)
@@ -26,12 +27,8 @@ public class DataOperationArraySwap extends DataOperation
 		int i1 = packet.getVarInType(DataTypeInteger.class, data.getArgument(1)).value;
 		int i2 = packet.getVarInType(DataTypeInteger.class, data.getArgument(2)).value;
 
-		if(i1 >= 0&&i2 >= 0&&i1 < array.value.length&&i2 < array.value.length)
-		{
-			DataType helper = array.value[i1];
-			array.value[i1] = array.value[i2];
-			array.value[i2] = helper;
-		}
+		if(i1 >= 0&&i2 >= 0&&i1 < array.size()&&i2 < array.size())
+			array.swap(i1, i2);
 
 		return new DataTypeNull();
 	}
@@ -5,6 +5,7 @@ import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation.DataOperationMeta;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
 import javax.annotation.Nonnull;
@@ -14,6 +15,7 @@ import javax.annotation.Nonnull;
  *
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperationMeta(name = "equal", expression = "==",
 		allowedTypes = {DataType.class, DataType.class}, params = {"compared", "compared"},
@@ -29,4 +31,12 @@ public class DataOperationEqual extends DataOperation
 
 		return new DataTypeBoolean(t1.equals(t2));
 	}
+
+	@Nonnull
+	@Override
+	public ICompiledValue compile(DataTypeExpression expression)
+	{
+		ICompiledValue[] arguments = compileArguments(expression, false);
+		return packet -> new DataTypeBoolean(arguments[0].evaluate(packet).equals(arguments[1].evaluate(packet)));
+	}
 }
\ No newline at end of file
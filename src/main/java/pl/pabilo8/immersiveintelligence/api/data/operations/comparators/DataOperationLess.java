@@ -4,6 +4,7 @@ import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.IComparableDataType;
 
@@ -12,6 +13,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "less", expression = "<",
 		allowedTypes = {DataType.class, DataType.class}, params = {"compared", "compared"},
@@ -20,12 +22,22 @@ public class DataOperationLess extends DataOperation
 {
 	@Nonnull
 	@Override
-	@SuppressWarnings({"raw", "unchecked"})
 	public DataType execute(DataPacket packet, DataTypeExpression data)
 	{
-		DataType t1 = packet.evaluateVariable(data.getArgument(0), false);
-		DataType t2 = packet.evaluateVariable(data.getArgument(1), false);
+		return compare(packet.evaluateVariable(data.getArgument(0), false), packet.evaluateVariable(data.getArgument(1), false));
+	}
 
+	@Nonnull
+	@Override
+	public ICompiledValue compile(DataTypeExpression expression)
+	{
+		ICompiledValue[] arguments = compileArguments(expression, false);
+		return packet -> compare(arguments[0].evaluate(packet), arguments[1].evaluate(packet));
+	}
+
+	@SuppressWarnings({"raw", "unchecked"})
+	private static DataType compare(DataType t1, DataType t2)
+	{
 		if(t1 instanceof IComparableDataType&&t2 instanceof IComparableDataType&&((IComparableDataType<?>)t1).canCompareWith(t2))
 			return new DataTypeBoolean(((IComparableDataType)t1).lessThan(t2));
 		else
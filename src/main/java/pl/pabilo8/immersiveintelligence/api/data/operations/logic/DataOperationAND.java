@@ -4,6 +4,7 @@ import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
 import javax.annotation.Nonnull;
@@ -11,6 +12,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "and", expression = "&",
 		allowedTypes = {DataTypeBoolean.class, DataTypeBoolean.class}, params = {"input", "input"},
@@ -22,14 +24,20 @@ public class DataOperationAND extends DataOperation
 	public DataType execute(DataPacket packet, DataTypeExpression data)
 	{
 		DataTypeBoolean t1, t2;
-		boolean i1, i2;
 
 		t1 = packet.getVarInType(DataTypeBoolean.class, data.getArgument(0));
 		t2 = packet.getVarInType(DataTypeBoolean.class, data.getArgument(1));
-		i1 = t1.value;
-		i2 = t2.value;
 
 		//Yes
-		return new DataTypeBoolean(i1&&i2);
+		return new DataTypeBoolean(t1.value&&t2.value);
+	}
+
+	@Nonnull
+	@Override
+	public ICompiledValue compile(DataTypeExpression expression)
+	{
+		ICompiledValue[] arguments = compileArguments(expression, true);
+		return packet -> new DataTypeBoolean(getArgument(packet, arguments[0], DataTypeBoolean.class).value&&
+				getArgument(packet, arguments[1], DataTypeBoolean.class).value);
 	}
 }
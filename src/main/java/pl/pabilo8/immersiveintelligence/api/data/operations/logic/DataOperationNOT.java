@@ -4,6 +4,7 @@ import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
 import javax.annotation.Nonnull;
@@ -11,6 +12,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "not", expression = "!",
 		allowedTypes = {DataTypeBoolean.class}, params = {"input"},
@@ -23,4 +25,12 @@ public class DataOperationNOT extends DataOperation
 	{
 		return new DataTypeBoolean(!packet.getVarInType(DataTypeBoolean.class, data.getArgument(0)).value);
 	}
+
+	@Nonnull
+	@Override
+	public ICompiledValue compile(DataTypeExpression expression)
+	{
+		ICompiledValue argument = compileArguments(expression, true)[0];
+		return packet -> new DataTypeBoolean(!getArgument(packet, argument, DataTypeBoolean.class).value);
+	}
 }
\ No newline at end of file
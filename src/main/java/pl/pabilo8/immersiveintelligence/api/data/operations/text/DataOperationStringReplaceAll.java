@@ -11,6 +11,7 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 21.01.2022
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "string_replace_all", allowedTypes = {DataTypeString.class, DataTypeString.class, DataTypeString.class}, params = {"text", "fragment", "with"}, expectedResult = DataTypeString.class)
 public class DataOperationStringReplaceAll extends DataOperation
@@ -23,6 +24,6 @@ public class DataOperationStringReplaceAll extends DataOperation
 		DataTypeString t2 = packet.getVarInType(DataTypeString.class, data.getArgument(1));
 		DataTypeString t3 = packet.getVarInType(DataTypeString.class, data.getArgument(2));
 
-		return new DataTypeString(t1.value.replaceAll(t2.value, t3.value));
+		return new DataTypeString(TextPatterns.replaceAll(t1.value, t2.value, t3.value));
 	}
 }
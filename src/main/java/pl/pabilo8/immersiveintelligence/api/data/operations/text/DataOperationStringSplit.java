@@ -13,6 +13,7 @@ import java.util.Arrays;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 @DataOperation.DataOperationMeta(name = "string_split", allowedTypes = {DataTypeString.class, DataTypeString.class}, params = {"text", "delimiter"}, expectedResult = DataTypeArray.class)
 public class DataOperationStringSplit extends DataOperation
@@ -25,7 +26,7 @@ public class DataOperationStringSplit extends DataOperation
 		DataType t2 = packet.getVarInType(DataTypeString.class, data.getArgument(1));
 
 		//Lambdas are love, Lambdas are life!
-		return new DataTypeArray(Arrays.stream(t1.toString().split(t2.toString()))
+		return new DataTypeArray(Arrays.stream(TextPatterns.split(t1.toString(), t2.toString()))
 				.map(DataTypeString::new)
 				.toArray(DataTypeString[]::new));
 	}
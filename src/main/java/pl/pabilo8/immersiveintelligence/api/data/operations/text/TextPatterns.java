@@ -0,0 +1,241 @@
+package pl.pabilo8.immersiveintelligence.api.data.operations.text;
+
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Pattern matching used by the text {@link pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation}s.<br>
+ * Compiled patterns are kept in a shared LRU cache, patterns without metacharacters are matched as plain text.
+ * Each match has a limited number of steps, after which the text is returned unchanged, so player-made patterns can't stall the server.
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class TextPatterns
+{
+	/**
+	 * Max number of compiled patterns stored
+	 */
+	public static final int MAX_CACHED_PATTERNS = 128;
+	/**
+	 * Max number of characters read by a single match
+	 */
+	public static final int MAX_STEPS = 1_000_000;
+	private static final String METACHARACTERS = ".$|()[]{}^?*+\\";
+
+	/**
+	 * Compiled patterns, null for malformed ones
+	 */
+	private static final LinkedHashMap<String, Pattern> PATTERNS = new LinkedHashMap<String, Pattern>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest)
+		{
+			return size() > MAX_CACHED_PATTERNS;
+		}
+	};
+
+	/**
+	 * @param text        text to be modified
+	 * @param pattern     regular expression
+	 * @param replacement replacement of each match
+	 * @return text with all matches replaced, unchanged if the pattern is malformed or exceeds the step budget
+	 */
+	@Nonnull
+	public static String replaceAll(String text, String pattern, String replacement)
+	{
+		if(isLiteral(pattern)&&isLiteralReplacement(replacement))
+			return StringUtils.replace(text, pattern, replacement);
+		Matcher matcher = getMatcher(text, pattern);
+		if(matcher==null)
+			return text;
+
+		try
+		{
+			return matcher.replaceAll(replacement);
+		} catch(StepBudgetExceededException|IllegalArgumentException|IndexOutOfBoundsException ignored)
+		{
+			return text;
+		}
+	}
+
+	/**
+	 * @param text        text to be modified
+	 * @param pattern     regular expression
+	 * @param replacement replacement of the first match
+	 * @return text with the first match replaced, unchanged if the pattern is malformed or exceeds the step budget
+	 */
+	@Nonnull
+	public static String replaceFirst(String text, String pattern, String replacement)
+	{
+		if(isLiteral(pattern)&&isLiteralReplacement(replacement))
+			return StringUtils.replaceOnce(text, pattern, replacement);
+		Matcher matcher = getMatcher(text, pattern);
+		if(matcher==null)
+			return text;
+
+		try
+		{
+			return matcher.replaceFirst(replacement);
+		} catch(StepBudgetExceededException|IllegalArgumentException|IndexOutOfBoundsException ignored)
+		{
+			return text;
+		}
+	}
+
+	/**
+	 * Splits text the same way {@link String#split(String)} does
+	 *
+	 * @param text      text to be split
+	 * @param delimiter regular expression
+	 * @return split text, the whole text if the pattern is malformed or exceeds the step budget
+	 */
+	@Nonnull
+	public static String[] split(String text, String delimiter)
+	{
+		if(isLiteral(delimiter))
+			return splitLiteral(text, delimiter);
+		Pattern pattern = getPattern(delimiter);
+		if(pattern==null)
+			return new String[]{text};
+
+		try
+		{
+			return pattern.split(new BudgetedText(text));
+		} catch(StepBudgetExceededException ignored)
+		{
+			return new String[]{text};
+		}
+	}
+
+	/**
+	 * @param pattern regular expression
+	 * @return compiled pattern or null, if it's malformed
+	 */
+	@Nullable
+	public static Pattern getPattern(String pattern)
+	{
+		synchronized(PATTERNS)
+		{
+			if(PATTERNS.containsKey(pattern))
+				return PATTERNS.get(pattern);
+
+			Pattern compiled;
+			try
+			{
+				compiled = Pattern.compile(pattern);
+			} catch(PatternSyntaxException ignored)
+			{
+				compiled = null;
+			}
+			PATTERNS.put(pattern, compiled);
+			return compiled;
+		}
+	}
+
+	/**
+	 * @param pattern regular expression
+	 * @return whether the pattern matches only itself
+	 */
+	public static boolean isLiteral(String pattern)
+	{
+		if(pattern.isEmpty())
+			return false;
+		for(int i = 0; i < pattern.length(); i++)
+			if(METACHARACTERS.indexOf(pattern.charAt(i))!=-1)
+				return false;
+		return true;
+	}
+
+	private static boolean isLiteralReplacement(String replacement)
+	{
+		return replacement.indexOf('$')==-1&&replacement.indexOf('\\')==-1;
+	}
+
+	@Nullable
+	private static Matcher getMatcher(String text, String pattern)
+	{
+		Pattern compiled = getPattern(pattern);
+		return compiled==null?null: compiled.matcher(new BudgetedText(text));
+	}
+
+	private static String[] splitLiteral(String text, String delimiter)
+	{
+		int index = text.indexOf(delimiter);
+		if(index==-1)
+			return new String[]{text};
+
+		ArrayList<String> parts = new ArrayList<>();
+		int start = 0;
+		do
+		{
+			parts.add(text.substring(start, index));
+			start = index+delimiter.length();
+		}
+		while((index = text.indexOf(delimiter, start))!=-1);
+		parts.add(text.substring(start));
+
+		//Trailing empty strings are removed, like in String#split
+		int size = parts.size();
+		while(size > 0&&parts.get(size-1).isEmpty())
+			size--;
+		return parts.subList(0, size).toArray(new String[0]);
+	}
+
+	/**
+	 * Text which stops the match after {@link #MAX_STEPS} characters are read
+	 */
+	private static class BudgetedText implements CharSequence
+	{
+		private final String text;
+		private int steps = 0;
+
+		BudgetedText(String text)
+		{
+			this.text = text;
+		}
+
+		@Override
+		public int length()
+		{
+			return text.length();
+		}
+
+		@Override
+		public char charAt(int index)
+		{
+			if(++steps > MAX_STEPS)
+				throw new StepBudgetExceededException();
+			return text.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end)
+		{
+			return text.subSequence(start, end);
+		}
+
+		@Nonnull
+		@Override
+		public String toString()
+		{
+			return text;
+		}
+	}
+
+	private static class StepBudgetExceededException extends RuntimeException
+	{
+		StepBudgetExceededException()
+		{
+			super(null, null, false, false);
+		}
+	}
+}
@@ -10,6 +10,7 @@ import java.util.HashMap;
 /**
  * @author Pabilo8
  * @since 16.04.2022
+ * @updated 18.10.2026
  */
 public class POLComputerMemory
 {
@@ -35,8 +36,9 @@ public class POLComputerMemory
 		NBTTagList list = nbt.getTagList("pages", NBT.TAG_COMPOUND);
 		pages = new DataPacket[list.tagCount()];
 
-		for(int i = 1; i < pages.length; i++)
+		for(int i = 0; i < pages.length; i++)
 			pages[i] = new DataPacket().fromNBT((NBTTagCompound)list.get(i));
+		packet = pages[page];
 	}
 
 	/**
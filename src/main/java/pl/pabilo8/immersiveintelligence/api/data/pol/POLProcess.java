@@ -8,12 +8,29 @@ import java.util.Stack;
 /**
  * @author Pabilo8
  * @since 15.04.2022
+ * @updated 18.10.2026
  */
 public class POLProcess
 {
 	private final POLScript script;
 	private boolean running = true;
 	private int lineID = 0, time = 0;
+	/**
+	 * Memory page used by this process, kept separately, so multiple processes can run on a single computer
+	 */
+	private int page = 0;
+	/**
+	 * Ticks left until the process wakes up
+	 */
+	private int sleepTicks = 0;
+	/**
+	 * Total processor time used by this process
+	 */
+	private long cycles = 0;
+	/**
+	 * Whether the process is run by a {@link POLScheduler}, which shares the terminal between many processes
+	 */
+	private boolean scheduled = false;
 	private final Stack<Tuple<Integer, Integer>> returnStack = new Stack<>();
 
 	public POLProcess(POLScript script)
@@ -21,11 +38,18 @@ public class POLProcess
 		this.script = script;
 	}
 
-	public void run(POLComputerMemory memory, POLTerminal terminal)
+	/**
+	 * Executes a single tick of the current instruction
+	 *
+	 * @return processor time used by the instruction
+	 */
+	public int run(POLComputerMemory memory, POLTerminal terminal)
 	{
 		POLInstruction instruction = script.getInstructions()[lineID];
+		int processorTime = instruction.getProcessorTime(time);
 		instruction.execute(memory, terminal, this, time);
 		time++;
+		cycles += processorTime;
 
 		if(instruction.getExecutionTime() <= time)
 		{
@@ -34,6 +58,7 @@ public class POLProcess
 		}
 		if(lineID < 0||lineID >= script.getInstructions().length)
 			running = false;
+		return processorTime;
 	}
 
 	public boolean isRunning()
@@ -41,6 +66,59 @@ public class POLProcess
 		return running;
 	}
 
+	/**
+	 * Suspends the process, used by the WAIT instruction
+	 *
+	 * @param ticks amount of ticks the process won't be executed for
+	 */
+	public void sleep(int ticks)
+	{
+		this.sleepTicks = Math.max(sleepTicks, ticks);
+	}
+
+	/**
+	 * @return whether the process can be executed in this tick, counts down the sleep time
+	 */
+	public boolean updateSleep()
+	{
+		if(sleepTicks > 0)
+			sleepTicks--;
+		return sleepTicks==0;
+	}
+
+	public boolean isSleeping()
+	{
+		return sleepTicks > 0;
+	}
+
+	public boolean isScheduled()
+	{
+		return scheduled;
+	}
+
+	void setScheduled()
+	{
+		this.scheduled = true;
+	}
+
+	public int getPage()
+	{
+		return page;
+	}
+
+	public void setPage(int page)
+	{
+		this.page = page;
+	}
+
+	/**
+	 * @return total processor time used by this process
+	 */
+	public long getCycles()
+	{
+		return cycles;
+	}
+
 	public void setLineID(Tuple<Integer, Integer> marker)
 	{
 		this.lineID = marker.getFirst();
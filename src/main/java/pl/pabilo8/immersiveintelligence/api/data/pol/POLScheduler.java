@@ -0,0 +1,182 @@
+package pl.pabilo8.immersiveintelligence.api.data.pol;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs multiple {@link POLProcess}es on a single computer, sharing its memory and terminal.<br>
+ * Processes are executed in turns, one instruction at a time, until the computer's processor time budget for the tick is used up.
+ * Processes executing WAIT are suspended until the wait is over.<br>
+ * Processor time of all computers is limited per server tick, when it is exceeded the budgets of all computers are scaled down equally.
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class POLScheduler
+{
+	/**
+	 * Max processor time used by all computers in a single server tick
+	 */
+	public static int globalBudget = 20000;
+
+	/**
+	 * Processor time requested and used in the current server tick
+	 */
+	private static int globalDemand = 0, globalUsed = 0;
+	/**
+	 * Fraction of their budget computers receive in the current tick, based on the previous tick's demand
+	 */
+	private static float globalScale = 1f;
+
+	private final POLComputerMemory memory;
+	private final POLTerminal terminal;
+	private final ArrayList<POLProcess> processes = new ArrayList<>();
+	/**
+	 * Processor time of this computer per tick
+	 */
+	private final int budget;
+	/**
+	 * Index of the process to be executed next
+	 */
+	private int next = 0;
+	/**
+	 * Processor time used above this computer's budget, taken from the budget of the next ticks until it's paid off
+	 */
+	private int overdraft = 0;
+	private int lastTickCycles = 0;
+	private long cycles = 0;
+
+	public POLScheduler(POLComputerMemory memory, POLTerminal terminal, int budget)
+	{
+		this.memory = memory;
+		this.terminal = terminal;
+		this.budget = budget;
+	}
+
+	/**
+	 * Starts a new process on this computer
+	 *
+	 * @param script script to be executed
+	 * @return the started process
+	 */
+	public POLProcess start(POLScript script)
+	{
+		POLProcess process = new POLProcess(script);
+		process.setScheduled();
+		processes.add(process);
+		return process;
+	}
+
+	/**
+	 * Stops a process running on this computer
+	 */
+	public void kill(POLProcess process)
+	{
+		int index = processes.indexOf(process);
+		if(index==-1)
+			return;
+		processes.remove(index);
+		if(index < next)
+			next--;
+	}
+
+	/**
+	 * Executes processes for a single tick
+	 *
+	 * @return processor time used
+	 */
+	public int tick()
+	{
+		lastTickCycles = 0;
+		if(processes.isEmpty())
+			return 0;
+
+		int runnable = 0;
+		for(POLProcess process : processes)
+			if(process.updateSleep())
+				runnable++;
+
+		globalDemand += budget;
+		//Other computers used up the processor time of this server tick, it's not this computer's debt
+		int globalLeft = globalBudget-globalUsed;
+		if(globalLeft <= 0)
+			return 0;
+		int ownAllowed = (int)Math.ceil(budget*globalScale)-overdraft;
+		int allowed = Math.min(ownAllowed, globalLeft);
+
+		int used = 0;
+		while(runnable > 0&&used < allowed)
+		{
+			if(next >= processes.size())
+				next = 0;
+			POLProcess process = processes.get(next);
+
+			if(process.isSleeping())
+			{
+				next++;
+				continue;
+			}
+
+			memory.setPage(process.getPage());
+			used += process.run(memory, terminal);
+			process.setPage(memory.page);
+
+			if(!process.isRunning())
+			{
+				processes.remove(next);
+				runnable--;
+				continue;
+			}
+			if(process.isSleeping())
+				runnable--;
+			next++;
+		}
+
+		//The last instruction may exceed the budget, the excess is taken from the next ticks, even if this tick's budget was already spent
+		overdraft = Math.max(used-ownAllowed, 0);
+		globalUsed += used;
+		lastTickCycles = used;
+		cycles += used;
+		return used;
+	}
+
+	/**
+	 * @return processes running on this computer
+	 */
+	public List<POLProcess> getProcesses()
+	{
+		return Collections.unmodifiableList(processes);
+	}
+
+	public int getBudget()
+	{
+		return budget;
+	}
+
+	/**
+	 * @return processor time used in the last tick
+	 */
+	public int getLastTickCycles()
+	{
+		return lastTickCycles;
+	}
+
+	/**
+	 * @return total processor time used by this computer
+	 */
+	public long getCycles()
+	{
+		return cycles;
+	}
+
+	/**
+	 * Called at the end of each server tick, calculates the budget scale for the next one
+	 */
+	public static void onServerTick()
+	{
+		globalScale = globalDemand > globalBudget?globalBudget/(float)globalDemand: 1f;
+		globalDemand = 0;
+		globalUsed = 0;
+	}
+}
@@ -7,20 +7,20 @@ import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation;
 import pl.pabilo8.immersiveintelligence.api.data.pol.instructions.*;
 import pl.pabilo8.immersiveintelligence.api.data.types.*;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 import pl.pabilo8.immersiveintelligence.common.item.data.ItemIIFunctionalCircuit.Circuits;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.*;
+import java.util.Map.Entry;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * An executable script of the POL Programming Language
  *
  * @author Pabilo8
  * @since 16.04.2022
+ * @updated 18.10.2026
  */
 public class POLScript
 {
@@ -37,26 +37,57 @@ public class POLScript
 
 	// TODO: 17.04.2022 parsing errors
 
+	/**
+	 * Maximum amount of compiled scripts kept in {@link #SCRIPT_CACHE}
+	 */
+	private static final int SCRIPT_CACHE_SIZE = 64;
+	/**
+	 * Compiled scripts by their source text, so identical punchtapes share a single script.<br>
+	 * Compiled scripts are immutable, the execution state is kept in {@link POLProcess} and {@link POLComputerMemory}.
+	 */
+	private static final Map<String, POLScript> SCRIPT_CACHE = new LinkedHashMap<String, POLScript>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Entry<String, POLScript> eldest)
+		{
+			return size() > SCRIPT_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Parses and compiles a script, or returns an already compiled one if the same text was compiled before
+	 *
+	 * @param lines lines of the script
+	 * @return compiled script
+	 */
 	public static POLScript prepareScript(ArrayList<String> lines)
 	{
-		ArrayList<Tuple<POLKeywords, String>> text = processText(lines);
-		return compile(text);
+		String source = String.join("\n", lines);
+		synchronized(SCRIPT_CACHE)
+		{
+			POLScript script = SCRIPT_CACHE.get(source);
+			if(script==null)
+			{
+				script = compile(processText(lines));
+				SCRIPT_CACHE.put(source, script);
+			}
+			return script;
+		}
 	}
 
 	/**
 	 * @return text processed into POL keywords and arguments
 	 */
-	protected static ArrayList<Tuple<POLKeywords, String>> processText(ArrayList<String> text)
+	protected static ArrayList<Tuple<POLKeywords, String>> processText(ArrayList<String> lines)
 	{
 		//remove comments and empty lines
-		text = (ArrayList<String>)text.stream()
-				.map(s -> SPECIAL_REGEX_CHARS.matcher(s).replaceAll("\\\\$0")) //replace regex chars
-				.map(s -> s.replaceAll(";(?<=;).*$", "")) //remove comments
-				.map(s -> s.replaceAll("\\\\", "")) //revert regex chars
-				.map(s -> s.replaceAll("\\s+$", "")) //trim end whitespace
-				.map(s -> s.replaceAll(" {4}", "\t")) //turn 4x string into tabulations
-				.filter(s -> !s.isEmpty()) //remove empty lines
-				.collect(Collectors.toList());
+		ArrayList<String> text = new ArrayList<>(lines.size());
+		for(String line : lines)
+		{
+			String cleaned = cleanLine(line);
+			if(!cleaned.isEmpty())
+				text.add(cleaned);
+		}
 
 		int level = 0;
 
@@ -65,7 +96,8 @@ public class POLScript
 		for(String next : text)
 		{
 			int indents = countChars(next, '\t');
-			next = next.replaceAll("\t", "");
+			if(indents > 0)
+				next = next.replace("\t", "");
 
 			//add BEGIN or END if the level differs
 			for(int j = level-indents; j > 0; j--)
@@ -95,15 +127,57 @@ public class POLScript
 			output.add(new Tuple<>(POLKeywords.END, ""));
 
 		return output;
+	}
 
-		/*return (ArrayList<Tuple<POLKeywords, String>>)
-				text.stream().map(s -> {
-					String[] split = s.split(" ", 2);
-					return new Tuple<>(
-							Optional.ofNullable(POLKeywords.v(split[0])).orElse(POLKeywords.WAIT), //shouldn't happen
-							split.length>1?split[1]:""
-					);
-				}).collect(Collectors.toList());*/
+	/**
+	 * Removes comments, backslashes and trailing whitespace from a line and turns every 4 spaces into a tabulation, in a single pass
+	 *
+	 * @param line line of the script
+	 * @return cleaned line, empty if there is nothing to parse
+	 */
+	private static String cleanLine(String line)
+	{
+		//everything after a semicolon is a comment
+		int end = line.indexOf(';');
+		if(end==-1)
+			end = line.length();
+
+		StringBuilder builder = new StringBuilder(end);
+		int spaces = 0;
+		for(int i = 0; i < end; i++)
+		{
+			char c = line.charAt(i);
+			switch(c)
+			{
+				case '\\':
+					break;
+				case ' ':
+					if(++spaces==4)
+					{
+						builder.append('\t');
+						spaces = 0;
+					}
+					break;
+				default:
+					for(; spaces > 0; spaces--)
+						builder.append(' ');
+					builder.append(c);
+					break;
+			}
+		}
+
+		//trim whitespace at the end, pending spaces are already skipped
+		int length = builder.length();
+		while(length > 0&&isWhitespace(builder.charAt(length-1)))
+			length--;
+		builder.setLength(length);
+
+		return builder.toString();
+	}
+
+	private static boolean isWhitespace(char c)
+	{
+		return c==' '||c=='\t'||c=='\n'||c=='\r'||c=='\f'||c==0x0B;
 	}
 
 	/**
@@ -444,7 +518,11 @@ public class POLScript
 
 	private static int countChars(String s, char c)
 	{
-		return (int)s.chars().filter(v -> v==c).count();
+		int count = 0;
+		for(int i = 0; i < s.length(); i++)
+			if(s.charAt(i)==c)
+				count++;
+		return count;
 	}
 
 	public POLInstruction[] getInstructions()
@@ -457,23 +535,56 @@ public class POLScript
 		return markers;
 	}
 
+	/**
+	 * Wraps an instruction argument, compiled once when the script is compiled
+	 *
+	 * @see DataTypeExpression#compileValue(DataType)
+	 */
 	public static class DataTypeWrapper
 	{
 		final DataType wrapped;
+		private final ICompiledValue compiled;
+		private final int processorTime;
 
 		public DataTypeWrapper(DataType wrapped)
 		{
 			this.wrapped = wrapped;
+			this.compiled = DataTypeExpression.compileValue(wrapped);
+			this.processorTime = getProcessorTime(wrapped);
+		}
+
+		/**
+		 * @return sum of {@link DataOperation.DataOperationMeta#processorTime()} of all operations in the argument
+		 */
+		public int getProcessorTime()
+		{
+			return processorTime;
+		}
+
+		private static int getProcessorTime(DataType type)
+		{
+			if(!(type instanceof DataTypeExpression))
+				return 0;
+			DataTypeExpression expression = (DataTypeExpression)type;
+			int time = expression.getMeta().processorTime();
+			for(DataType argument : expression.data)
+				time += getProcessorTime(argument);
+			return time;
 		}
 
 		public DataType get(DataPacket packet)
 		{
-			if(wrapped instanceof DataTypeExpression)
-				return ((DataTypeExpression)wrapped).getValue(packet);
-			if(wrapped instanceof DataTypeAccessor)
-				return ((DataTypeAccessor)wrapped).getRealValue(packet);
+			return compiled.evaluate(packet);
+		}
 
-			return packet.getVarInType(DataType.class, wrapped);
+		/**
+		 * @return value of the argument, mutable constants are copied, so it can be stored in a packet
+		 */
+		public DataType getStored(DataPacket packet)
+		{
+			if(wrapped instanceof DataTypeExpression||wrapped instanceof DataTypeAccessor)
+				return get(packet);
+			return wrapped.copy();
 		}
 
 		public String getString(DataPacket packet)
@@ -488,12 +599,29 @@ public class POLScript
 	public static abstract class POLInstruction
 	{
 		private final int executionTime;
+		/**
+		 * Processor time used by a single execution, at least 1
+		 */
+		private int processorTime = 1;
 
 		public POLInstruction(int executionTime)
 		{
 			this.executionTime = executionTime;
 		}
 
+		/**
+		 * Wraps an argument of this instruction, adding the processor time of its operations to the instruction's
+		 *
+		 * @param argument argument of the instruction
+		 * @return compiled argument
+		 */
+		protected DataTypeWrapper argument(DataType argument)
+		{
+			DataTypeWrapper wrapper = new DataTypeWrapper(argument);
+			processorTime += wrapper.getProcessorTime();
+			return wrapper;
+		}
+
 		public abstract void execute(POLComputerMemory memory, POLTerminal terminal, POLProcess polProcess, int executionTime);
 
 		public abstract POLKeywords getKeyword();
@@ -502,6 +630,15 @@ public class POLScript
 		{
 			return executionTime;
 		}
+
+		/**
+		 * @param executionTime tick of the instruction's execution
+		 * @return processor time used by executing the instruction at the given tick
+		 */
+		public int getProcessorTime(int executionTime)
+		{
+			return processorTime;
+		}
 	}
 
 }
\ No newline at end of file
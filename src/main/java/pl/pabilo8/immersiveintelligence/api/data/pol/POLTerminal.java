@@ -7,6 +7,7 @@ import javax.annotation.Nullable;
 /**
  * @author Pabilo8
  * @since 17.04.2022
+ * @updated 18.10.2026
  */
 public abstract class POLTerminal
 {
@@ -33,5 +34,8 @@ public abstract class POLTerminal
 	@Nullable
 	public abstract IDataDevice getDeviceAt(int section, int id);
 
+	/**
+	 * Blocks the terminal, used by WAIT in processes which are not run by a {@link POLScheduler}
+	 */
 	public abstract void sleep(int value);
 }
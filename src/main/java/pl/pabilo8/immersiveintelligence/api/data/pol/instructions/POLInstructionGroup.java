@@ -13,7 +13,7 @@ import java.util.ArrayList;
  */
 public class POLInstructionGroup extends POLInstruction
 {
-	private final ArrayList<POLInstruction> instructionSet;
+	private final POLInstruction[] instructionSet;
 
 	public POLInstructionGroup(ArrayList<POLInstruction> set)
 	{
@@ -23,14 +23,14 @@ public class POLInstructionGroup extends POLInstruction
 						.mapToInt(Integer::intValue)
 						.sum()
 		);
-		instructionSet = set;
+		instructionSet = set.toArray(new POLInstruction[0]);
 	}
 
 	// TODO: 18.04.2022 improve nesting
 	@Override
 	public void execute(POLComputerMemory memory, POLTerminal terminal, POLProcess polProcess, int executionTime)
 	{
-		if(executionTime < 0||executionTime > instructionSet.size()-1)
+		if(executionTime < 0||executionTime > instructionSet.length-1)
 			return;
 
 		int time = 0;
@@ -46,6 +46,19 @@ public class POLInstructionGroup extends POLInstruction
 
 	}
 
+	@Override
+	public int getProcessorTime(int executionTime)
+	{
+		int time = 0;
+		for(POLInstruction instruction : instructionSet)
+		{
+			if(time >= executionTime)
+				return instruction.getProcessorTime(executionTime);
+			time += instruction.getExecutionTime();
+		}
+		return 1;
+	}
+
 	@Override
 	public POLKeywords getKeyword()
 	{
@@ -12,6 +12,7 @@ import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 /**
  * @author Pabilo8
  * @since 22.04.2022
+ * @updated 18.10.2026
  */
 public class POLInstructionPage extends POLInstruction
 {
@@ -20,7 +21,7 @@ public class POLInstructionPage extends POLInstruction
 	public POLInstructionPage(DataType rest)
 	{
 		super(1);
-		this.text = new DataTypeWrapper(rest);
+		this.text = argument(rest);
 	}
 
 	@Override
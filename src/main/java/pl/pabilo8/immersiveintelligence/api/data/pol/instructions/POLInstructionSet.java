@@ -11,6 +11,7 @@ import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 /**
  * @author Pabilo8
  * @since 22.04.2022
+ * @updated 18.10.2026
  */
 public class POLInstructionSet extends POLInstruction
 {
@@ -22,14 +23,14 @@ public class POLInstructionSet extends POLInstruction
 	{
 		super(1);
 		this.letter = letter;
-		this.text = new DataTypeWrapper(rest);
+		this.text = argument(rest);
 		this.type = type;
 	}
 
 	@Override
 	public void execute(POLComputerMemory memory, POLTerminal terminal, POLProcess polProcess, int executionTime)
 	{
-		memory.packet.setVariable(letter, memory.packet.getVarInType(type, text.get(memory.packet)));
+		memory.packet.setVariable(letter, memory.packet.getVarInType(type, text.getStored(memory.packet)));
 	}
 
 	@Override
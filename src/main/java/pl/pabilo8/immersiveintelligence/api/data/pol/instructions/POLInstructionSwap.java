@@ -14,6 +14,7 @@ import javax.annotation.Nullable;
 /**
  * @author Pabilo8
  * @since 22.04.2022
+ * @updated 18.10.2026
  */
 public class POLInstructionSwap extends POLInstruction
 {
@@ -26,7 +27,7 @@ public class POLInstructionSwap extends POLInstruction
 		super(1);
 		this.from = from;
 		this.to = to;
-		this.page = page==null?null: new DataTypeWrapper(page);
+		this.page = page==null?null: argument(page);
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 /**
  * @author Pabilo8
  * @since 22.04.2022
+ * @updated 18.10.2026
  */
 public class POLInstructionType extends POLInstruction
 {
@@ -19,7 +20,7 @@ public class POLInstructionType extends POLInstruction
 	public POLInstructionType(DataType rest)
 	{
 		super(1);
-		this.text = new DataTypeWrapper(rest);
+		this.text = argument(rest);
 	}
 
 	@Override
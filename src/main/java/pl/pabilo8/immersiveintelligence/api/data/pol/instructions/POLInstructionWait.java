@@ -12,6 +12,7 @@ import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 /**
  * @author Pabilo8
  * @since 22.04.2022
+ * @updated 18.10.2026
  */
 public class POLInstructionWait extends POLInstruction
 {
@@ -20,7 +21,7 @@ public class POLInstructionWait extends POLInstruction
 	public POLInstructionWait(DataType rest)
 	{
 		super(1);
-		this.text = new DataTypeWrapper(rest);
+		this.text = argument(rest);
 	}
 
 	@Override
@@ -28,7 +29,12 @@ public class POLInstructionWait extends POLInstruction
 	{
 		DataType type = text.get(memory.packet);
 		if(type instanceof DataTypeInteger)
-			terminal.sleep(((DataTypeInteger)type).value);
+		{
+			//The terminal of a scheduled process is shared, only the process itself is suspended
+			if(!polProcess.isScheduled())
+				terminal.sleep(((DataTypeInteger)type).value);
+			polProcess.sleep(((DataTypeInteger)type).value);
+		}
 	}
 
 	@Override
@@ -1,21 +1,46 @@
 package pl.pabilo8.immersiveintelligence.api.data.radio;
 
 import blusunrize.immersiveengineering.api.DimensionBlockPos;
+import net.minecraft.tileentity.TileEntity;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 
-import java.util.ArrayList;
+import javax.annotation.Nullable;
+import java.util.*;
 
 /**
+ * A global network of {@link IRadioDevice}s.<br>
+ * Devices are grouped by dimension and frequency, each group is indexed with a coarse grid, so only radios in range are checked.<br>
+ * Groups are rebuilt lazily, after a device was added, removed or changed its frequency.
+ *
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 23-06-2019
  */
 public class RadioNetwork
 {
 	public static RadioNetwork INSTANCE = new RadioNetwork();
 
+	/**
+	 * Size of a grid cell in blocks, as a power of 2
+	 */
+	private static final int CELL_SHIFT = 5;
+
 	ArrayList<IRadioDevice> devices = new ArrayList<>();
 	ArrayList<IRadioDevice> toRemove = new ArrayList<>();
 
+	/**
+	 * Registered devices, for fast lookup
+	 */
+	private final Set<IRadioDevice> deviceSet = new HashSet<>();
+	/**
+	 * Devices grouped by dimension and frequency, see {@link #getChannelKey(int, int)}
+	 */
+	private final HashMap<Long, RadioChannel> channels = new HashMap<>();
+	/**
+	 * Whether {@link #channels} have to be rebuilt before sending
+	 */
+	private boolean dirty = true;
+
 	/**
 	 * Adds a Radio device to the global network
 	 *
@@ -24,9 +49,10 @@ public class RadioNetwork
 	 */
 	public boolean addDevice(IRadioDevice device)
 	{
-		if(!devices.contains(device))
+		if(deviceSet.add(device))
 		{
 			devices.add(device);
+			dirty = true;
 			return true;
 		}
 		return false;
@@ -43,15 +69,30 @@ public class RadioNetwork
 		if(!toRemove.contains(pos))
 		{
 			toRemove.add(pos);
+			dirty = true;
 			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * Should be called when a device changes its frequency or position, so it can be moved to a different channel
+	 *
+	 * @param device the device that was changed
+	 */
+	public void updateDevice(IRadioDevice device)
+	{
+		if(deviceSet.contains(device))
+			dirty = true;
+	}
 
 	public void clearDevices()
 	{
 		devices.clear();
+		deviceSet.clear();
+		toRemove.clear();
+		channels.clear();
+		dirty = true;
 	}
 
 	public ArrayList<IRadioDevice> getDevices()
@@ -59,36 +100,63 @@ public class RadioNetwork
 		return devices;
 	}
 
-
-	//Simulates radio transmission in a recursive way
+	/**
+	 * Simulates radio transmission, by broadcasting the packet to all devices in range and repeating it from the devices that relayed it further.
+	 *
+	 * @param packet the packet to be sent
+	 * @param sender the device that sends the packet
+	 * @param list   devices that already received the packet, those that relayed it are added to the list
+	 */
 	public void sendPacket(DataPacket packet, IRadioDevice sender, ArrayList<IRadioDevice> list)
 	{
-		if(toRemove.size() > 0)
-		{
-			//prevents crashing by recursion
-			list.addAll(toRemove);
-			devices.removeAll(toRemove);
-		}
-		if(!list.contains(sender))
+		rebuildChannels();
+
+		Set<IRadioDevice> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		visited.addAll(list);
+		if(visited.add(sender))
 		{
 			sender.onRadioSend(packet);
 			list.add(sender);
 		}
-		for(IRadioDevice dev : getDevices())
+
+		DimensionBlockPos senderPos = sender.getDevicePosition();
+		if(senderPos==null)
+			return;
+		int frequency = sender.getFrequency();
+		RadioChannel channel = channels.get(getChannelKey(senderPos.dimension, frequency));
+		if(channel==null)
+			return;
+
+		ArrayDeque<IRadioDevice> transmitters = new ArrayDeque<>();
+		transmitters.add(sender);
+		while(!transmitters.isEmpty())
 		{
-			if(!list.contains(dev))
+			IRadioDevice transmitter = transmitters.poll();
+			for(IRadioDevice receiver : channel.getDevicesInRange(transmitter))
 			{
-				if(dev.getFrequency()==sender.getFrequency()&&distanceCheck(sender, dev))
+				if(!visited.add(receiver))
+					continue;
+
+				//Devices that changed their frequency without notifying the network
+				if(receiver.getFrequency()!=frequency)
+				{
+					dirty = true;
+					continue;
+				}
+				//Unloaded tile entities that weren't removed
+				if(receiver instanceof TileEntity&&((TileEntity)receiver).isInvalid())
+				{
+					removeDevice(receiver);
+					continue;
+				}
+
+				if(receiver.onRadioReceive(packet))
 				{
-					if(dev.onRadioReceive(packet))
-					{
-						list.add(dev);
-						INSTANCE.sendPacket(packet, dev, list);
-					}
+					list.add(receiver);
+					transmitters.add(receiver);
 				}
 			}
 		}
-
 	}
 
 	//TODO:Radio Item
@@ -112,4 +180,123 @@ public class RadioNetwork
 		return pos1.distanceSq(device2.getDevicePosition()) <= range*range;
 	}
 
+	/**
+	 * Removes devices scheduled for removal and groups the remaining ones into channels
+	 */
+	private void rebuildChannels()
+	{
+		if(!dirty)
+			return;
+
+		if(toRemove.size() > 0)
+		{
+			devices.removeAll(toRemove);
+			deviceSet.removeAll(toRemove);
+			toRemove.clear();
+		}
+
+		channels.clear();
+		for(IRadioDevice device : devices)
+		{
+			DimensionBlockPos pos = device.getDevicePosition();
+			if(pos!=null)
+				channels.computeIfAbsent(getChannelKey(pos.dimension, device.getFrequency()), key -> new RadioChannel())
+						.add(device, pos);
+		}
+		dirty = false;
+	}
+
+	private static long getChannelKey(int dimension, int frequency)
+	{
+		return ((long)dimension<<32)|(frequency&0xffffffffL);
+	}
+
+	private static long getCellKey(int cellX, int cellZ)
+	{
+		return ((long)cellX<<32)|(cellZ&0xffffffffL);
+	}
+
+	/**
+	 * Devices of a single dimension and frequency, indexed by a grid
+	 */
+	private static class RadioChannel
+	{
+		private final HashMap<Long, ArrayList<RadioEntry>> cells = new HashMap<>();
+		private final IdentityHashMap<IRadioDevice, RadioEntry> entries = new IdentityHashMap<>();
+
+		void add(IRadioDevice device, DimensionBlockPos pos)
+		{
+			RadioEntry entry = new RadioEntry(device, pos.getX(), pos.getY(), pos.getZ());
+			entries.put(device, entry);
+			cells.computeIfAbsent(getCellKey(entry.x>>CELL_SHIFT, entry.z>>CELL_SHIFT), key -> new ArrayList<>()).add(entry);
+		}
+
+		/**
+		 * Reachable devices are cached for registered devices, until their range changes (i.e. because of weather)
+		 *
+		 * @param transmitter the transmitting device
+		 * @return devices in range of the transmitter
+		 */
+		List<IRadioDevice> getDevicesInRange(IRadioDevice transmitter)
+		{
+			float range = transmitter.getRange();
+			RadioEntry entry = entries.get(transmitter);
+
+			if(entry==null)
+			{
+				DimensionBlockPos pos = transmitter.getDevicePosition();
+				return pos==null?Collections.emptyList(): query(transmitter, pos.getX(), pos.getY(), pos.getZ(), range);
+			}
+			if(entry.inRange==null||entry.range!=range)
+			{
+				entry.inRange = query(transmitter, entry.x, entry.y, entry.z, range);
+				entry.range = range;
+			}
+			return entry.inRange;
+		}
+
+		private List<IRadioDevice> query(@Nullable IRadioDevice transmitter, int x, int y, int z, float range)
+		{
+			ArrayList<IRadioDevice> found = new ArrayList<>();
+			//Cells are measured from the position, as it can lie anywhere in its cell
+			int r = (int)Math.ceil(range);
+			double rangeSq = range*range;
+
+			for(int cx = (x-r)>>CELL_SHIFT; cx <= (x+r)>>CELL_SHIFT; cx++)
+				for(int cz = (z-r)>>CELL_SHIFT; cz <= (z+r)>>CELL_SHIFT; cz++)
+				{
+					ArrayList<RadioEntry> cell = cells.get(getCellKey(cx, cz));
+					if(cell!=null)
+						for(RadioEntry other : cell)
+						{
+							if(other.device==transmitter)
+								continue;
+							double dx = other.x-x, dy = other.y-y, dz = other.z-z;
+							if(dx*dx+dy*dy+dz*dz <= rangeSq)
+								found.add(other.device);
+						}
+				}
+			return found;
+		}
+	}
+
+	private static class RadioEntry
+	{
+		final IRadioDevice device;
+		final int x, y, z;
+		/**
+		 * Range for which {@link #inRange} was found
+		 */
+		float range = -1;
+		@Nullable
+		List<IRadioDevice> inRange = null;
+
+		RadioEntry(IRadioDevice device, int x, int y, int z)
+		{
+			this.device = device;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+	}
 }
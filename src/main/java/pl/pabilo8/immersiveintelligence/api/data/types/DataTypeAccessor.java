@@ -44,6 +44,18 @@ public class DataTypeAccessor extends DataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeAccessor copy()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -8,21 +8,37 @@ import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.IterableDataType;
 
 import javax.annotation.Nonnull;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
+ * An array of variables, backed by a growable buffer, so pushing and popping values is amortised O(1).<br>
+ * Arrays containing only integers or only floats store them as primitives, values are boxed when accessed.
+ *
  * @author Pabilo8
  * @since 2019-06-01
+ * @updated 18.10.2026
  */
 public class DataTypeArray extends IterableDataType
 {
-	public DataType[] value = new DataType[0];
+	/**
+	 * Max number of values an array can be created with
+	 */
+	public static final int MAX_CREATED_SIZE = 255;
+	private static final int MIN_CAPACITY = 8;
+
+	private Storage storage = Storage.OBJECTS;
+	private DataType[] objects = new DataType[0];
+	private int[] ints;
+	private float[] floats;
+	private int size = 0;
 
 	public DataTypeArray(DataType... i)
 	{
-		this.value = new DataType[Math.min(i.length, 255)];
-		System.arraycopy(i, 0, this.value, 0, this.value.length);
+		setValues(i);
 	}
 
 	public DataTypeArray(Collection<DataType> collection)
@@ -35,6 +51,290 @@ public class DataTypeArray extends IterableDataType
 
 	}
 
+	//--- Access ---//
+
+	/**
+	 * @return number of values in this array
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size==0;
+	}
+
+	/**
+	 * @param index index of the value, 0 to {@link #size()}-1
+	 * @return value at the index
+	 */
+	public DataType get(int index)
+	{
+		checkIndex(index, size);
+		switch(storage)
+		{
+			case INTS:
+				return new DataTypeInteger(ints[index]);
+			case FLOATS:
+				return new DataTypeFloat(floats[index]);
+			default:
+				return objects[index];
+		}
+	}
+
+	/**
+	 * @return read-only view of this array's values
+	 */
+	public List<DataType> asList()
+	{
+		return new AbstractList<DataType>()
+		{
+			@Override
+			public DataType get(int index)
+			{
+				return DataTypeArray.this.get(index);
+			}
+
+			@Override
+			public int size()
+			{
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * @return a copy of this array's values
+	 */
+	public DataType[] toArray()
+	{
+		DataType[] array = new DataType[size];
+		for(int i = 0; i < size; i++)
+			array[i] = get(i);
+		return array;
+	}
+
+	//--- Modification ---//
+
+	/**
+	 * Replaces all values of this array, at most {@link #MAX_CREATED_SIZE} are kept
+	 *
+	 * @param values new values
+	 */
+	public void setValues(DataType... values)
+	{
+		setValues(values, Math.min(values.length, MAX_CREATED_SIZE));
+	}
+
+	/**
+	 * Replaces all values of this array, without limiting their number
+	 *
+	 * @param values new values
+	 * @param count  number of values to be kept
+	 */
+	private void setValues(DataType[] values, int count)
+	{
+		this.storage = getStorage(values, count);
+		this.size = count;
+		this.objects = null;
+		this.ints = null;
+		this.floats = null;
+
+		switch(storage)
+		{
+			case INTS:
+				ints = new int[count];
+				for(int i = 0; i < count; i++)
+					ints[i] = ((DataTypeInteger)values[i]).value;
+				break;
+			case FLOATS:
+				floats = new float[count];
+				for(int i = 0; i < count; i++)
+					floats[i] = ((DataTypeFloat)values[i]).value;
+				break;
+			default:
+				objects = Arrays.copyOf(values, count);
+				break;
+		}
+	}
+
+	/**
+	 * @param index index of the value, 0 to {@link #size()}-1
+	 * @param value value to be set
+	 */
+	public void set(int index, DataType value)
+	{
+		checkIndex(index, size);
+		if(!fits(value))
+			toObjects();
+
+		switch(storage)
+		{
+			case INTS:
+				ints[index] = ((DataTypeInteger)value).value;
+				break;
+			case FLOATS:
+				floats[index] = ((DataTypeFloat)value).value;
+				break;
+			default:
+				objects[index] = value;
+				break;
+		}
+	}
+
+	/**
+	 * Adds a value at the end of this array
+	 *
+	 * @param value value to be added
+	 */
+	public void push(DataType value)
+	{
+		insert(size, value);
+	}
+
+	/**
+	 * Inserts a value at an index, moving the following values
+	 *
+	 * @param index index of the value, 0 to {@link #size()}
+	 * @param value value to be inserted
+	 */
+	public void insert(int index, DataType value)
+	{
+		checkIndex(index, size+1);
+		//Empty arrays can change their storage
+		if(size==0)
+			storage = getStorage(new DataType[]{value}, 1);
+		else if(!fits(value))
+			toObjects();
+
+		ensureCapacity(size+1);
+		Object buffer = getBuffer();
+		System.arraycopy(buffer, index, buffer, index+1, size-index);
+		size++;
+		set(index, value);
+	}
+
+	/**
+	 * Removes the last value of this array
+	 *
+	 * @return removed value or {@link DataTypeNull} if the array is empty
+	 */
+	public DataType pop()
+	{
+		if(size==0)
+			return new DataTypeNull();
+		DataType value = get(size-1);
+		size--;
+		if(storage==Storage.OBJECTS)
+			objects[size] = null;
+		return value;
+	}
+
+	/**
+	 * Swaps two values of this array
+	 *
+	 * @param first  index of the first value
+	 * @param second index of the second value
+	 */
+	public void swap(int first, int second)
+	{
+		DataType helper = get(first);
+		set(first, get(second));
+		set(second, helper);
+	}
+
+	//--- Storage ---//
+
+	private static Storage getStorage(DataType[] values, int count)
+	{
+		if(count==0)
+			return Storage.OBJECTS;
+
+		Class<?> type = values[0].getClass();
+		if(type!=DataTypeInteger.class&&type!=DataTypeFloat.class)
+			return Storage.OBJECTS;
+		for(int i = 1; i < count; i++)
+			if(values[i].getClass()!=type)
+				return Storage.OBJECTS;
+		return type==DataTypeInteger.class?Storage.INTS: Storage.FLOATS;
+	}
+
+	private boolean fits(DataType value)
+	{
+		switch(storage)
+		{
+			case INTS:
+				return value.getClass()==DataTypeInteger.class;
+			case FLOATS:
+				return value.getClass()==DataTypeFloat.class;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Converts primitive storage to an array of variables
+	 */
+	private void toObjects()
+	{
+		if(storage==Storage.OBJECTS)
+			return;
+		DataType[] converted = new DataType[Math.max(size, MIN_CAPACITY)];
+		for(int i = 0; i < size; i++)
+			converted[i] = get(i);
+		storage = Storage.OBJECTS;
+		objects = converted;
+		ints = null;
+		floats = null;
+	}
+
+	private Object getBuffer()
+	{
+		switch(storage)
+		{
+			case INTS:
+				return ints;
+			case FLOATS:
+				return floats;
+			default:
+				return objects;
+		}
+	}
+
+	private void ensureCapacity(int capacity)
+	{
+		switch(storage)
+		{
+			case INTS:
+				if(ints==null||ints.length < capacity)
+					ints = Arrays.copyOf(ints==null?new int[0]: ints, grow(capacity));
+				break;
+			case FLOATS:
+				if(floats==null||floats.length < capacity)
+					floats = Arrays.copyOf(floats==null?new float[0]: floats, grow(capacity));
+				break;
+			default:
+				if(objects==null||objects.length < capacity)
+					objects = Arrays.copyOf(objects==null?new DataType[0]: objects, grow(capacity));
+				break;
+		}
+	}
+
+	private int grow(int capacity)
+	{
+		return Math.max(Math.max(capacity, MIN_CAPACITY), size+(size>>1));
+	}
+
+	private static void checkIndex(int index, int bound)
+	{
+		if(index < 0||index >= bound)
+			throw new IndexOutOfBoundsException("Index: "+index+", Size: "+bound);
+	}
+
+	//--- Serialization ---//
+
 	@Override
 	public void valueFromNBT(NBTTagCompound n)
 	{
@@ -49,7 +349,9 @@ public class DataTypeArray extends IterableDataType
 					dataTypes.add(IIDataTypeUtils.getVarFromNBT(c));
 			}
 		}
-		this.value = dataTypes.toArray(new DataType[]{});
+		//Arrays can grow past the creation limit by pushing, so loading them can't cut them
+		DataType[] values = dataTypes.toArray(new DataType[]{});
+		setValues(values, values.length);
 	}
 
 	@Nonnull
@@ -58,21 +360,51 @@ public class DataTypeArray extends IterableDataType
 	{
 		NBTTagCompound nbt = getHeaderTag();
 		NBTTagList list = new NBTTagList();
-		for(DataType type : value)
-			list.appendTag(type.valueToNBT());
+		for(int i = 0; i < size; i++)
+			list.appendTag(get(i).valueToNBT());
 		nbt.setTag("Values", list);
 		return nbt;
 	}
 
+	@Override
+	public DataTypeArray copy()
+	{
+		DataTypeArray array = new DataTypeArray();
+		array.storage = storage;
+		array.size = size;
+		switch(storage)
+		{
+			case INTS:
+				array.ints = Arrays.copyOf(ints, size);
+				break;
+			case FLOATS:
+				array.floats = Arrays.copyOf(floats, size);
+				break;
+			default:
+				array.objects = new DataType[size];
+				for(int i = 0; i < size; i++)
+					array.objects[i] = objects[i].copy();
+				break;
+		}
+		return array;
+	}
+
 	@Override
 	public String toString()
 	{
-		if(value==null||value.length==0)
+		if(size==0)
 			return "[]";
 
 		StringBuilder s = new StringBuilder("[");
-		for(DataType type : value)
-			s.append(type.toString()).append(", ");
+		for(int i = 0; i < size; i++)
+			s.append(get(i).toString()).append(", ");
 		return s.delete(s.length()-2, s.length()-1).append("]").toString();
 	}
-}
\ No newline at end of file
+
+	private enum Storage
+	{
+		OBJECTS,
+		INTS,
+		FLOATS
+	}
+}
@@ -9,9 +9,14 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 2019-06-01
+ * @updated 18.10.2026
  */
 public class DataTypeBoolean extends DataType implements IComparableDataType<DataTypeBoolean>
 {
+	/**
+	 * Set only when the variable is created or read from NBT.<br>
+	 * The variable is {@link #isImmutable() immutable} and shared between cloned packets, to change the value create a new variable.
+	 */
 	public boolean value = false;
 
 	public DataTypeBoolean(boolean i)
@@ -38,6 +43,18 @@ public class DataTypeBoolean extends DataType implements IComparableDataType<Dat
 		return nbt;
 	}
 
+	@Override
+	public DataTypeBoolean copy()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -36,6 +36,12 @@ public class DataTypeEncrypted extends IterableDataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeEncrypted copy()
+	{
+		return new DataTypeEncrypted(value);
+	}
+
 	@Override
 	public String toString()
 	{
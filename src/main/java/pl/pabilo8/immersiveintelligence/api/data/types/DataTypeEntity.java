@@ -93,6 +93,18 @@ public class DataTypeEntity extends DataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeEntity copy()
+	{
+		DataTypeEntity entity = new DataTypeEntity();
+		entity.entityID = entityID;
+		entity.dimensionID = dimensionID;
+		entity.entityClass = entityClass;
+		entity.customName = customName;
+		entity.lastPos = lastPos;
+		return entity;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -15,6 +15,7 @@ import java.util.Arrays;
 /**
  * @author Pabilo8
  * @since 05-07-2019
+ * @updated 18.10.2026
  */
 public class DataTypeExpression extends DataType
 {
@@ -89,6 +90,70 @@ public class DataTypeExpression extends DataType
 		return operation.execute(packet, this);
 	}
 
+	/**
+	 * Links this expression with its operation and compiles its arguments, so it can be evaluated without checking its state each time.<br>
+	 * The expression must not be modified after compiling.
+	 *
+	 * @return a compiled form of this expression
+	 * @see DataOperation#compile(DataTypeExpression)
+	 */
+	public ICompiledValue compile()
+	{
+		return operation.compile(this);
+	}
+
+	/**
+	 * Compiles a variable into a closure returning its value.
+	 *
+	 * @param value variable to be compiled
+	 * @return a compiled value
+	 * @see #compileValue(DataType, boolean)
+	 */
+	public static ICompiledValue compileValue(DataType value)
+	{
+		return compileValue(value, true);
+	}
+
+	/**
+	 * Compiles a variable into a closure returning its value.<br>
+	 * Expressions are compiled recursively, accessors are resolved to packet slots and constants are returned directly.
+	 * Immutable constants are shared by all evaluations, mutable ones are copied for each evaluation, so operations can't modify the compiled value.
+	 *
+	 * @param value            variable to be compiled
+	 * @param allowExpressions whether an expression should be evaluated or returned as it is
+	 * @return a compiled value
+	 */
+	public static ICompiledValue compileValue(DataType value, boolean allowExpressions)
+	{
+		if(value instanceof DataTypeExpression&&allowExpressions)
+			return ((DataTypeExpression)value).compile();
+		if(value instanceof DataTypeAccessor)
+		{
+			final int slot = DataPacket.getSlot(((DataTypeAccessor)value).variable);
+			final DataTypeNull empty = new DataTypeNull();
+			if(slot==-1)
+				return packet -> empty;
+			return packet -> {
+				DataType type = packet.getSlotVariable(slot);
+				return type==null?empty: type;
+			};
+		}
+		if(value.isImmutable())
+			return packet -> value;
+		return packet -> value.copy();
+	}
+
+	/**
+	 * @return whether this expression or any of its nested expressions has a constant argument which can be modified, i.e. an array
+	 */
+	public boolean hasMutableConstants()
+	{
+		for(DataType argument : data)
+			if(argument instanceof DataTypeExpression?((DataTypeExpression)argument).hasMutableConstants(): !argument.isImmutable())
+				return true;
+		return false;
+	}
+
 	@Override
 	public void valueFromNBT(NBTTagCompound nbt)
 	{
@@ -116,12 +181,40 @@ public class DataTypeExpression extends DataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeExpression copy()
+	{
+		DataType[] copied = new DataType[data.length];
+		for(int i = 0; i < data.length; i++)
+			copied[i] = data[i].copy();
+
+		DataTypeExpression expression = new DataTypeExpression();
+		expression.data = copied;
+		expression.operation = operation;
+		expression.meta = meta;
+		expression.requiredVariable = requiredVariable;
+		return expression;
+	}
+
 	@Override
 	public String toString()
 	{
-		String symbol = operation.getMeta().expression();
+		String symbol = meta.expression();
 		if(!symbol.isEmpty())
 			return String.format(symbol, Arrays.stream(data).map(DataType::toString).toArray());
-		return operation.getMeta().name();
+		return meta.name();
+	}
+
+	/**
+	 * A variable compiled into a closure, see {@link #compileValue(DataType)}
+	 */
+	@FunctionalInterface
+	public interface ICompiledValue
+	{
+		/**
+		 * @param packet packet the value is evaluated in
+		 * @return value of the compiled variable
+		 */
+		DataType evaluate(DataPacket packet);
 	}
 }
@@ -8,9 +8,14 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 2019-06-01
+ * @updated 18.10.2026
  */
 public class DataTypeFloat extends NumericDataType
 {
+	/**
+	 * Set only when the variable is created or read from NBT.<br>
+	 * The variable is {@link #isImmutable() immutable} and shared between cloned packets, to change the value create a new variable.
+	 */
 	public float value = 0;
 
 	public DataTypeFloat(float i)
@@ -45,12 +50,36 @@ public class DataTypeFloat extends NumericDataType
 		return new DataTypeInteger(((int)this.value));
 	}
 
+	@Override
+	public int intValue()
+	{
+		return (int)value;
+	}
+
 	@Override
 	public DataTypeFloat asFloat()
 	{
 		return this;
 	}
 
+	@Override
+	public float floatValue()
+	{
+		return value;
+	}
+
+	@Override
+	public DataTypeFloat copy()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
 	@Override
 	public String toString()
 	{
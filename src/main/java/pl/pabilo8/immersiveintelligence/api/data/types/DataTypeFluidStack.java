@@ -55,6 +55,12 @@ public class DataTypeFluidStack extends DataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeFluidStack copy()
+	{
+		return value==null?new DataTypeFluidStack(): new DataTypeFluidStack(value);
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -8,9 +8,14 @@ import javax.annotation.Nonnull;
 /**
  * @author Pabilo8
  * @since 2019-06-01
+ * @updated 18.10.2026
  */
 public class DataTypeInteger extends NumericDataType
 {
+	/**
+	 * Set only when the variable is created or read from NBT.<br>
+	 * The variable is {@link #isImmutable() immutable} and shared between cloned packets, to change the value create a new variable.
+	 */
 	public int value = 0;
 
 	public DataTypeInteger(int i)
@@ -44,11 +49,35 @@ public class DataTypeInteger extends NumericDataType
 		return this;
 	}
 
+	@Override
+	public int intValue()
+	{
+		return value;
+	}
+
 	public DataTypeFloat asFloat()
 	{
 		return new DataTypeFloat((float)this.value);
 	}
 
+	@Override
+	public float floatValue()
+	{
+		return value;
+	}
+
+	@Override
+	public DataTypeInteger copy()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
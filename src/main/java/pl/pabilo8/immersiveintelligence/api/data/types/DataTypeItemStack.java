@@ -41,6 +41,12 @@ public class DataTypeItemStack extends DataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeItemStack copy()
+	{
+		return new DataTypeItemStack(value);
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
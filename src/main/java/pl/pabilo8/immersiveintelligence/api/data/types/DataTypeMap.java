@@ -152,6 +152,15 @@ public class DataTypeMap extends IterableDataType implements Map<DataType, DataT
 		return nbt;
 	}
 
+	@Override
+	public DataTypeMap copy()
+	{
+		DataTypeMap map = new DataTypeMap();
+		for(Entry<DataType, DataType> entry : values.entrySet())
+			map.values.put(entry.getKey().copy(), entry.getValue().copy());
+		return map;
+	}
+
 	@Override
 	public String toString()
 	{
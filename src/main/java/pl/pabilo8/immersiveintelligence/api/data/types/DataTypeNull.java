@@ -25,6 +25,18 @@ public class DataTypeNull extends DataType
 		return getHeaderTag();
 	}
 
+	@Override
+	public DataTypeNull copy()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -7,9 +7,14 @@ import pl.pabilo8.immersiveintelligence.api.data.types.generic.IComparableDataTy
 /**
  * @author Pabilo8
  * @since 2019-06-01
+ * @updated 18.10.2026
  */
 public class DataTypeString extends DataType implements IComparableDataType<DataTypeString>
 {
+	/**
+	 * Set only when the variable is created or read from NBT.<br>
+	 * The variable is {@link #isImmutable() immutable} and shared between cloned packets, to change the value create a new variable.
+	 */
 	public String value = "";
 
 	public DataTypeString(String i)
@@ -36,6 +41,18 @@ public class DataTypeString extends DataType implements IComparableDataType<Data
 		return nbt;
 	}
 
+	@Override
+	public DataTypeString copy()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
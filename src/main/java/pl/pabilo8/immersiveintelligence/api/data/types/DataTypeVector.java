@@ -64,6 +64,14 @@ public class DataTypeVector extends DataType
 		return nbt;
 	}
 
+	@Override
+	public DataTypeVector copy()
+	{
+		DataTypeVector vector = new DataTypeVector(x, y, z);
+		vector.integerVector = integerVector;
+		return vector;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -4,6 +4,7 @@ import mcp.MethodsReturnNonnullByDefault;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
 import pl.pabilo8.immersiveintelligence.api.data.IIDataHandlingUtils;
+import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
 import pl.pabilo8.immersiveintelligence.common.util.IIColor;
 import pl.pabilo8.immersiveintelligence.common.util.IIReference;
 import pl.pabilo8.immersiveintelligence.common.util.ResLoc;
@@ -29,6 +30,29 @@ public abstract class DataType
 	 */
 	public abstract NBTTagCompound valueToNBT();
 
+	/**
+	 * Creates a structural copy of this variable, without serializing it to NBT.<br>
+	 * Immutable types can return themselves, mutable ones (arrays, maps, stacks) have to return a deep copy.<br>
+	 * The default implementation falls back to a NBT round-trip, for types that don't provide their own copy.
+	 *
+	 * @return a copy of this variable, safe to be modified independently of the original
+	 * @see #isImmutable()
+	 */
+	public DataType copy()
+	{
+		return IIDataTypeUtils.getVarFromNBT(valueToNBT());
+	}
+
+	/**
+	 * Immutable variables can be shared between packets, as their value is never changed after they're created.
+	 *
+	 * @return whether {@link #copy()} returns this instance
+	 */
+	public boolean isImmutable()
+	{
+		return false;
+	}
+
 	/**
 	 * Sets header (type name) while saving the variable to NBT
 	 *
@@ -9,22 +9,34 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static blusunrize.immersiveengineering.api.energy.wires.ImmersiveNetHandler.INSTANCE;
 import static pl.pabilo8.immersiveintelligence.api.rotary.IIRotaryUtils.BELT_GENERAL_CATEGORY;
 
 /**
+ * A network of {@link IMotorBeltConnector}s connected with motor belts.<br>
+ * Torque of the network is the sum of connectors' torques, speed is the highest speed of a connector, reduced by belt loss.
+ * Both are kept as running aggregates, so a change of a single connector doesn't require going over the whole network.<br>
+ * Connectors are notified (and synced to clients) only when the values change noticeably, see {@link #SYNC_THRESHOLD}.
+ *
  * @author Pabilo8
- * @updated 09.08.2024
+ * @updated 18.10.2026
  * @ii-approved 0.3.1
  * @since 2019-05-31
  */
 public class MotorBeltNetwork
 {
+	/**
+	 * Relative change of speed or torque required to notify the connectors
+	 */
+	private static final float SYNC_THRESHOLD = 0.05f;
+	/**
+	 * Interval (in ticks) after which the connectors are notified, even if the values didn't change, so clients that just came into range are synced
+	 */
+	private static final int SYNC_INTERVAL = 100;
+
 	/**
 	 * All connectors in this rotary network
 	 */
@@ -46,6 +58,24 @@ public class MotorBeltNetwork
 	 */
 	private float torque = 0f;
 
+	/**
+	 * Torque and speed each connector contributes to the network, as of the last update
+	 */
+	private final IdentityHashMap<IMotorBeltConnector, float[]> contributions = new IdentityHashMap<>();
+	/**
+	 * Speeds of {@link #contributions}, with their counts, the highest one is the network's speed
+	 */
+	private final TreeMap<Float, Integer> speeds = new TreeMap<>();
+	/**
+	 * Sum of torques of {@link #contributions}
+	 */
+	private double torqueSum = 0;
+	/**
+	 * Values the connectors were last notified with
+	 */
+	private float syncedSpeed = 0, syncedTorque = 0;
+	private long lastSync = 0;
+
 	public static void updateConnectors(BlockPos start, World world, MotorBeltNetwork network)
 	{
 		int dimension = world.provider.getDimension();
@@ -53,6 +83,7 @@ public class MotorBeltNetwork
 		open.add(start);
 		Set<BlockPos> closed = new HashSet<>();
 		network.connectors.clear();
+		network.connections.clear();
 		network.loss = 0;
 		while(!open.isEmpty())
 		{
@@ -107,12 +138,14 @@ public class MotorBeltNetwork
 				start = conn.get();
 				break;
 			}
+		//Values are updated after searching the network
 		if(start!=null)
 		{
 			BlockPos startPos = Utils.toCC(start);
 			updateConnectors(startPos, start.getConnectorWorld(), this);
 		}
-		updateValues();
+		else
+			updateValues();
 	}
 
 	public void removeFromNetwork(IMotorBeltConnector removedConnector)
@@ -133,27 +166,125 @@ public class MotorBeltNetwork
 
 	}
 
+	/**
+	 * Recalculates all values of the network and notifies all connectors.<br>
+	 * Should be called after connectors were added or removed.
+	 */
 	public void updateValues()
 	{
-		speed = torque = 0;
-		Set<IMotorBeltConnector> validReferences = connectors.stream().map(Reference::get)
-				.filter(Objects::nonNull)
-				.collect(Collectors.toSet());
-
-		//rpm is the average (not counting 0)
-		//torque is the sum
-		validReferences.stream()
-				.map(IMotorBeltConnector::getRotaryStorage)
-				.forEach(storage -> {
-					torque += storage.getTorque();
-					if(storage.speed > speed)
-						speed = storage.speed;
-				});
-
-		loss = (float)connections.stream().mapToDouble(Connection::getBaseLoss).sum();
-		speed = Math.max(0, speed-(speed*loss));
-
-		validReferences.forEach(IMotorBeltConnector::onChange);
+		contributions.clear();
+		speeds.clear();
+		torqueSum = 0;
+		connectors.removeIf(ref -> ref.get()==null);
+		for(WeakReference<IMotorBeltConnector> ref : connectors)
+		{
+			IMotorBeltConnector connector = ref.get();
+			if(connector!=null&&!contributions.containsKey(connector))
+				addContribution(connector);
+		}
+
+		loss = 0;
+		for(Connection connection : connections)
+			loss += connection.getBaseLoss();
+
+		calculateValues();
+		notifyConnectors();
+	}
+
+	/**
+	 * Updates the network after rotary storage of a connector has changed.<br>
+	 * Connectors are notified only if the values changed by more than {@link #SYNC_THRESHOLD} or after {@link #SYNC_INTERVAL}.
+	 *
+	 * @param connector connector of this network
+	 */
+	public void updateConnector(IMotorBeltConnector connector)
+	{
+		float[] contribution = contributions.get(connector);
+		if(contribution==null)
+		{
+			//Not a part of this network (yet)
+			updateValues();
+			return;
+		}
+
+		RotaryStorage storage = connector.getRotaryStorage();
+		if(contribution[0]==storage.getTorque()&&contribution[1]==storage.speed&&!shouldResync(connector))
+			return;
+
+		removeContribution(connector);
+		addContribution(connector);
+		calculateValues();
+
+		if(exceedsThreshold(syncedSpeed, speed)||exceedsThreshold(syncedTorque, torque)||shouldResync(connector))
+			notifyConnectors();
+	}
+
+	/**
+	 * Removes a connector's torque and speed from the network, i.e. when it's unloaded
+	 *
+	 * @param connector connector of this network
+	 */
+	public void removeConnector(IMotorBeltConnector connector)
+	{
+		if(removeContribution(connector))
+			calculateValues();
+	}
+
+	private void addContribution(IMotorBeltConnector connector)
+	{
+		RotaryStorage storage = connector.getRotaryStorage();
+		float[] contribution = new float[]{storage.getTorque(), storage.speed};
+		contributions.put(connector, contribution);
+		torqueSum += contribution[0];
+		speeds.merge(contribution[1], 1, Integer::sum);
+	}
+
+	private boolean removeContribution(IMotorBeltConnector connector)
+	{
+		float[] contribution = contributions.remove(connector);
+		if(contribution==null)
+			return false;
+		torqueSum -= contribution[0];
+		speeds.computeIfPresent(contribution[1], (key, count) -> count > 1?count-1: null);
+		return true;
+	}
+
+	private void calculateValues()
+	{
+		//Rounding errors could leave a tiny torque in an idle network
+		if(contributions.isEmpty())
+			torqueSum = 0;
+		torque = (float)torqueSum;
+		float maxSpeed = speeds.isEmpty()?0: Math.max(0, speeds.lastKey());
+		speed = Math.max(0, maxSpeed-(maxSpeed*loss));
+	}
+
+	private void notifyConnectors()
+	{
+		syncedSpeed = speed;
+		syncedTorque = torque;
+
+		for(WeakReference<IMotorBeltConnector> ref : connectors)
+		{
+			IMotorBeltConnector connector = ref.get();
+			if(connector!=null)
+			{
+				lastSync = connector.getConnectorWorld().getTotalWorldTime();
+				connector.onChange();
+			}
+		}
+	}
+
+	private boolean shouldResync(IMotorBeltConnector connector)
+	{
+		return connector.getConnectorWorld().getTotalWorldTime()-lastSync >= SYNC_INTERVAL;
+	}
+
+	private static boolean exceedsThreshold(float synced, float current)
+	{
+		if((synced==0)!=(current==0))
+			return true;
+		return Math.abs(current-synced) > Math.abs(synced)*SYNC_THRESHOLD;
 	}
 
 	//Use this when outputting energy with a connector
@@ -42,6 +42,7 @@ import java.util.ArrayList;
 /**
  * @author Pabilo8
  * @since 09-02-2020
+ * @updated 18.10.2026
  */
 public class GuiDataRedstoneInterfaceData extends GuiIEContainerBase implements ITabbedGui
 {
@@ -233,20 +234,20 @@ public class GuiDataRedstoneInterfaceData extends GuiIEContainerBase implements
 				{
 					DataTypeArray array = (DataTypeArray)list.getPacketVariable(c);
 					GlStateManager.pushMatrix();
-					if(array.value.length < 2||!(array.value[0] instanceof DataTypeInteger)||!(array.value[1] instanceof DataTypeInteger))
-						array.value = new DataTypeInteger[]{new DataTypeInteger(0), new DataTypeInteger(0)};
+					if(array.size() < 2||!(array.get(0) instanceof DataTypeInteger)||!(array.get(1) instanceof DataTypeInteger))
+						array.setValues(new DataTypeInteger(0), new DataTypeInteger(0));
 
-					float[] color = EnumDyeColor.byMetadata(((DataTypeInteger)array.value[0]).value).getColorComponentValues();
+					float[] color = EnumDyeColor.byMetadata(((DataTypeInteger)array.get(0)).value).getColorComponentValues();
 					GlStateManager.color(color[0], color[1], color[2]);
 					//this.drawTexturedModalRect(drawx+3, drawy+3, 155, 222, 16, 14);
 
 					this.drawTexturedModalRect(drawx+33, drawy+3, 155, 222, 16, 14);
-					this.fontRenderer.drawString(I18n.format("tile."+ImmersiveIntelligence.MODID+".metal_multiblock.redstone_interface.modes."+((DataTypeInteger)array.value[1]).value), drawx+64, drawy+6, data.getTypeColor().getPackedRGB(), true);
+					this.fontRenderer.drawString(I18n.format("tile."+ImmersiveIntelligence.MODID+".metal_multiblock.redstone_interface.modes."+((DataTypeInteger)array.get(1)).value), drawx+64, drawy+6, data.getTypeColor().getPackedRGB(), true);
 
 					GlStateManager.popMatrix();
 
-					DataTypeInteger i1 = (DataTypeInteger)array.value[0];
-					DataTypeInteger i2 = (DataTypeInteger)array.value[1];
+					DataTypeInteger i1 = (DataTypeInteger)array.get(0);
+					DataTypeInteger i2 = (DataTypeInteger)array.get(1);
 
 					if(Mouse.isButtonDown(0)&&!wasDown)
 						switch(changeButton)
@@ -254,10 +255,10 @@ public class GuiDataRedstoneInterfaceData extends GuiIEContainerBase implements
 							case 0:
 								break;
 							case 1:
-								i1.value = IIUtils.cycleInt(true, i1.value, 0, 15);
+								array.set(0, new DataTypeInteger(IIUtils.cycleInt(true, i1.value, 0, 15)));
 								break;
 							case 2:
-								i1.value = IIUtils.cycleInt(false, i1.value, 0, 15);
+								array.set(0, new DataTypeInteger(IIUtils.cycleInt(false, i1.value, 0, 15)));
 								break;
 							case 3:
 							{
@@ -295,7 +296,7 @@ public class GuiDataRedstoneInterfaceData extends GuiIEContainerBase implements
 							break;
 							case 5:
 							{
-								i2.value = IIUtils.cycleInt(true, i2.value, 0, 5);
+								array.set(1, new DataTypeInteger(IIUtils.cycleInt(true, i2.value, 0, 5)));
 							}
 							break;
 						}
@@ -12,6 +12,7 @@ import pl.pabilo8.immersiveintelligence.common.util.IIReference;
 /**
  * @author Pabilo8
  * @since 07.09.2021
+ * @updated 18.10.2026
  */
 public class GuiDataEditorBoolean extends GuiDataEditor<DataTypeBoolean>
 {
@@ -83,7 +84,7 @@ public class GuiDataEditorBoolean extends GuiDataEditor<DataTypeBoolean>
 	@Override
 	public DataTypeBoolean outputType()
 	{
-		dataType.value = editedstate;
-		return dataType;
+		//Variables may be shared between packets, so a new one is created
+		return dataType = new DataTypeBoolean(editedstate);
 	}
 }
@@ -13,6 +13,7 @@ import java.io.IOException;
 /**
  * @author Pabilo8
  * @since 07.09.2021
+ * @updated 18.10.2026
  */
 public class GuiDataEditorFloat extends GuiDataEditor<DataTypeFloat>
 {
@@ -78,8 +79,8 @@ public class GuiDataEditorFloat extends GuiDataEditor<DataTypeFloat>
 	@Override
 	public DataTypeFloat outputType()
 	{
-		dataType.value = getFieldValue();
-		return dataType;
+		//Variables may be shared between packets, so a new one is created
+		return dataType = new DataTypeFloat(getFieldValue());
 	}
 
 	@Override
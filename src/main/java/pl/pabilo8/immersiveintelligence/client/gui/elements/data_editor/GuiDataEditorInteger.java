@@ -16,6 +16,7 @@ import java.util.ArrayList;
 /**
  * @author Pabilo8
  * @since 07.09.2021
+ * @updated 18.10.2026
  */
 public class GuiDataEditorInteger extends GuiDataEditor<DataTypeInteger>
 {
@@ -114,8 +115,8 @@ public class GuiDataEditorInteger extends GuiDataEditor<DataTypeInteger>
 	@Override
 	public DataTypeInteger outputType()
 	{
-		dataType.value = getFieldValue();
-		return dataType;
+		//Variables may be shared between packets, so a new one is created
+		return dataType = new DataTypeInteger(getFieldValue());
 	}
 
 	@Override
@@ -14,6 +14,7 @@ import java.io.IOException;
 /**
  * @author Pabilo8
  * @since 07.09.2021
+ * @updated 18.10.2026
  */
 public class GuiDataEditorString extends GuiDataEditor<DataTypeString>
 {
@@ -80,8 +81,8 @@ public class GuiDataEditorString extends GuiDataEditor<DataTypeString>
 	@Override
 	public DataTypeString outputType()
 	{
-		dataType.value = this.valueEdit.getText();
-		return dataType;
+		//Variables may be shared between packets, so a new one is created
+		return dataType = new DataTypeString(this.valueEdit.getText());
 	}
 
 	@Override
@@ -13,6 +13,7 @@ import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.EntityDamageSourceIndirect;
 import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.GameRules.ValueType;
 import net.minecraftforge.event.GameRuleChangeEvent;
@@ -24,16 +25,22 @@ import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent.BreakEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
 import pl.pabilo8.immersiveintelligence.api.ammo.penetration.DamageBlockPos;
 import pl.pabilo8.immersiveintelligence.api.ammo.utils.IIAmmoUtils;
 import pl.pabilo8.immersiveintelligence.api.ammo.utils.PenetrationCache;
+import pl.pabilo8.immersiveintelligence.api.data.pol.POLScheduler;
 import pl.pabilo8.immersiveintelligence.api.utils.IAdvancedMultiblock;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Ammunition;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Weapons;
@@ -42,12 +49,17 @@ import pl.pabilo8.immersiveintelligence.common.compat.IICompatModule;
 import pl.pabilo8.immersiveintelligence.common.crafting.IIRecipes;
 import pl.pabilo8.immersiveintelligence.common.entity.EntityHans;
 import pl.pabilo8.immersiveintelligence.common.entity.EntityMachinegun;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.ProjectileManager;
 import pl.pabilo8.immersiveintelligence.common.entity.ammo.types.EntityAmmoProjectile;
 import pl.pabilo8.immersiveintelligence.common.item.ammo.ItemIIBulletMagazine;
 import pl.pabilo8.immersiveintelligence.common.item.armor.ItemIILightEngineerBoots;
+import pl.pabilo8.immersiveintelligence.common.network.EffectQueue;
 import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
 import pl.pabilo8.immersiveintelligence.common.network.messages.MessageBlockDamageSync;
+import pl.pabilo8.immersiveintelligence.common.util.BlockDestructionQueue;
 import pl.pabilo8.immersiveintelligence.common.util.IIReference;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.FieldSyncQueue;
+import pl.pabilo8.immersiveintelligence.common.util.entity.EntityTargetIndex;
 import pl.pabilo8.immersiveintelligence.common.util.item.IIItemUtil;
 import pl.pabilo8.immersiveintelligence.common.util.item.ItemIIUpgradeableArmor;
 
@@ -56,6 +68,7 @@ import pl.pabilo8.immersiveintelligence.common.util.item.ItemIIUpgradeableArmor;
  *
  * @author Pabilo8
  * @since 23.09.2023
+ * @updated 18.10.2026
  */
 public class EventHandler
 {
@@ -121,6 +134,11 @@ public class EventHandler
 	public static void onUnload(WorldEvent.Unload event)
 	{
 		IISaveData.setDirty(event.getWorld().provider.getDimension());
+		if(!event.getWorld().isRemote)
+		{
+			EntityTargetIndex.clear(event.getWorld().provider.getDimension());
+			ProjectileManager.clear(event.getWorld().provider.getDimension());
+		}
 	}
 
 	@SubscribeEvent
@@ -198,23 +216,41 @@ public class EventHandler
 	@SubscribeEvent
 	public void onBreakBlock(BreakEvent event)
 	{
-		DamageBlockPos dpos = null;
-		for(DamageBlockPos g : PenetrationCache.blockDamage)
-		{
-			if(g.dimension==event.getWorld().provider.getDimension()&&event.getPos().equals(g)) ;
-			{
-				dpos = g;
-				break;
-			}
-		}
+		DamageBlockPos dpos = PenetrationCache.removeBlockDamage(event.getWorld().provider.getDimension(), event.getPos());
 		if(dpos!=null)
 		{
-			PenetrationCache.blockDamage.remove(dpos);
 			dpos.damage = 0;
-			IIPacketHandler.INSTANCE.sendToAllAround(new MessageBlockDamageSync(dpos), IIPacketHandler.targetPointFromPos(dpos, event.getWorld(), 32));
+			EffectQueue.queue(event.getWorld(), new Vec3d(dpos), 32, new MessageBlockDamageSync(dpos));
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event)
+	{
+		if(!event.getWorld().isRemote)
+			PenetrationCache.onChunkUnload(event.getWorld().provider.getDimension(), event.getChunk().getPos());
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(WorldTickEvent event)
+	{
+		if(event.side==Side.SERVER&&event.phase==Phase.END)
+		{
+			ProjectileManager.updateWorld(event.world);
+			PenetrationCache.healBlockDamage(event.world);
+			BlockDestructionQueue.updateWorld(event.world);
+			FieldSyncQueue.flush(event.world);
+			EffectQueue.flush(event.world);
 		}
 	}
 
+	@SubscribeEvent
+	public void onServerTick(ServerTickEvent event)
+	{
+		if(event.phase==Phase.END)
+			POLScheduler.onServerTick();
+	}
+
 	@SubscribeEvent(priority = EventPriority.LOW)
 	public void onLivingUpdate(LivingUpdateEvent event)
 	{
@@ -228,6 +264,13 @@ public class EventHandler
 		}
 	}
 
+	@SubscribeEvent(priority = EventPriority.LOWEST)
+	public void onEntityJoin(EntityJoinWorldEvent event)
+	{
+		if(!event.getWorld().isRemote&&!event.isCanceled())
+			EntityTargetIndex.onEntityJoin(event.getWorld(), event.getEntity());
+	}
+
 	//--- Hanses ---//
 
 	@SubscribeEvent
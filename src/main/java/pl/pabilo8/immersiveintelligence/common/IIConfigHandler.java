@@ -836,6 +836,9 @@ public class IIConfigHandler
 				public static int taskTime = 20;
 				@Comment({"How many items can be taken per single operation"})
 				public static int maxTake = 32;
+				@RangeInt(min = 1)
+				@Comment({"Max delay (in ticks) between task checks of an idle inserter, the delay doubles each time no task can be started"})
+				public static int maxIdleDelay = 40;
 			}
 
 			public static class AdvancedInserter
@@ -997,6 +1000,16 @@ public class IIConfigHandler
 			//thanks for reminding me, trainmaniac ^^
 			@Comment({"Whether blocks should be damaged when hit by bullets"})
 			public static boolean blockDamage = true;
+			@RangeInt(min = 0)
+			@Comment({"Time (in ticks) it takes for a block damaged by bullets to fully heal. 0 disables healing."})
+			public static int blockDamageHealTime = 12000;
+			@RangeInt(min = 0)
+			@Comment({"Max amount of damaged blocks remembered per dimension, the least recently hit ones are forgotten first. 0 means no limit."})
+			public static int blockDamageLimit = 8192;
+			@Comment({"Whether block damage should be forgotten when the chunk it's in is unloaded"})
+			public static boolean blockDamageChunkUnload = false;
+			@Comment({"Whether bullets of machineguns, emplacements and handheld guns should be simulated without spawning them as entities (improves performance)"})
+			public static boolean pooledProjectiles = true;
 
 			@Comment({"Whether bullets should whistle, when flying close to player (slightly affects performance)"})
 			public static boolean bulletsWhistleSound = true;
@@ -1565,6 +1578,14 @@ public class IIConfigHandler
 			@Comment({"Whether explosive ammo components can break blocks"})
 			public static boolean blockDamage = true;
 
+			@RangeInt(min = 0)
+			@Comment({"Explosions affecting more blocks than this destroy them over multiple ticks. 0 means all explosions do."})
+			public static int queuedExplosionBlocks = 4096;
+
+			@RangeInt(min = 1)
+			@Comment({"Time (in milliseconds) spent each tick on destroying blocks of large explosions, per dimension."})
+			public static int explosionTickBudget = 10;
+
 			@Comment({"Default velocity of a mortar shell."})
 			public static float mortarVelocity = 8f*0.7f;
 
@@ -5,8 +5,8 @@ import net.minecraft.nbt.NBTTagIntArray;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
-import pl.pabilo8.immersiveintelligence.api.ammo.penetration.DamageBlockPos;
 import pl.pabilo8.immersiveintelligence.api.ammo.utils.PenetrationCache;
+import pl.pabilo8.immersiveintelligence.common.util.BlockDestructionQueue;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.EasyNBT;
 
 /**
@@ -41,23 +41,20 @@ public class IISaveData extends WorldSavedData
 		EasyNBT enbt = EasyNBT.wrapNBT(nbt);
 
 		//Load block damage data
-		PenetrationCache.blockDamage.clear();
-		PenetrationCache.blockDamageClient.clear();
+		PenetrationCache.clearBlockDamage();
 		try
 		{
 			if(enbt.hasKey("block_dmg"))
-			{
 				enbt.streamList(NBTTagIntArray.class, "block_dmg", EasyNBT.TAG_INT_ARRAY)
 						.map(NBTTagIntArray::getIntArray)
-						.filter(t -> t.length==5)
-						.map(t -> new DamageBlockPos(t[0], t[1], t[2], t[3], (float)t[4]/16))
-						.forEach(PenetrationCache.blockDamage::add);
-				PenetrationCache.blockDamageClient.addAll(PenetrationCache.blockDamage);
-			}
+						.forEach(PenetrationCache::readBlockDamage);
 		} catch(Exception e)
 		{
 			IILogger.info("Error in the block damage list!");
 		}
+
+		//Load unfinished explosions
+		BlockDestructionQueue.readFromNBT(nbt.getTagList("explosion_queue", EasyNBT.TAG_COMPOUND));
 	}
 
 	@Override
@@ -66,9 +63,8 @@ public class IISaveData extends WorldSavedData
 
 		//Save block damage data
 		EasyNBT.wrapNBT(nbt)
-				.withList("block_dmg", e -> new NBTTagIntArray(new int[]{
-						e.getX(), e.getY(), e.getZ(), e.dimension, (int)(e.damage*16)
-				}), PenetrationCache.blockDamage);
+				.withList("block_dmg", NBTTagIntArray::new, PenetrationCache.writeBlockDamage())
+				.withTag("explosion_queue", BlockDestructionQueue.writeToNBT());
 		return nbt;
 	}
 
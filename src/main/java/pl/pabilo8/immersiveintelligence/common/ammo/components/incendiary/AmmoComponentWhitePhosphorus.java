@@ -17,6 +17,7 @@ import pl.pabilo8.immersiveintelligence.api.ammo.parts.AmmoComponent;
 import pl.pabilo8.immersiveintelligence.common.IIPotions;
 import pl.pabilo8.immersiveintelligence.common.IISounds;
 import pl.pabilo8.immersiveintelligence.common.entity.ammo.component.EntityWhitePhosphorus;
+import pl.pabilo8.immersiveintelligence.common.network.EffectQueue;
 import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
 import pl.pabilo8.immersiveintelligence.common.network.messages.MessageParticleEffect;
 import pl.pabilo8.immersiveintelligence.common.util.IIColor;
@@ -29,6 +30,7 @@ import javax.annotation.Nullable;
  * @since 10.07.2021
  * @authir Avalon
  * @updated 14.9.2024
+ * @updated 18.10.2026
  */
 public class AmmoComponentWhitePhosphorus extends AmmoComponent
 {
@@ -70,7 +72,7 @@ public class AmmoComponentWhitePhosphorus extends AmmoComponent
 			}
 
 			// Send particle effect message to nearby clients
-			IIPacketHandler.INSTANCE.sendToAllAround(new MessageParticleEffect("white_phosphorus", world, pos.addVector(0, 1, 0)), IIPacketHandler.targetPointFromPos(pos, world, 48));
+			EffectQueue.queue(world, pos, 48, new MessageParticleEffect("white_phosphorus", world, pos.addVector(0, 1, 0)));
 
 			// Area of effect cloud (applies potion effects)
 			EntityAreaEffectCloud cloud = new EntityAreaEffectCloud(world, pos.x + v.x, pos.y + v.y + 1f, pos.z + v.z);
@@ -108,7 +110,7 @@ public class AmmoComponentWhitePhosphorus extends AmmoComponent
 			}
 
 			// Send particle effect with burst ID
-			IIPacketHandler.INSTANCE.sendToAllAround(new MessageParticleEffect("white_phosphorus_burst", world, pos.addVector(0, 1, 0)), IIPacketHandler.targetPointFromPos(pos, world, 64));
+			EffectQueue.queue(world, pos, 64, new MessageParticleEffect("white_phosphorus_burst", world, pos.addVector(0, 1, 0)));
 
 			// A larger, faster dissipating cloud
 			EntityAreaEffectCloud cloud = new EntityAreaEffectCloud(world, pos.x + dir.x, pos.y + dir.y + 1f, pos.z + dir.z);
@@ -151,14 +151,14 @@ public class TileEntityDataConnector extends TileEntityImmersiveConnectable impl
 	public void connectCable(WireType cableType, TargetingInfo target, IImmersiveConnectable other)
 	{
 		super.connectCable(cableType, target, other);
-		DataWireNetwork.updateConnectors(pos, world, wireNetwork);
+		DataWireNetwork.connectConnectors(this, other);
 	}
 
 	@Override
 	public void removeCable(@Nullable ImmersiveNetHandler.Connection connection)
 	{
 		super.removeCable(connection);
-		wireNetwork.removeFromNetwork(this);
+		wireNetwork.removeConnection(this, connection);
 	}
 
 	@Override
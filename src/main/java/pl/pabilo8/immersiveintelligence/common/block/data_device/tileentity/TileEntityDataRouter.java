@@ -9,9 +9,11 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataConnector;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice;
@@ -106,13 +108,15 @@ public class TileEntityDataRouter extends TileEntityIEBase implements IPlayerInt
 	@Override
 	public void onReceive(DataPacket packet, EnumFacing side)
 	{
-		if(packet.getPacketVariable(variable) instanceof DataTypeInteger)
+		int slot = DataPacket.getSlot(variable);
+		if(slot!=-1&&packet.getSlotVariable(slot) instanceof DataTypeInteger)
 		{
-			int c = ((DataTypeInteger)packet.getPacketVariable(variable)).value;
-			if(world.isBlockLoaded(this.pos.offset(EnumFacing.getFront(c)))&&world.getTileEntity(this.pos.offset(EnumFacing.getFront(c))) instanceof IDataConnector)
+			BlockPos offset = this.pos.offset(EnumFacing.getFront(packet.getInt(variable)));
+			if(world.isBlockLoaded(offset))
 			{
-				IDataConnector d = (IDataConnector)world.getTileEntity(this.pos.offset(EnumFacing.getFront(c)));
-				d.sendPacket(packet);
+				TileEntity te = world.getTileEntity(offset);
+				if(te instanceof IDataConnector)
+					((IDataConnector)te).sendPacket(packet);
 			}
 		}
 
@@ -222,7 +222,7 @@ public class TileEntityProgrammableSpeaker extends TileEntityImmersiveConnectabl
 		}
 		else if(Objects.equals(cableType.getCategory(), IIDataWireType.DATA.getCategory())&&this.wireData==null)
 		{
-			DataWireNetwork.updateConnectors(pos, world, dataNetwork);
+			DataWireNetwork.connectConnectors(this, other);
 			this.wireData = cableType;
 		}
 
@@ -246,7 +246,7 @@ public class TileEntityProgrammableSpeaker extends TileEntityImmersiveConnectabl
 		}
 		if(type==wireData)
 		{
-			dataNetwork.removeFromNetwork(this);
+			dataNetwork.removeConnection(this, connection);
 			this.wireData = null;
 		}
 		this.markContainingBlockForUpdate(null);
@@ -136,7 +136,7 @@ public class TileEntityChemicalDispenser extends TileEntityImmersiveConnectable
 			case 0:
 				if(this.limitType==null)
 				{
-					DataWireNetwork.updateConnectors(pos, world, wireNetwork);
+					DataWireNetwork.connectConnectors(this, other);
 					this.limitType = cableType;
 				}
 				break;
@@ -172,7 +172,7 @@ public class TileEntityChemicalDispenser extends TileEntityImmersiveConnectable
 		}
 		if(type==limitType)
 		{
-			wireNetwork.removeFromNetwork(this);
+			wireNetwork.removeConnection(this, connection);
 			this.limitType = null;
 		}
 		if(type==secondCable)
@@ -139,7 +139,7 @@ public class TileEntityFluidInserter extends TileEntityImmersiveConnectable impl
 			case 0:
 				if(this.limitType==null)
 				{
-					DataWireNetwork.updateConnectors(pos, world, wireNetwork);
+					DataWireNetwork.connectConnectors(this, other);
 					this.limitType = cableType;
 				}
 				break;
@@ -175,7 +175,7 @@ public class TileEntityFluidInserter extends TileEntityImmersiveConnectable impl
 		}
 		if(type==limitType)
 		{
-			wireNetwork.removeFromNetwork(this);
+			wireNetwork.removeConnection(this, connection);
 			this.limitType = null;
 		}
 		if(type==secondCable)
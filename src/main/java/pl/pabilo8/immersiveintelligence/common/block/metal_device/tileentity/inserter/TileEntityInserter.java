@@ -11,7 +11,6 @@ import net.minecraft.entity.item.EntityMinecartEmpty;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -303,23 +302,7 @@ public class TileEntityInserter extends TileEntityInserterBase
 		@ParametersAreNonnullByDefault
 		public boolean canExecute(TileEntityInserterBase tile, World world, BlockPos posIn, BlockPos posOut, EnumFacing facingIn, EnumFacing facingOut, boolean in)
 		{
-			IItemHandler cap = null;
-
-			//prioritize TEs first
-			TileEntity te = world.getTileEntity(in?posIn: posOut);
-			EnumFacing facing = (in?facingIn: facingOut);
-			if(te!=null&&te.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite()))
-				cap = te.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite());
-			else //if no TE, try to find entity with cap
-			{
-				Optional<Entity> first = world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(in?posIn: posOut),
-								input -> input.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite()))
-						.stream()
-						.findFirst();
-
-				if(first.isPresent())
-					cap = first.get().getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite());
-			}
+			IItemHandler cap = getItemHandler(tile, world, in?posIn: posOut, in?facingIn: facingOut);
 
 			if(cap!=null)
 			{
@@ -358,23 +341,7 @@ public class TileEntityInserter extends TileEntityInserterBase
 		@Override
 		public boolean execute(TileEntityInserterBase tile, World world, BlockPos posIn, BlockPos posOut, EnumFacing facingIn, EnumFacing facingOut, boolean in)
 		{
-			IItemHandler cap = null;
-
-			//prioritize TEs first
-			TileEntity te = world.getTileEntity(in?posIn: posOut);
-			EnumFacing facing = (in?facingIn: facingOut);
-			if(te!=null&&te.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite()))
-				cap = te.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite());
-			else //if no TE, try to find entity with cap
-			{
-				Optional<Entity> first = world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(in?posIn: posOut),
-								input -> input.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite()))
-						.stream()
-						.findFirst();
-
-				if(first.isPresent())
-					cap = first.get().getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite());
-			}
+			IItemHandler cap = getItemHandler(tile, world, in?posIn: posOut, in?facingIn: facingOut);
 
 			if(cap!=null)
 			{
@@ -426,6 +393,23 @@ public class TileEntityInserter extends TileEntityInserterBase
 			return stack.inputSize > 0;
 		}
 
+		@Nullable
+		protected IItemHandler getItemHandler(TileEntityInserterBase tile, World world, BlockPos pos, EnumFacing facing)
+		{
+			//prioritize TEs first
+			IItemHandler cap = tile.getNeighbourCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, pos, facing.getOpposite());
+			if(cap!=null)
+				return cap;
+
+			//if no TE, try to find entity with cap
+			Optional<Entity> first = world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(pos),
+							input -> input.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite()))
+					.stream()
+					.findFirst();
+
+			return first.map(entity -> entity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite())).orElse(null);
+		}
+
 		@Override
 		public NBTTagCompound toNBT()
 		{
@@ -10,6 +10,7 @@ import blusunrize.immersiveengineering.api.energy.wires.WireType;
 import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.IBlockBounds;
 import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.IComparatorOverride;
 import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.IHammerInteraction;
+import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.INeighbourChangeTile;
 import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.ITileDrop;
 import blusunrize.immersiveengineering.common.util.ItemNBTHelper;
 import blusunrize.immersiveengineering.common.util.Utils;
@@ -22,10 +23,12 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
@@ -55,9 +58,10 @@ import java.util.function.Function;
 
 /**
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 28.09.2020
  */
-public abstract class TileEntityInserterBase extends TileEntityImmersiveConnectable implements IIEInventory, ITileDrop, IComparatorOverride, IHammerInteraction, ITickable, IBlockBounds, IDataConnector
+public abstract class TileEntityInserterBase extends TileEntityImmersiveConnectable implements IIEInventory, ITileDrop, IComparatorOverride, IHammerInteraction, ITickable, IBlockBounds, IDataConnector, INeighbourChangeTile
 {
 	public int energyStorage = 0;
 	public int pickProgress = 0;
@@ -79,6 +83,19 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 	private WireType secondCable;
 	public boolean nextTaskAfterFinish = true;
 
+	/**
+	 * Ticks left until an idle inserter checks its tasks again
+	 */
+	private int idleTicks = 0;
+	/**
+	 * Delay between task checks, doubled each time no task can be started, up to {@link Inserter#maxIdleDelay}
+	 */
+	private int idleDelay = 0;
+	/**
+	 * Capabilities of tile entities the tasks interact with, by position
+	 */
+	private final HashMap<BlockPos, CachedCapability> capabilityCache = new HashMap<>();
+
 	@Override
 	protected boolean canTakeLV()
 	{
@@ -159,7 +176,7 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 			case 0:
 				if(this.limitType==null)
 				{
-					DataWireNetwork.updateConnectors(pos, world, wireNetwork);
+					DataWireNetwork.connectConnectors(this, other);
 					this.limitType = cableType;
 				}
 				break;
@@ -195,7 +212,7 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 		}
 		if(type==limitType)
 		{
-			wireNetwork.removeFromNetwork(this);
+			wireNetwork.removeConnection(this, connection);
 			this.limitType = null;
 		}
 		if(type==secondCable)
@@ -260,6 +277,7 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 
 		if(message.hasKey("tasks"))
 			readTasks(message.getTagList("tasks", 10));
+		wakeUp();
 		if(message.hasKey("current"))
 		{
 			NBTTagCompound tag = message.getCompoundTag("current");
@@ -366,6 +384,13 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 
 		if(this.current==null)
 		{
+			//Idle inserters check their tasks less often
+			if(idleTicks > 0)
+			{
+				idleTicks--;
+				return;
+			}
+
 			for(InserterTask task : tasks)
 			{
 				EnumFacing facingIn = task.facingIn==null?defaultInputFacing: task.facingIn;
@@ -384,6 +409,16 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 					sendUpdate();
 				break;
 			}
+
+			if(this.current==null)
+			{
+				//Handlers are resolved again when the inserter starts working
+				idleDelay = MathHelper.clamp(idleDelay*2, 1, Inserter.maxIdleDelay);
+				idleTicks = idleDelay;
+				capabilityCache.clear();
+				return;
+			}
+			idleDelay = 0;
 		}
 		//you should be, but who knows ^^
 		if(this.current!=null)
@@ -442,6 +477,48 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 
 	}
 
+	/**
+	 * Makes an idle inserter check its tasks in the next tick.<br>
+	 * Called when the inserter's tasks, inventory or neighbours change.
+	 * Changes in inventories further away are noticed after at most {@link Inserter#maxIdleDelay} ticks.
+	 */
+	public void wakeUp()
+	{
+		idleTicks = 0;
+		idleDelay = 0;
+	}
+
+	/**
+	 * Returns a capability of a tile entity, cached until the tile entity is invalidated, a neighbouring block changes or the inserter becomes idle.
+	 *
+	 * @param capability capability to get
+	 * @param pos        position of the tile entity
+	 * @param side       side of the tile entity
+	 * @return the capability, null if there's no tile entity providing it
+	 */
+	@Nullable
+	public <T> T getNeighbourCapability(Capability<T> capability, BlockPos pos, EnumFacing side)
+	{
+		CachedCapability cached = capabilityCache.get(pos);
+		if(cached!=null&&cached.capability==capability&&cached.side==side&&!cached.tile.isInvalid())
+			return (T)cached.handler;
+
+		TileEntity te = world.getTileEntity(pos);
+		T handler = te!=null&&te.hasCapability(capability, side)?te.getCapability(capability, side): null;
+		if(handler!=null)
+			capabilityCache.put(pos, new CachedCapability(te, capability, side, handler));
+		else
+			capabilityCache.remove(pos);
+		return handler;
+	}
+
+	@Override
+	public void onNeighborBlockChange(BlockPos otherPos)
+	{
+		capabilityCache.clear();
+		wakeUp();
+	}
+
 	protected void sendUpdate()
 	{
 		IIPacketHandler.sendToClient(this, new MessageIITileSync(this, EasyNBT.newNBT()
@@ -518,7 +595,7 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 	@Override
 	public void doGraphicalUpdates(int slot)
 	{
-
+		wakeUp();
 	}
 
 	@Override
@@ -555,6 +632,9 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 			}
 		}
 
+		capabilityCache.clear();
+		wakeUp();
+
 		IIPacketHandler.sendToClient(this, new MessageIITileSync(this, EasyNBT.newNBT()
 				.withInt("inputFacing", defaultInputFacing.ordinal())
 				.withInt("outputFacing", defaultOutputFacing.ordinal())
@@ -596,6 +676,7 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 	public void onPacketReceive(DataPacket packet)
 	{
 		// TODO: 21.12.2021 packet receiving
+		wakeUp();
 	}
 
 	@Override
@@ -764,6 +845,22 @@ public abstract class TileEntityInserterBase extends TileEntityImmersiveConnecta
 		public abstract float getTimeModifier();
 	}
 
+	private static class CachedCapability
+	{
+		final TileEntity tile;
+		final Capability<?> capability;
+		final EnumFacing side;
+		final Object handler;
+
+		CachedCapability(TileEntity tile, Capability<?> capability, EnumFacing side, Object handler)
+		{
+			this.tile = tile;
+			this.capability = capability;
+			this.side = side;
+			this.handler = handler;
+		}
+	}
+
 	public final EnumFacing getCurrentInputFacing()
 	{
 		return current==null||current.facingIn==null?defaultInputFacing: current.facingIn;
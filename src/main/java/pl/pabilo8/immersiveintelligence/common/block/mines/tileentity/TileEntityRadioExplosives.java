@@ -153,6 +153,7 @@ public class TileEntityRadioExplosives extends TileEntityMineBase implements ITi
 	public void setFrequency(int value)
 	{
 		this.frequency = value;
+		RadioNetwork.INSTANCE.updateDevice(this);
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import pl.pabilo8.immersiveintelligence.api.data.IIDataHandlingUtils;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 import pl.pabilo8.immersiveintelligence.api.utils.IBooleanAnimatedPartsBlock;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.ArithmeticLogicMachine;
@@ -40,11 +41,13 @@ import pl.pabilo8.immersiveintelligence.common.util.multiblock.IIMultiblockInter
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * @author Pabilo8
  * @since 28-06-2019
+ * @updated 18.10.2026
  */
 public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<TileEntityArithmeticLogicMachine, IMultiblockRecipe> implements IDataDevice, IAdvancedBounds, IGuiTile, IBooleanAnimatedPartsBlock
 {
@@ -54,6 +57,10 @@ public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<
 	public String[] renderCircuit = new String[]{"", "", "", ""};
 	public NonNullList<ItemStack> inventory = NonNullList.withSize(4, ItemStack.EMPTY);
 	IItemHandler inventoryHandler = new IEInventoryHandler(4, this, 0, true, true);
+	/**
+	 * Compiled expressions of the circuits in each slot, null if not compiled yet
+	 */
+	private final CompiledCircuit[] compiledCircuits = new CompiledCircuit[4];
 
 	public TileEntityArithmeticLogicMachine()
 	{
@@ -66,7 +73,10 @@ public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<
 		super.readCustomNBT(nbt, descPacket);
 		if(!descPacket&&!isDummy())
 			if(nbt.hasKey("inventory"))
+			{
 				inventory = Utils.readInventory(nbt.getTagList("inventory", 10), 4);
+				Arrays.fill(compiledCircuits, null);
+			}
 	}
 
 	@Override
@@ -242,6 +252,8 @@ public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<
 	public void doGraphicalUpdates(int slot)
 	{
 		this.markDirty();
+		if(slot >= 0&&slot < compiledCircuits.length)
+			compiledCircuits[slot] = null;
 		if(world.isRemote&&slot >= 0&&slot < renderCircuit.length)
 		{
 			ItemStack stack = inventoryHandler.getStackInSlot(slot);
@@ -278,36 +290,15 @@ public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<
 			DataPacket newPacket = packet.clone();
 			energyStorage.extractEnergy(ArithmeticLogicMachine.energyUsage, false);
 
-			boolean[] circuit = new boolean[4];
-			DataPacket[] cPacket = new DataPacket[4];
-
 			for(int i = 0; i < 4; i++)
 			{
-				circuit[i] = !inventoryHandler.getStackInSlot(i).isEmpty();
-				cPacket[i] = circuit[i]?
-						((ItemIIFunctionalCircuit)inventoryHandler.getStackInSlot(i).getItem()).getStoredData(inventoryHandler.getStackInSlot(i)):
-						null;
+				CompiledCircuit circuit = getCompiledCircuit(i);
+				if(circuit==null)
+					continue;
+				if(energyStorage.extractEnergy(ArithmeticLogicMachine.energyUsage, false) < ArithmeticLogicMachine.energyUsage)
+					break;
+				circuit.execute(newPacket);
 			}
-
-			for(int i = 0; i < 4; i++)
-				if(circuit[i])
-				{
-					if(energyStorage.extractEnergy(ArithmeticLogicMachine.energyUsage, false) < ArithmeticLogicMachine.energyUsage)
-						break;
-					for(char c : DataPacket.varCharacters)
-					{
-						DataType var = cPacket[i].getPacketVariable(c);
-						if(var instanceof DataTypeExpression)
-						{
-							DataTypeExpression exp = ((DataTypeExpression)var);
-							char condition = exp.getRequiredVariable();
-
-							if(condition==' '||(newPacket.getPacketVariable(condition) instanceof DataTypeBoolean
-									&&((DataTypeBoolean)newPacket.getPacketVariable(condition)).value))
-								newPacket.setVariable(c, exp.getValue(newPacket));
-						}
-					}
-				}
 			newPacket.trimNulls();
 
 			TileEntityArithmeticLogicMachine tile1 = getTileForPos(3);
@@ -322,6 +313,24 @@ public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<
 		}
 	}
 
+	/**
+	 * @param slot inventory slot
+	 * @return compiled expressions of the circuit in the slot, null if the slot is empty
+	 */
+	@Nullable
+	private CompiledCircuit getCompiledCircuit(int slot)
+	{
+		ItemStack stack = inventoryHandler.getStackInSlot(slot);
+		if(stack.isEmpty())
+			return null;
+
+		//The stack or its data could be replaced without an inventory update
+		CompiledCircuit compiled = compiledCircuits[slot];
+		if(compiled==null||!compiled.isCompiledFrom(stack))
+			compiled = compiledCircuits[slot] = new CompiledCircuit(stack);
+		return compiled;
+	}
+
 	@Override
 	public List<AxisAlignedBB> getBounds(boolean collision)
 	{
@@ -402,4 +411,81 @@ public class TileEntityArithmeticLogicMachine extends TileEntityMultiblockMetal<
 
 		IIPacketHandler.INSTANCE.sendToAllAround(new MessageBooleanAnimatedPartsSync(isDoorOpened, 0, getPos()), IIPacketHandler.targetPointFromPos(this.getPos(), this.world, 32));
 	}
+
+	/**
+	 * Expressions of a functional circuit, compiled once and executed against packets by their slots
+	 */
+	private static class CompiledCircuit
+	{
+		private final ItemStack stack;
+		@Nullable
+		private final NBTTagCompound operations;
+
+		/**
+		 * Target slot, slot of the required boolean variable (-1 if none) and compiled expression, in variable order
+		 */
+		private final int[] targets, conditions;
+		private final ICompiledValue[] expressions;
+
+		CompiledCircuit(ItemStack stack)
+		{
+			this.stack = stack;
+			this.operations = getOperationsTag(stack);
+
+			DataPacket data = ((ItemIIFunctionalCircuit)stack.getItem()).getStoredData(stack);
+			ArrayList<DataTypeExpression> found = new ArrayList<>();
+			ArrayList<Integer> foundSlots = new ArrayList<>();
+			for(long mask = data.getUsedSlots(); mask!=0; mask &= mask-1)
+			{
+				int slot = Long.numberOfTrailingZeros(mask);
+				DataType var = data.getSlotVariable(slot);
+				//Expressions requiring an invalid variable are never executed
+				if(var instanceof DataTypeExpression&&(((DataTypeExpression)var).getRequiredVariable()==' '||
+						DataPacket.getSlot(((DataTypeExpression)var).getRequiredVariable())!=-1))
+				{
+					found.add((DataTypeExpression)var);
+					foundSlots.add(slot);
+				}
+			}
+
+			targets = new int[found.size()];
+			conditions = new int[found.size()];
+			expressions = new ICompiledValue[found.size()];
+			for(int i = 0; i < targets.length; i++)
+			{
+				DataTypeExpression exp = found.get(i);
+				targets[i] = foundSlots.get(i);
+				conditions[i] = exp.getRequiredVariable()==' '?-1: DataPacket.getSlot(exp.getRequiredVariable());
+				expressions[i] = exp.compile();
+			}
+		}
+
+		@Nullable
+		private static NBTTagCompound getOperationsTag(ItemStack stack)
+		{
+			NBTTagCompound tag = stack.getTagCompound();
+			return tag!=null&&tag.hasKey("operations")?tag.getCompoundTag("operations"): null;
+		}
+
+		boolean isCompiledFrom(ItemStack stack)
+		{
+			return this.stack==stack&&this.operations==getOperationsTag(stack);
+		}
+
+		void execute(DataPacket packet)
+		{
+			for(int i = 0; i < targets.length; i++)
+			{
+				if(conditions[i]!=-1)
+				{
+					DataType condition = packet.getSlotVariable(conditions[i]);
+					if(!(condition instanceof DataTypeBoolean&&((DataTypeBoolean)condition).value))
+						continue;
+				}
+				//The result can be a value shared with the compiled circuit
+				DataType result = expressions[i].evaluate(packet);
+				packet.setSlotVariable(targets[i], result.isImmutable()?result: result.copy());
+			}
+		}
+	}
 }
@@ -30,6 +30,7 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.oredict.OreDictionary;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.ChemicalBath;
 import pl.pabilo8.immersiveintelligence.api.crafting.BathingRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.common.IIGuiList;
 import pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multiblock0.multiblock.MultiblockChemicalBath;
 import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
@@ -44,6 +45,7 @@ import java.util.List;
 /**
  * @author Pabilo8
  * @since 28-06-2019
+ * @updated 18.10.2026
  */
 public class TileEntityChemicalBath extends TileEntityMultiblockMetal<TileEntityChemicalBath, BathingRecipe> implements IGuiTile, ISoundTile, IPlayerInteraction, IAdvancedBounds
 {
@@ -55,6 +57,11 @@ public class TileEntityChemicalBath extends TileEntityMultiblockMetal<TileEntity
 
 	IItemHandler insertionHandler = new IEInventoryHandler(1, this, 0, true, false);
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntityChemicalBath()
 	{
 		super(MultiblockChemicalBath.INSTANCE, new int[]{2, 3, 5}, ChemicalBath.energyCapacity, true);
@@ -131,10 +138,12 @@ public class TileEntityChemicalBath extends TileEntityMultiblockMetal<TileEntity
 
 		if(energyStorage.getEnergyStored() > 0&&processQueue.size() < this.getProcessQueueMaxLength())
 		{
-			if(tanks[0].getFluidAmount() > 0)
+			if(tanks[0].getFluidAmount() > 0&&!recipeMisses.isKnownMiss(inventory.get(0), tanks[0].getFluid()))
 			{
 				BathingRecipe recipe = BathingRecipe.findRecipe(inventory.get(0), tanks[0].getFluid());
-				if(recipe!=null)
+				if(recipe==null)
+					recipeMisses.setMiss(inventory.get(0), tanks[0].getFluid());
+				else
 				{
 					MultiblockProcessInMachine<BathingRecipe> process = new MultiblockProcessInMachine<>(recipe, 0);
 					process.setInputTanks(0);
@@ -9,6 +9,7 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.IFluidTank;
 import pl.pabilo8.immersiveintelligence.api.crafting.ElectrolyzerRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.Electrolyzer;
 import pl.pabilo8.immersiveintelligence.common.IIGuiList;
 import pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multiblock0.multiblock.MultiblockElectrolyzer;
@@ -22,11 +23,17 @@ import static pl.pabilo8.immersiveintelligence.common.IIUtils.outputFluidToTank;
 /**
  * @author Pabilo8
  * @since 28-06-2019
+ * @updated 18.10.2026
  */
 public class TileEntityElectrolyzer extends TileEntityMultiblockProductionSingle<TileEntityElectrolyzer, ElectrolyzerRecipe>
 {
 	public FluidTank[] tanks;
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntityElectrolyzer()
 	{
 		super(MultiblockElectrolyzer.INSTANCE);
@@ -143,11 +150,12 @@ public class TileEntityElectrolyzer extends TileEntityMultiblockProductionSingle
 	@Override
 	protected IIMultiblockProcess<ElectrolyzerRecipe> findNewProductionProcess()
 	{
-		if(tanks[0].getFluidAmount() > 0&&energyStorage.getEnergyStored() > 0)
+		if(tanks[0].getFluidAmount() > 0&&energyStorage.getEnergyStored() > 0&&!recipeMisses.isKnownMiss(tanks[0].getFluid()))
 		{
 			ElectrolyzerRecipe recipe = ElectrolyzerRecipe.findRecipe(tanks[0].getFluid());
 			if(recipe!=null)
 				return new IIMultiblockProcess<>(recipe);
+			recipeMisses.setMiss(tanks[0].getFluid());
 		}
 		return null;
 	}
@@ -27,6 +27,7 @@ import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import org.apache.commons.lang3.ArrayUtils;
 import pl.pabilo8.immersiveintelligence.api.crafting.PrecisionAssemblerRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.api.utils.IBooleanAnimatedPartsBlock;
 import pl.pabilo8.immersiveintelligence.api.utils.tools.IPrecisionTool;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.PrecisionAssembler;
@@ -46,6 +47,7 @@ import java.util.ArrayList;
 /**
  * @author Pabilo8
  * @since 28-06-2019
+ * @updated 18.10.2026
  */
 public class TileEntityPrecisionAssembler extends TileEntityMultiblockMetal<TileEntityPrecisionAssembler, PrecisionAssemblerRecipe> implements IGuiTile, ISoundTile, IBooleanAnimatedPartsBlock
 {
@@ -67,6 +69,11 @@ public class TileEntityPrecisionAssembler extends TileEntityMultiblockMetal<Tile
 
 	IItemHandler insertionHandler = new IEInventoryHandler(5, this, 4, true, false);
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntityPrecisionAssembler()
 	{
 		super(MultiblockPrecisionAssembler.INSTANCE, new int[]{3, 3, 5}, PrecisionAssembler.energyCapacity, true);
@@ -181,8 +188,12 @@ public class TileEntityPrecisionAssembler extends TileEntityMultiblockMetal<Tile
 		if(energyStorage.getEnergyStored() > 0&&processQueue.size() < this.getProcessQueueMaxLength())
 		{
 			//Lots of stuffs happening(s)
-			PrecisionAssemblerRecipe recipe = PrecisionAssemblerRecipe.findRecipe(new ItemStack[]{inventory.get(4), inventory.get(5), inventory.get(6), inventory.get(7)}, inventory.get(3), new ItemStack[]{inventory.get(0), inventory.get(1), inventory.get(2)});
-			if(recipe!=null)
+			Object[] inputs = inventory.subList(0, 8).toArray();
+			PrecisionAssemblerRecipe recipe = recipeMisses.isKnownMiss(inputs)?null:
+					PrecisionAssemblerRecipe.findRecipe(new ItemStack[]{inventory.get(4), inventory.get(5), inventory.get(6), inventory.get(7)}, inventory.get(3), new ItemStack[]{inventory.get(0), inventory.get(1), inventory.get(2)});
+			if(recipe==null)
+				recipeMisses.setMiss(inputs);
+			else
 			{
 				MultiblockProcessInMachine<PrecisionAssemblerRecipe> process = new MultiblockProcessInMachine<>(recipe, 4, 5, 6, 7);
 				this.addProcessToQueue(process, false);
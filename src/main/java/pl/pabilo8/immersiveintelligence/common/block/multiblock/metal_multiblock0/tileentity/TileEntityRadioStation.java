@@ -37,6 +37,7 @@ import java.util.List;
 
 /**
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 20-06-2019
  */
 public class TileEntityRadioStation extends TileEntityMultiblockMetal<TileEntityRadioStation, IMultiblockRecipe> implements IDataDevice, IAdvancedCollisionBounds, IAdvancedSelectionBounds, IRadioDevice, IAdvancedMultiblockTileEntity, ISoundTile
@@ -63,6 +64,7 @@ public class TileEntityRadioStation extends TileEntityMultiblockMetal<TileEntity
 			frequency = 0;
 			if(nbt.hasKey("frequency"))
 				frequency = nbt.getInteger("frequency");
+			RadioNetwork.INSTANCE.updateDevice(this);
 			getConstructionNBT(nbt);
 			clientConstruction = construction;
 		}
@@ -114,7 +116,7 @@ public class TileEntityRadioStation extends TileEntityMultiblockMetal<TileEntity
 		super.receiveMessageFromClient(message);
 		if(message.hasKey("frequency"))
 		{
-			frequency = message.getInteger("frequency");
+			setFrequency(message.getInteger("frequency"));
 		}
 	}
 
@@ -125,6 +127,7 @@ public class TileEntityRadioStation extends TileEntityMultiblockMetal<TileEntity
 		if(message.hasKey("frequency"))
 		{
 			frequency = message.getInteger("frequency");
+			RadioNetwork.INSTANCE.updateDevice(this);
 		}
 		else if(message.hasKey("beep"))
 		{
@@ -323,6 +326,7 @@ public class TileEntityRadioStation extends TileEntityMultiblockMetal<TileEntity
 		if(!isDummy())
 		{
 			this.frequency = value;
+			RadioNetwork.INSTANCE.updateDevice(this);
 			markDirty();
 			markContainingBlockForUpdate(null);
 		}
@@ -16,6 +16,7 @@ import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.oredict.OreDictionary;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.Coagulator;
 import pl.pabilo8.immersiveintelligence.api.crafting.CoagulatorRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.common.IIGuiList;
 import pl.pabilo8.immersiveintelligence.common.IIUtils;
 import pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multiblock1.multiblock.MultiblockCoagulator;
@@ -26,6 +27,7 @@ import javax.annotation.Nullable;
 /**
  * @author Pabilo8
  * @since 04.03.2021
+ * @updated 18.10.2026
  */
 public class TileEntityCoagulator extends TileEntityMultiblockMetal<TileEntityCoagulator, CoagulatorRecipe> implements ISoundTile, IGuiTile
 {
@@ -41,6 +43,11 @@ public class TileEntityCoagulator extends TileEntityMultiblockMetal<TileEntityCo
 	public int cranePosition = 0, craneBucket = -1, craneProgress = 0;
 	public CraneAnimation craneAnimation = CraneAnimation.NONE;
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntityCoagulator()
 	{
 		super(MultiblockCoagulator.INSTANCE, MultiblockCoagulator.INSTANCE.getSize(), Coagulator.energyCapacity, true);
@@ -147,10 +154,13 @@ public class TileEntityCoagulator extends TileEntityMultiblockMetal<TileEntityCo
 			return;
 		}
 
-		if(processQueue.isEmpty()&&tanks[0].getFluidAmount() > 0&&tanks[1].getFluidAmount() > 0)
+		if(processQueue.isEmpty()&&tanks[0].getFluidAmount() > 0&&tanks[1].getFluidAmount() > 0&&
+				!recipeMisses.isKnownMiss(tanks[0].getFluid(), tanks[1].getFluid()))
 		{
 			CoagulatorRecipe recipe = CoagulatorRecipe.findRecipe(tanks[0].getFluid(), tanks[1].getFluid());
-			if(recipe!=null&&(this.effect.get(0).isEmpty()||OreDictionary.itemMatches(this.effect.get(0), recipe.itemOutput, false)))
+			if(recipe==null)
+				recipeMisses.setMiss(tanks[0].getFluid(), tanks[1].getFluid());
+			else if(this.effect.get(0).isEmpty()||OreDictionary.itemMatches(this.effect.get(0), recipe.itemOutput, false))
 			{
 				MultiblockProcessInMachine<CoagulatorRecipe> process = new MultiblockProcessInMachine<>(recipe);
 				process.setInputTanks(0, 1);
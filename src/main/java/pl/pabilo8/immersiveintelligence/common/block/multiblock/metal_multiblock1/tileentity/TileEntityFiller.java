@@ -20,6 +20,7 @@ import net.minecraftforge.items.IItemHandler;
 import pl.pabilo8.immersiveintelligence.api.crafting.DustStack;
 import pl.pabilo8.immersiveintelligence.api.crafting.DustUtils;
 import pl.pabilo8.immersiveintelligence.api.crafting.FillerRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.Filler;
 import pl.pabilo8.immersiveintelligence.common.IIGuiList;
 import pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multiblock1.multiblock.MultiblockFiller;
@@ -36,6 +37,7 @@ import java.util.List;
 /**
  * @author Pabilo8
  * @since 04.03.2021
+ * @updated 18.10.2026
  */
 public class TileEntityFiller extends TileEntityMultiblockProductionMulti<TileEntityFiller, FillerRecipe> implements IConveyorAttachable
 {
@@ -45,6 +47,11 @@ public class TileEntityFiller extends TileEntityMultiblockProductionMulti<TileEn
 	public DustStack dustStorage;
 	private IItemHandler insertionHandlerDust, insertionHandlerStack;
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntityFiller()
 	{
 		super(MultiblockFiller.INSTANCE);
@@ -231,8 +238,12 @@ public class TileEntityFiller extends TileEntityMultiblockProductionMulti<TileEn
 	protected IIMultiblockProcess<FillerRecipe> findNewProductionProcess()
 	{
 		updateTileForEvent(SyncEvents.TILE_RECIPE_CHANGED);
+		if(recipeMisses.isKnownMiss(inventory.get(1), dustStorage))
+			return null;
 		FillerRecipe recipe = FillerRecipe.findRecipe(inventory.get(1), dustStorage);
-		if(recipe!=null)
+		if(recipe==null)
+			recipeMisses.setMiss(inventory.get(1), dustStorage);
+		else
 		{
 			inventory.get(1).shrink(recipe.itemInput.inputSize);
 			dustStorage = dustStorage.subtract(recipe.dust);
@@ -4,7 +4,6 @@ import blusunrize.immersiveengineering.api.crafting.MultiblockRecipe;
 import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.IGuiTile;
 import blusunrize.immersiveengineering.common.blocks.metal.TileEntityMultiblockMetal;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.monster.IMob;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -29,6 +28,7 @@ import pl.pabilo8.immersiveintelligence.common.IIContent;
 import pl.pabilo8.immersiveintelligence.common.IIGuiList;
 import pl.pabilo8.immersiveintelligence.common.IIUtils;
 import pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multiblock1.multiblock.MultiblockRadar;
+import pl.pabilo8.immersiveintelligence.common.util.entity.EntityTargetIndex;
 import pl.pabilo8.immersiveintelligence.common.util.multiblock.IIMultiblockInterfaces.IAdvancedMultiblockTileEntity;
 
 import javax.annotation.Nonnull;
@@ -83,7 +83,7 @@ public class TileEntityRadar extends TileEntityMultiblockMetal<TileEntityRadar,
 		DataPacket packet = new DataPacket();
 		final BlockPos center = this.getBlockPosForPos(272);
 		final AxisAlignedBB aabb = new AxisAlignedBB(center).offset(0, -8, 0).grow(90, 0, 90).expand(0, 50, 0);
-		List<EntityLivingBase> hostiles = world.getEntitiesWithinAABB(EntityLivingBase.class, aabb, input -> input instanceof IMob);
+		List<EntityLivingBase> hostiles = EntityTargetIndex.getHostilesWithinAABB(world, aabb, null);
 		DataTypeEntity[] entities = hostiles.stream().map(entity -> new DataTypeEntity(entity, center)).toArray(DataTypeEntity[]::new);
 		DataTypeArray arr = new DataTypeArray(entities);
 
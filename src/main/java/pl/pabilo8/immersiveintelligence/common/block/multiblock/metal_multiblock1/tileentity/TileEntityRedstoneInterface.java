@@ -45,6 +45,7 @@ import static blusunrize.immersiveengineering.api.energy.wires.WireType.REDSTONE
 /**
  * @author Pabilo8
  * @since 28-06-2019
+ * @updated 18.10.2026
  */
 public class TileEntityRedstoneInterface extends TileEntityMultiblockConnectable<TileEntityRedstoneInterface, IMultiblockRecipe> implements IAdvancedCollisionBounds, IAdvancedSelectionBounds, IGuiTile, IDataDevice, IRedstoneConnector
 {
@@ -415,8 +416,8 @@ public class TileEntityRedstoneInterface extends TileEntityMultiblockConnectable
 					if(storedData.variables.get(c) instanceof DataTypeArray)
 					{
 						DataTypeArray a = (DataTypeArray)storedData.variables.get(c);
-						DataTypeInteger int1 = (DataTypeInteger)a.value[0];
-						DataTypeInteger int2 = (DataTypeInteger)a.value[1];
+						DataTypeInteger int1 = (DataTypeInteger)a.get(0);
+						DataTypeInteger int2 = (DataTypeInteger)a.get(1);
 						redstoneOutput[int1.value] = getRedstoneFromPacket(int2.value, packet, c);
 
 					}
@@ -603,8 +604,8 @@ public class TileEntityRedstoneInterface extends TileEntityMultiblockConnectable
 			if(m.storedRedstone.variables.containsKey(c)&&m.storedRedstone.variables.get(c) instanceof DataTypeArray)
 			{
 				DataTypeArray a = (DataTypeArray)m.storedRedstone.variables.get(c);
-				int i1 = ((DataTypeInteger)a.value[0]).value;
-				int i2 = ((DataTypeInteger)a.value[1]).value;
+				int i1 = ((DataTypeInteger)a.get(0)).value;
+				int i2 = ((DataTypeInteger)a.get(1)).value;
 
 				TileEntityRedstoneInterface m4 = getTileForPos(4);
 				if(m4!=null)
@@ -23,6 +23,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.api.crafting.VulcanizerRecipe;
 import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Machines.Vulcanizer;
 import pl.pabilo8.immersiveintelligence.common.IIGuiList;
@@ -34,6 +35,7 @@ import java.util.Iterator;
 /**
  * @author Pabilo8
  * @since 04.03.2021
+ * @updated 18.10.2026
  */
 public class TileEntityVulcanizer extends TileEntityMultiblockMetal<TileEntityVulcanizer, VulcanizerRecipe> implements IPlayerInteraction, ISoundTile, IGuiTile
 {
@@ -46,6 +48,11 @@ public class TileEntityVulcanizer extends TileEntityMultiblockMetal<TileEntityVu
 	IItemHandler insertionHandlerSulfur = new IEInventoryHandler(1, this, 2, true, false);
 
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntityVulcanizer()
 	{
 		super(MultiblockVulcanizer.INSTANCE, MultiblockVulcanizer.INSTANCE.getSize(), Vulcanizer.energyCapacity, true);
@@ -165,10 +172,13 @@ public class TileEntityVulcanizer extends TileEntityMultiblockMetal<TileEntityVu
 
 		if(energyStorage.getEnergyStored() > 0&&processQueue.size() < this.getProcessQueueMaxLength())
 		{
-			if(processQueue.stream().noneMatch(proc -> (proc.processTick/(float)proc.maxTicks) < 0.84f))
+			if(processQueue.stream().noneMatch(proc -> (proc.processTick/(float)proc.maxTicks) < 0.84f)&&
+					!recipeMisses.isKnownMiss(mold, inventory.get(0)))
 			{
 				VulcanizerRecipe recipe = VulcanizerRecipe.findRecipe(mold, inventory.get(0));
-				if(recipe!=null&&
+				if(recipe==null)
+					recipeMisses.setMiss(mold, inventory.get(0));
+				else if(
 						(inventory.get(0).getCount() >= recipe.input.inputSize)&&
 						(inventory.get(1).getCount() >= recipe.compoundInput.inputSize)&&
 						(inventory.get(2).getCount() >= recipe.sulfurInput.inputSize)
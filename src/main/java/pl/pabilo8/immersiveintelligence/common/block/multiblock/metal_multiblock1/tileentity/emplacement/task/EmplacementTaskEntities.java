@@ -3,12 +3,11 @@ package pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multibloc
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.RayTraceResult;
-import net.minecraft.util.math.RayTraceResult.Type;
 import net.minecraft.util.math.Vec3d;
 import pl.pabilo8.immersiveintelligence.common.block.multiblock.metal_multiblock1.tileentity.emplacement.TileEntityEmplacement;
-import pl.pabilo8.immersiveintelligence.common.util.raytracer.BlacklistedRayTracer;
+import pl.pabilo8.immersiveintelligence.common.util.entity.EntityTargetIndex;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -64,9 +63,7 @@ public abstract class EmplacementTaskEntities extends EmplacementTask
 	private boolean canEntityBeSeen(Entity entity, Vec3d vEmplacement, List<BlockPos> allBlocks, int maxBlocks)
 	{
 		Vec3d vEntity = entity.getPositionVector().addVector(-entity.width/2f, entity.height/2f, -entity.width/2f);
-		RayTraceResult rt = BlacklistedRayTracer.traceIgnoringBlocks(entity.world, vEmplacement, vEntity, allBlocks, maxBlocks);
-
-		return rt==null||rt.typeOfHit==Type.MISS;
+		return EntityTargetIndex.canSee(entity.world, vEmplacement, entity, vEntity, allBlocks, maxBlocks);
 	}
 
 	@Override
@@ -84,7 +81,10 @@ public abstract class EmplacementTaskEntities extends EmplacementTask
 	@Override
 	public void updateTargets(TileEntityEmplacement emplacement)
 	{
-		spottedEntities = emplacement.getWorld().getEntitiesWithinAABB(Entity.class, emplacement.currentWeapon.getVisionAABB(), input -> predicate.test(input)&&emplacement.currentWeapon.canSeeEntity(input)).stream().sorted((o1, o2) -> (int)((o1.width*o1.height)-(o2.width*o2.height))*10).toArray(Entity[]::new);
+		spottedEntities = EntityTargetIndex.getEntitiesWithinAABB(emplacement.getWorld(), Entity.class, emplacement.currentWeapon.getVisionAABB(), input -> predicate.test(input)&&emplacement.currentWeapon.canSeeEntity(input))
+				.stream()
+				.sorted(Comparator.comparingDouble(entity -> entity.width*entity.height))
+				.toArray(Entity[]::new);
 		if(!emplacement.getWorld().isRemote&&emplacement.sendAttackSignal)
 			emplacement.handleSendingEnemyPos(spottedEntities);
 	}
@@ -163,7 +163,8 @@ public abstract class EmplacementWeapon<A extends EntityAmmoBase<A>>
 		{
 			this.ammoFactory = new AmmoFactory<A>(te.getWorld())
 					.setIgnoredBlocks(te.getAllBlocks())
-					.setOwner(entity);
+					.setOwner(entity)
+					.setPooled(true);
 			this.health = getMaxHealth();
 			this.nextPitch = this.pitch = -90;
 			this.nextYaw = this.yaw = te.facing.getHorizontalAngle();
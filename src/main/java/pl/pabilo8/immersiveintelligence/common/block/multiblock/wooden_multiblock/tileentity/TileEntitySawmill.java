@@ -14,6 +14,7 @@ import net.minecraft.util.math.Vec3i;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeMissCache;
 import pl.pabilo8.immersiveintelligence.api.crafting.SawmillRecipe;
 import pl.pabilo8.immersiveintelligence.api.rotary.CapabilityRotaryEnergy;
 import pl.pabilo8.immersiveintelligence.api.rotary.IRotaryEnergy;
@@ -43,6 +44,7 @@ import java.util.List;
 /**
  * @author Pabilo8
  * @since 13-04-2020
+ * @updated 18.10.2026
  */
 public class TileEntitySawmill extends TileEntityMultiblockProductionSingle<TileEntitySawmill, SawmillRecipe> implements IRotationalEnergyBlock, IBooleanAnimatedPartsBlock
 {
@@ -68,6 +70,11 @@ public class TileEntitySawmill extends TileEntityMultiblockProductionSingle<Tile
 		}
 	};
 
+	/**
+	 * Inputs no recipe was found for
+	 */
+	private final RecipeMissCache recipeMisses = new RecipeMissCache();
+
 	public TileEntitySawmill()
 	{
 		super(MultiblockSawmill.INSTANCE);
@@ -215,8 +222,13 @@ public class TileEntitySawmill extends TileEntityMultiblockProductionSingle<Tile
 		if(stackSawblade.isEmpty())
 			return null;
 
-		SawmillRecipe recipe = SawmillRecipe.findRecipe(inventory.get(SLOT_INPUT));
-		if(recipe!=null)
+		ItemStack input = inventory.get(SLOT_INPUT);
+		if(recipeMisses.isKnownMiss(input))
+			return null;
+		SawmillRecipe recipe = SawmillRecipe.findRecipe(input);
+		if(recipe==null)
+			recipeMisses.setMiss(input);
+		else
 		{
 			Item item = stackSawblade.getItem();
 			if(!(item instanceof ISawblade))
@@ -133,7 +133,7 @@ public abstract class TileEntityMechanicalConnectable extends TileEntityImmersiv
 		if(hasWorld()&&!world.isRemote)
 		{
 			if(world.getTotalWorldTime()%20==0)
-				getNetwork().updateValues();
+				getNetwork().updateConnector(this);
 
 			if(world.getTileEntity(getPos().offset(getFacing()))!=null)
 			{
@@ -143,7 +143,7 @@ public abstract class TileEntityMechanicalConnectable extends TileEntityImmersiv
 					IRotaryEnergy other = te.getCapability(CapabilityRotaryEnergy.ROTARY_ENERGY, getFacing().getOpposite());
 					if(energy.handleRotation(other, getFacing().getOpposite()))
 					{
-						getNetwork().updateValues();
+						getNetwork().updateConnector(this);
 					}
 				}
 			}
@@ -224,6 +224,20 @@ public abstract class TileEntityMechanicalConnectable extends TileEntityImmersiv
 		return 20;
 	}
 
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		beltNetwork.removeConnector(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		beltNetwork.removeConnector(this);
+	}
+
 	@Override
 	public void removeCable(@Nullable ImmersiveNetHandler.Connection connection)
 	{
@@ -12,6 +12,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
 import pl.pabilo8.immersiveintelligence.api.crafting.BathingRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
 
@@ -79,6 +80,7 @@ public class ChemicalBathTweaker
 		public void apply()
 		{
 			BathingRecipe.recipeList.add(recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
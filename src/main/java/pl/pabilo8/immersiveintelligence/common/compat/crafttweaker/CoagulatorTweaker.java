@@ -11,6 +11,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
 import pl.pabilo8.immersiveintelligence.api.crafting.CoagulatorRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
 
@@ -60,6 +61,7 @@ public class CoagulatorTweaker
 		public void apply()
 		{
 			CoagulatorRecipe.recipeList.add(recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
@@ -8,6 +8,7 @@ import crafttweaker.api.minecraft.CraftTweakerMC;
 import net.minecraftforge.fluids.FluidStack;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
 import pl.pabilo8.immersiveintelligence.api.crafting.ElectrolyzerRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import stanhebben.zenscript.annotations.Optional;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
@@ -55,6 +56,7 @@ public class ElectrolyzerTweaker
 		public void apply()
 		{
 			ElectrolyzerRecipe.recipeList.add(recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
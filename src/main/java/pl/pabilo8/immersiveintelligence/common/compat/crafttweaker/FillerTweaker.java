@@ -12,6 +12,7 @@ import net.minecraft.item.ItemStack;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
 import pl.pabilo8.immersiveintelligence.api.crafting.DustStack;
 import pl.pabilo8.immersiveintelligence.api.crafting.FillerRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
 
@@ -54,6 +55,7 @@ public class FillerTweaker
 		public void apply()
 		{
 			FillerRecipe.recipeList.add(recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
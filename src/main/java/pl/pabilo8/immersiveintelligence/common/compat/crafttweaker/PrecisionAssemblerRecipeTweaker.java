@@ -9,6 +9,7 @@ import crafttweaker.api.item.IItemStack;
 import net.minecraft.item.ItemStack;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
 import pl.pabilo8.immersiveintelligence.api.crafting.PrecisionAssemblerRecipe;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
 
@@ -72,6 +73,7 @@ public class PrecisionAssemblerRecipeTweaker
 		public void apply()
 		{
 			PrecisionAssemblerRecipe.recipeList.add(recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
@@ -8,6 +8,7 @@ import crafttweaker.api.item.IIngredient;
 import crafttweaker.api.item.IItemStack;
 import net.minecraft.item.ItemStack;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import pl.pabilo8.immersiveintelligence.api.crafting.SawmillRecipe;
 import pl.pabilo8.immersiveintelligence.common.util.IIColor;
 import stanhebben.zenscript.annotations.ZenClass;
@@ -59,6 +60,7 @@ public class SawmillTweaker
 		public void apply()
 		{
 			SawmillRecipe.RECIPES.add(recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
@@ -10,6 +10,7 @@ import crafttweaker.api.item.IItemStack;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import pl.pabilo8.immersiveintelligence.ImmersiveIntelligence;
+import pl.pabilo8.immersiveintelligence.api.crafting.RecipeIndex;
 import pl.pabilo8.immersiveintelligence.api.crafting.VulcanizerRecipe;
 import stanhebben.zenscript.annotations.ZenClass;
 import stanhebben.zenscript.annotations.ZenMethod;
@@ -75,6 +76,7 @@ public class VulcanizerTweaker
 		public void apply()
 		{
 			VulcanizerRecipe.recipeList.put(recipe.mold, recipe);
+			RecipeIndex.invalidateAll();
 		}
 
 		@Override
@@ -88,13 +88,13 @@ public class EntityMachinegun extends Entity implements IEntityAdditionalSpawnDa
 	public EntityMachinegun(World worldIn)
 	{
 		super(worldIn);
-		this.ammoFactory = new AmmoFactory<>(this);
+		this.ammoFactory = new AmmoFactory<EntityAmmoProjectile>(this).setPooled(true);
 	}
 
 	public EntityMachinegun(World world, BlockPos pos, float yaw, float pitch, ItemStack stack)
 	{
 		super(world);
-		this.ammoFactory = new AmmoFactory<>(this);
+		this.ammoFactory = new AmmoFactory<EntityAmmoProjectile>(this).setPooled(true);
 
 		float height = 0;
 		this.gun = stack.copy();
@@ -198,6 +198,22 @@ public abstract class EntityAmmoBase<T extends EntityAmmoBase<? super T>> extend
 
 	@Override
 	public void readEntityFromNBT(NBTTagCompound compound)
+	{
+		readAmmoFromNBT(compound);
+	}
+
+	@Override
+	public void writeEntityToNBT(NBTTagCompound compound)
+	{
+		writeAmmoToNBT(compound);
+	}
+
+	/**
+	 * Reads the ammo properties, without the entity's state
+	 *
+	 * @param compound NBT written by {@link #writeAmmoToNBT(NBTTagCompound)}
+	 */
+	public void readAmmoFromNBT(NBTTagCompound compound)
 	{
 		setFromParameters(
 				(IAmmoType<?, T>)AmmoRegistry.getAmmoItem(compound.getString("ammoType")),
@@ -214,8 +230,12 @@ public abstract class EntityAmmoBase<T extends EntityAmmoBase<? super T>> extend
 		owner = world.getEntityByID(compound.getInteger("owner"));
 	}
 
-	@Override
-	public void writeEntityToNBT(NBTTagCompound compound)
+	/**
+	 * Writes the ammo properties (type, core, fuse, components and owner), without the entity's state
+	 *
+	 * @param compound NBT to write to
+	 */
+	public void writeAmmoToNBT(NBTTagCompound compound)
 	{
 		compound.setString("ammoType", ammoType.getName());
 		compound.setString("core", core.getName());
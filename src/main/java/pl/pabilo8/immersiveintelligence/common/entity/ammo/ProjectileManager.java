@@ -0,0 +1,350 @@
+package pl.pabilo8.immersiveintelligence.common.entity.ammo;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import pl.pabilo8.immersiveintelligence.api.ammo.AmmoRegistry;
+import pl.pabilo8.immersiveintelligence.api.ammo.parts.IAmmoType;
+import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Weapons;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.types.EntityAmmoProjectile;
+import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
+import pl.pabilo8.immersiveintelligence.common.network.messages.MessageProjectileBatch;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Simulates short-lived bullets of machineguns, autocannons and other rapid-firing weapons, without spawning them as entities.<br>
+ * Projectiles are stepped in a single pass at the end of each world tick, using the same hit logic as {@link EntityAmmoProjectile}.
+ * Instances are reused after they detonate.<br>
+ * Clients receive batched spawn, ricochet and removal events instead of entity spawn and sync packets, see {@link MessageProjectileBatch}.
+ * Artillery shells, grenades and missiles are still spawned as entities.
+ *
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public class ProjectileManager
+{
+	/**
+	 * Max amount of detonated projectiles kept for reuse
+	 */
+	private static final int POOL_SIZE = 256;
+	/**
+	 * Range (in blocks) in which players receive projectile events
+	 */
+	private static final int TRACKING_RANGE = 64;
+
+	private static final HashMap<Integer, ProjectileManager> MANAGERS = new HashMap<>();
+	/**
+	 * Whether an ammo type creates plain {@link EntityAmmoProjectile}s, which can be pooled
+	 */
+	private static final IdentityHashMap<IAmmoType<?, ?>, Boolean> POOLABLE = new IdentityHashMap<>();
+	/**
+	 * Client copies of pooled projectiles, by their ID
+	 */
+	private static final HashMap<Integer, EntityAmmoProjectile> CLIENT_PROJECTILES = new HashMap<>();
+	/**
+	 * Entity ID of the next client copy, negative, so it can't collide with IDs of entities spawned by the server
+	 */
+	private static int nextClientID = -1;
+
+	//--- Active Projectiles ---//
+	private EntityAmmoProjectile[] projectiles = new EntityAmmoProjectile[64];
+	private int[] ids = new int[64];
+	/**
+	 * Starting positions of projectiles, events are sent to players near the start or the current position of a projectile
+	 */
+	private double[] origins = new double[64*3];
+	private int count = 0;
+	private int nextID = 0;
+
+	/**
+	 * Detonated projectiles, ready to be reused
+	 */
+	private final ArrayDeque<EntityAmmoProjectile> pool = new ArrayDeque<>();
+	/**
+	 * Events to be sent at the end of this tick
+	 */
+	private final ArrayList<ProjectileEvent> events = new ArrayList<>();
+
+	/**
+	 * @param world world the projectile would be spawned in
+	 * @param ammo  ammo type of the projectile
+	 * @return whether the projectile can be simulated by the manager
+	 */
+	public static boolean canPool(World world, IAmmoType<?, ?> ammo)
+	{
+		if(world.isRemote||!Weapons.pooledProjectiles)
+			return false;
+		return POOLABLE.computeIfAbsent(ammo, a -> a.getAmmoEntity(world).getClass()==EntityAmmoProjectile.class);
+	}
+
+	/**
+	 * @param world world the projectile would be spawned in
+	 * @return a reset projectile instance, which has to be set up and passed to {@link #spawn(World, EntityAmmoProjectile)}
+	 */
+	public static EntityAmmoProjectile obtain(World world)
+	{
+		EntityAmmoProjectile projectile = getManager(world).pool.poll();
+		if(projectile==null)
+			projectile = new EntityAmmoProjectile(world);
+		projectile.resetForPool();
+		projectile.setPooled(true);
+		return projectile;
+	}
+
+	/**
+	 * Starts simulating a projectile
+	 *
+	 * @param world      world of the projectile
+	 * @param projectile projectile obtained with {@link #obtain(World)}
+	 */
+	public static void spawn(World world, EntityAmmoProjectile projectile)
+	{
+		getManager(world).add(projectile);
+	}
+
+	/**
+	 * Stores a detonated projectile for reuse
+	 *
+	 * @param world      world of the projectile
+	 * @param projectile projectile that was removed from the simulation
+	 */
+	static void recycle(World world, EntityAmmoProjectile projectile)
+	{
+		getManager(world).recycle(projectile);
+	}
+
+	/**
+	 * Updates all projectiles in a world and sends the events to players
+	 */
+	public static void updateWorld(World world)
+	{
+		ProjectileManager manager = MANAGERS.get(world.provider.getDimension());
+		if(manager!=null)
+			manager.update(world);
+	}
+
+	/**
+	 * Removes projectiles of an unloaded dimension
+	 */
+	public static void clear(int dimension)
+	{
+		MANAGERS.remove(dimension);
+	}
+
+	private static ProjectileManager getManager(World world)
+	{
+		return MANAGERS.computeIfAbsent(world.provider.getDimension(), d -> new ProjectileManager());
+	}
+
+	//--- Server ---//
+
+	private void add(EntityAmmoProjectile projectile)
+	{
+		if(count==projectiles.length)
+		{
+			projectiles = Arrays.copyOf(projectiles, count*2);
+			ids = Arrays.copyOf(ids, count*2);
+			origins = Arrays.copyOf(origins, count*2*3);
+		}
+		int id = nextID++;
+		projectiles[count] = projectile;
+		ids[count] = id;
+		origins[count*3] = projectile.posX;
+		origins[count*3+1] = projectile.posY;
+		origins[count*3+2] = projectile.posZ;
+		count++;
+
+		NBTTagCompound ammo = new NBTTagCompound();
+		projectile.writeAmmoToNBT(ammo);
+		events.add(new ProjectileEvent(ProjectileEvent.SPAWN, id, projectile, ammo));
+	}
+
+	private void update(World world)
+	{
+		for(int i = 0; i < count; )
+		{
+			EntityAmmoProjectile projectile = projectiles[i];
+
+			//Entities stop updating in unloaded chunks, pooled projectiles are removed
+			if(world.getChunkProvider().getLoadedChunk(((int)Math.floor(projectile.posX))>>4, ((int)Math.floor(projectile.posZ))>>4)==null)
+				projectile.setDead();
+			else
+			{
+				projectile.lastTickPosX = projectile.posX;
+				projectile.lastTickPosY = projectile.posY;
+				projectile.lastTickPosZ = projectile.posZ;
+				projectile.ticksExisted++;
+
+				//Ricochets replace the motion vector
+				Vec3d motion = projectile.baseMotion;
+				projectile.onUpdate();
+				if(!projectile.isDead&&projectile.baseMotion!=motion)
+					events.add(new ProjectileEvent(ProjectileEvent.UPDATE, ids[i], projectile, null));
+			}
+
+			if(projectile.isDead)
+			{
+				events.add(new ProjectileEvent(ProjectileEvent.REMOVE, ids[i], projectile, null));
+				remove(i);
+				continue;
+			}
+			i++;
+		}
+
+		if(!events.isEmpty())
+			sendEvents(world);
+	}
+
+	/**
+	 * Removes a projectile by moving the last one in its place
+	 */
+	private void remove(int i)
+	{
+		ProjectileEvent removal = events.get(events.size()-1);
+		removal.setOrigin(origins[i*3], origins[i*3+1], origins[i*3+2]);
+		recycle(projectiles[i]);
+
+		count--;
+		projectiles[i] = projectiles[count];
+		ids[i] = ids[count];
+		System.arraycopy(origins, count*3, origins, i*3, 3);
+		projectiles[count] = null;
+	}
+
+	private void recycle(EntityAmmoProjectile projectile)
+	{
+		if(pool.size() < POOL_SIZE)
+			pool.add(projectile);
+	}
+
+	private void sendEvents(World world)
+	{
+		double rangeSq = TRACKING_RANGE*TRACKING_RANGE;
+		for(EntityPlayer player : world.playerEntities)
+		{
+			if(!(player instanceof EntityPlayerMP))
+				continue;
+			ArrayList<ProjectileEvent> playerEvents = new ArrayList<>();
+			for(ProjectileEvent event : events)
+				if(player.getDistanceSq(event.x, event.y, event.z) <= rangeSq||
+						(event.hasOrigin&&player.getDistanceSq(event.originX, event.originY, event.originZ) <= rangeSq))
+					playerEvents.add(event);
+			if(!playerEvents.isEmpty())
+				IIPacketHandler.INSTANCE.sendTo(new MessageProjectileBatch(playerEvents), (EntityPlayerMP)player);
+		}
+		events.clear();
+	}
+
+	//--- Client ---//
+
+	/**
+	 * Applies events received from the server to client copies of projectiles
+	 *
+	 * @param world  client world
+	 * @param events received events
+	 */
+	public static void handleEvents(World world, List<ProjectileEvent> events)
+	{
+		CLIENT_PROJECTILES.values().removeIf(projectile -> projectile.isDead||projectile.world!=world);
+		for(ProjectileEvent event : events)
+			switch(event.type)
+			{
+				case ProjectileEvent.SPAWN:
+				{
+					IAmmoType<?, ?> ammo = event.ammo==null?null: AmmoRegistry.getAmmoItem(event.ammo.getString("ammoType"));
+					if(ammo==null)
+						continue;
+					EntityAmmoProjectile projectile = new EntityAmmoProjectile(world);
+					projectile.readAmmoFromNBT(event.ammo);
+					projectile.setPooled(true);
+					event.apply(projectile);
+					projectile.setEntityId(nextClientID);
+					nextClientID = nextClientID==Integer.MIN_VALUE?-1: nextClientID-1;
+					projectile.prevPosX = projectile.lastTickPosX = event.x;
+					projectile.prevPosY = projectile.lastTickPosY = event.y;
+					projectile.prevPosZ = projectile.lastTickPosZ = event.z;
+					world.spawnEntity(projectile);
+					CLIENT_PROJECTILES.put(event.id, projectile);
+				}
+				break;
+				case ProjectileEvent.UPDATE:
+				{
+					EntityAmmoProjectile projectile = CLIENT_PROJECTILES.get(event.id);
+					if(projectile!=null)
+						event.apply(projectile);
+				}
+				break;
+				case ProjectileEvent.REMOVE:
+				{
+					EntityAmmoProjectile projectile = CLIENT_PROJECTILES.remove(event.id);
+					if(projectile!=null)
+						projectile.setDead();
+				}
+				break;
+			}
+	}
+
+	/**
+	 * A change of a pooled projectile's state, sent to clients
+	 */
+	public static class ProjectileEvent
+	{
+		public static final byte SPAWN = 0, UPDATE = 1, REMOVE = 2;
+
+		public final byte type;
+		public final int id;
+		public final double x, y, z;
+		public final float motionX, motionY, motionZ, velocity, gravityMotionY;
+		/**
+		 * Properties of the ammo, only for {@link #SPAWN} events
+		 */
+		@Nullable
+		public final NBTTagCompound ammo;
+
+		private boolean hasOrigin = false;
+		private double originX, originY, originZ;
+
+		ProjectileEvent(byte type, int id, EntityAmmoProjectile projectile, @Nullable NBTTagCompound ammo)
+		{
+			this(type, id, projectile.posX, projectile.posY, projectile.posZ,
+					(float)projectile.baseMotion.x, (float)projectile.baseMotion.y, (float)projectile.baseMotion.z,
+					projectile.velocity, (float)projectile.gravityMotionY, ammo);
+		}
+
+		public ProjectileEvent(byte type, int id, double x, double y, double z, float motionX, float motionY, float motionZ, float velocity, float gravityMotionY, @Nullable NBTTagCompound ammo)
+		{
+			this.type = type;
+			this.id = id;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.motionX = motionX;
+			this.motionY = motionY;
+			this.motionZ = motionZ;
+			this.velocity = velocity;
+			this.gravityMotionY = gravityMotionY;
+			this.ammo = ammo;
+		}
+
+		void setOrigin(double x, double y, double z)
+		{
+			this.hasOrigin = true;
+			this.originX = x;
+			this.originY = y;
+			this.originZ = z;
+		}
+
+		void apply(EntityAmmoProjectile projectile)
+		{
+			projectile.setPosition(x, y, z);
+			projectile.baseMotion = new Vec3d(motionX, motionY, motionZ);
+			projectile.velocity = velocity;
+			projectile.gravityMotionY = gravityMotionY;
+		}
+	}
+}
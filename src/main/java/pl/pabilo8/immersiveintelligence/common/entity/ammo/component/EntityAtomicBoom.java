@@ -4,15 +4,16 @@ import com.elytradev.mirage.event.GatherLightsEvent;
 import com.elytradev.mirage.lighting.IEntityLightEventConsumer;
 import com.elytradev.mirage.lighting.Light;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockLog;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.potion.PotionEffect;
-import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -23,14 +24,20 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import pl.pabilo8.immersiveintelligence.common.IIContent;
 import pl.pabilo8.immersiveintelligence.common.IIPotions;
+import pl.pabilo8.immersiveintelligence.common.util.BlockDestructionQueue;
+
+import java.util.HashMap;
 
 /**
  * @author Pabilo8
  * @since 19.12.2020
+ * @updated 18.10.2026
  */
 @net.minecraftforge.fml.common.Optional.Interface(iface = "com.elytradev.mirage.lighting.IEntityLightEventConsumer", modid = "mirage")
 public class EntityAtomicBoom extends Entity implements IEntityAdditionalSpawnData, IEntityLightEventConsumer
 {
+	private static final int AIR = Block.getStateId(Blocks.AIR.getDefaultState());
+
 	public float size;
 	public int progress = 0;
 
@@ -108,26 +115,30 @@ public class EntityAtomicBoom extends Entity implements IEntityAdditionalSpawnDa
 			final int prog = (progress-20)*border;
 			final int heightDiff = (int)(70*size);
 			BlockPos position = getPosition();
+			HashMap<BlockPos, Integer> edits = new HashMap<>();
 
 			for(int hh = position.getY()-heightDiff; hh <= position.getY()+heightDiff; hh++)
 			{
 				for(int x = position.getX()-prog; x <= position.getX()+prog; x++)
 				{
 					for(int z = position.getZ()-prog; z <= position.getZ()-prog+border; z++)
-						destroyFoliage(x, hh, z, EnumFacing.SOUTH);
+						destroyFoliage(x, hh, z, edits);
 					for(int z = position.getZ()+prog-border; z <= position.getZ()+prog; z++)
-						destroyFoliage(x, hh, z, EnumFacing.NORTH);
+						destroyFoliage(x, hh, z, edits);
 				}
 
 				for(int z = position.getZ()-prog; z <= position.getZ()+prog; z++)
 				{
 					for(int x = position.getX()-prog; x <= position.getX()-prog+border; x++)
-						destroyFoliage(x, hh, z, EnumFacing.EAST);
+						destroyFoliage(x, hh, z, edits);
 					for(int x = position.getX()+prog-border; x <= position.getX()+prog; x++)
-						destroyFoliage(x, hh, z, EnumFacing.WEST);
+						destroyFoliage(x, hh, z, edits);
 				}
 
 			}
+
+			//Edits are applied over the next ticks, closest first
+			BlockDestructionQueue.queue(world, getPositionVector(), size, false, false, edits);
 		}
 
 		if(!world.isRemote&&progress > 400)
@@ -157,7 +168,12 @@ public class EntityAtomicBoom extends Entity implements IEntityAdditionalSpawnDa
 		}
 	}
 
-	private void destroyFoliage(int x, int y, int z, EnumFacing facing)
+	/**
+	 * Adds edits of a block hit by the shockwave
+	 *
+	 * @param edits state IDs to be set, by their position
+	 */
+	private void destroyFoliage(int x, int y, int z, HashMap<BlockPos, Integer> edits)
 	{
 		BlockPos pp = new BlockPos(x, y, z);
 		if(!world.isOutsideBuildHeight(pp))
@@ -185,17 +201,17 @@ public class EntityAtomicBoom extends Entity implements IEntityAdditionalSpawnDa
 			if(progress < 38)
 			{
 				if(b)
-					world.setBlockToAir(pp);
+					edits.put(pp, AIR);
 			}
 			else
 			{
 				if(progress < 52&&material==Material.WOOD&&state.getPropertyKeys().contains(BlockLog.LOG_AXIS))
-					world.setBlockState(pp, IIContent.blockCharredLog.getDefaultState().withProperty(BlockLog.LOG_AXIS, state.getValue(BlockLog.LOG_AXIS)));
+					edits.put(pp, Block.getStateId(IIContent.blockCharredLog.getDefaultState().withProperty(BlockLog.LOG_AXIS, state.getValue(BlockLog.LOG_AXIS))));
 				else if(b)
-					world.setBlockToAir(pp);
+					edits.put(pp, AIR);
 
 				if(material==Material.PLANTS||material==Material.SNOW||material==Material.CRAFTED_SNOW||material==Material.LEAVES||material==Material.WEB||material==Material.CAKE||material==Material.VINE||material==Material.CIRCUITS||material==Material.PACKED_ICE||material==Material.ICE)
-					world.setBlockToAir(pp);
+					edits.put(pp, AIR);
 			}
 
 
@@ -27,6 +27,7 @@ import pl.pabilo8.immersiveintelligence.api.ammo.penetration.IPenetrationHandler
 import pl.pabilo8.immersiveintelligence.api.ammo.utils.IIAmmoUtils;
 import pl.pabilo8.immersiveintelligence.api.ammo.utils.PenetrationCache;
 import pl.pabilo8.immersiveintelligence.common.entity.ammo.EntityAmmoBase;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.ProjectileManager;
 import pl.pabilo8.immersiveintelligence.common.util.IIDamageSources;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.EasyNBT;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT;
@@ -46,6 +47,7 @@ import java.util.stream.Collectors;
 /**
  * @author Pabilo8
  * @ii-approved 0.3.1
+ * @updated 18.10.2026
  * @since 02.02.2024
  */
 public class EntityAmmoProjectile extends EntityAmmoBase<EntityAmmoProjectile>
@@ -129,6 +131,10 @@ public class EntityAmmoProjectile extends EntityAmmoBase<EntityAmmoProjectile>
 	 */
 	protected boolean markedForDetonation = false;
 	private float velocityModifier;
+	/**
+	 * Whether this projectile is simulated by the {@link ProjectileManager} instead of being spawned in the world
+	 */
+	private boolean pooled = false;
 
 	public EntityAmmoProjectile(World world)
 	{
@@ -276,6 +282,9 @@ public class EntityAmmoProjectile extends EntityAmmoBase<EntityAmmoProjectile>
 
 	protected void finallyDetonate()
 	{
+		//Client copies of pooled projectiles aren't removed by the server
+		if(world.isRemote&&pooled)
+			setDead();
 		if(!world.isRemote)
 		{
 			//Get the values
@@ -470,7 +479,9 @@ public class EntityAmmoProjectile extends EntityAmmoBase<EntityAmmoProjectile>
 		baseMotion = baseMotion.subtract(
 				surfaceNormal.scale(2*baseMotion.dotProduct(surfaceNormal))
 		).normalize();
-		updateEntityForEvent(SyncEvents.ENTITY_COLLISION);
+		//Pooled projectiles are synced by the manager
+		if(!pooled)
+			updateEntityForEvent(SyncEvents.ENTITY_COLLISION);
 
 		//Clear the lists
 		ignoredEntities.clear();
@@ -568,6 +579,39 @@ public class EntityAmmoProjectile extends EntityAmmoBase<EntityAmmoProjectile>
 			this.ignoredEntities.addAll(ignoredEntities);
 	}
 
+	/**
+	 * @param pooled whether this projectile is simulated by the {@link ProjectileManager}
+	 */
+	public void setPooled(boolean pooled)
+	{
+		this.pooled = pooled;
+	}
+
+	public boolean isPooled()
+	{
+		return pooled;
+	}
+
+	/**
+	 * Clears the state of a pooled projectile, so it can be reused by the {@link ProjectileManager}
+	 */
+	public void resetForPool()
+	{
+		this.isDead = false;
+		this.ticksExisted = 0;
+		this.markedForDetonation = false;
+		this.gravityMotionY = 0;
+		this.motionX = this.motionY = this.motionZ = 0;
+		this.baseMotion = Vec3d.ZERO;
+		this.velocity = 0;
+		this.velocityModifier = 0;
+		this.fuseParameter = 0;
+		this.paintColor = null;
+		this.owner = null;
+		this.ignoredEntities.clear();
+		this.ignoredPositions.clear();
+	}
+
 	//--- Static Methods ---//
 
 	/**
@@ -5,6 +5,7 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.ai.EntityAITarget;
 import net.minecraft.util.math.AxisAlignedBB;
 import pl.pabilo8.immersiveintelligence.common.entity.EntityHans;
+import pl.pabilo8.immersiveintelligence.common.util.entity.EntityTargetIndex;
 
 /**
  * @author Pabilo8
@@ -58,7 +59,7 @@ public class AIHansAlertOthers extends EntityAITarget
 	protected void alertOthers()
 	{
 		double d0 = this.getTargetDistance();
-		for(EntityHans anotherHans : this.hans.world.getEntitiesWithinAABB(EntityHans.class, getAABB().grow(d0, 10.0D, d0),
+		for(EntityHans anotherHans : EntityTargetIndex.getEntitiesWithinAABB(this.hans.world, EntityHans.class, getAABB().grow(d0, 10.0D, d0),
 				input -> input!=null&&input.getTeam()==hans.getTeam()
 		))
 		{
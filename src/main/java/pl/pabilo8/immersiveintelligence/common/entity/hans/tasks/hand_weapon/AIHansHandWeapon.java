@@ -12,6 +12,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import pl.pabilo8.immersiveintelligence.common.entity.EntityHans;
 import pl.pabilo8.immersiveintelligence.common.entity.hans.tasks.AIHansBase;
+import pl.pabilo8.immersiveintelligence.common.util.entity.EntityTargetIndex;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -141,7 +142,7 @@ public abstract class AIHansHandWeapon extends AIHansBase
 		if(motionState==MotionState.FALLBACK&&motionState!=prevMotionState)
 		{
 			int radius = 15;
-			List<EntityHans> hanses = this.hans.world.getEntitiesWithinAABB(EntityHans.class,
+			List<EntityHans> hanses = EntityTargetIndex.getEntitiesWithinAABB(this.hans.world, EntityHans.class,
 					new AxisAlignedBB(new BlockPos(hans.posX, hans.posY, hans.posZ)).grow(radius, radius, radius),
 					input -> input!=null&&input!=hans&&input.getTeam()==hans.getTeam());
 			for(EntityHans anotherHans : hanses)
@@ -172,7 +173,7 @@ public abstract class AIHansHandWeapon extends AIHansBase
 	protected MotionState getMotionState()
 	{
 		//distance, not counting Y
-		List<EntityLiving> enemiesWayTooClose = hans.world.getEntitiesWithinAABB(EntityLiving.class, hans.getEntityBoundingBox().grow(minAttackDistance), input -> input.getAttackTarget()==hans);
+		List<EntityLiving> enemiesWayTooClose = EntityTargetIndex.getEntitiesWithinAABB(hans.world, EntityLiving.class, hans.getEntityBoundingBox().grow(minAttackDistance), input -> input.getAttackTarget()==hans);
 		EntityLivingBase enemy = enemiesWayTooClose.size() > 0?enemiesWayTooClose.get(0): this.attackTarget;
 
 		//no enemy around
@@ -209,7 +210,7 @@ public abstract class AIHansHandWeapon extends AIHansBase
 
 				if(away!=null)
 				{
-					List<EntityLiving> enemies = hans.world.getEntitiesWithinAABB(EntityLiving.class, new AxisAlignedBB(new BlockPos(away)).grow(minAttackDistance), input -> input.getAttackTarget()==hans);
+					List<EntityLiving> enemies = EntityTargetIndex.getEntitiesWithinAABB(hans.world, EntityLiving.class, new AxisAlignedBB(new BlockPos(away)).grow(minAttackDistance), input -> input.getAttackTarget()==hans);
 					if(enemies.size()==0)
 					{
 						float v = enemies.stream().map(EntityLiving::getAIMoveSpeed).max(Float::compareTo).orElse(1f)*1.5f;
@@ -12,6 +12,7 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import pl.pabilo8.immersiveintelligence.common.util.amt.IIAnimationCollisionMap;
 
 import javax.annotation.Nullable;
 
@@ -19,6 +20,7 @@ import javax.annotation.Nullable;
  * A generic dynamic collision box (AABB) entity used by various multiblocks.
  *
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 07.10.2023
  */
 public class EntityAMTTactile extends Entity
@@ -49,6 +51,11 @@ public class EntityAMTTactile extends Entity
 	 * Whether this tactile cannot be seen and collided with
 	 */
 	public boolean visibility = true;
+	/**
+	 * Animation which last set the animation properties, multiple animations of a handler can move the same part
+	 */
+	@Nullable
+	public IIAnimationCollisionMap animatedBy = null;
 	/**
 	 * Bounding box of this part, moved dynamically
 	 */
@@ -252,5 +259,6 @@ public class EntityAMTTactile extends Entity
 	{
 		this.translation = this.rotation = this.scale = Vec3d.ZERO;
 		this.visibility = true;
+		this.animatedBy = null;
 	}
 }
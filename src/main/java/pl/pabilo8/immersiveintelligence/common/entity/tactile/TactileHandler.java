@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -35,12 +36,16 @@ import java.util.stream.Collectors;
  *
  * @author Pabilo8
  * @since 11.10.2023
+ * @updated 18.10.2026
  */
 public class TactileHandler
 {
 	//--- Animation Cache ---//
-	private static HashMap<ResLoc, IIModelHeader> HEADERS = new HashMap<>();
-	private static HashMap<ResLoc, IIAnimation> ANIMATIONS = new HashMap<>();
+	private static final HashMap<ResLoc, IIModelHeader> HEADERS = new HashMap<>();
+	/**
+	 * Animations shared by all handlers, null if loading failed
+	 */
+	private static final HashMap<ResLoc, IIAnimation> ANIMATIONS = new HashMap<>();
 
 	//Final values
 	private final ResLoc aabbLoc;
@@ -328,6 +333,8 @@ public class TactileHandler
 			return;
 
 		entities.forEach(EntityAMTTactile::defaultizeAnimation);
+		//Animations have to be applied again
+		animations.values().stream().filter(Objects::nonNull).forEach(IIAnimationCollisionMap::reset);
 	}
 
 	/**
@@ -361,25 +368,26 @@ public class TactileHandler
 	 * Loads an AMT animation on server side and maps it for this handler's Tactiles.
 	 *
 	 * @param res animation to be loaded
-	 * @return a mapped animation
+	 * @return a mapped animation, null if it couldn't be loaded
 	 */
+	@Nullable
 	private IIAnimationCollisionMap loadAnimation(ResLoc res)
 	{
-		IIAnimation anim = ANIMATIONS.get(res);
+		IIAnimation anim;
 		//Animation not found in cache, it must be loaded from json
-		if(anim==null)
+		if(ANIMATIONS.containsKey(res))
+			anim = ANIMATIONS.get(res);
+		else
 		{
-			IIAnimation animation = IIAnimationLoader.loadAnimationServer(res);
-			ANIMATIONS.put(res, animation);
+			anim = IIAnimationLoader.loadAnimationServer(res);
+			ANIMATIONS.put(res, anim);
 		}
 
-		//Attempt mapping and caching the animation
+		//Attempt mapping the animation, failures are cached too, so loading isn't attempted every tick
 		IIAnimationCollisionMap mapped = null;
 		if(anim!=null)
-		{
 			mapped = IIAnimationCollisionMap.create(entities, anim, listener.getTactileFacing(), listener.getIsTactileMirrored());
-			animations.put(res, mapped);
-		}
+		animations.put(res, mapped);
 
 		//Whether loaded or not, return it
 		return mapped;
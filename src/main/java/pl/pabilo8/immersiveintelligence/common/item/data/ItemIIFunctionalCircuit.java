@@ -1,6 +1,5 @@
 package pl.pabilo8.immersiveintelligence.common.item.data;
 
-import blusunrize.immersiveengineering.common.util.ItemNBTHelper;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.Gui;
 import net.minecraft.client.renderer.GlStateManager;
@@ -15,6 +14,7 @@ import org.lwjgl.input.Keyboard;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.IIDataOperationUtils;
 import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
+import pl.pabilo8.immersiveintelligence.api.data.device.DataStorageCache;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataStorageItem;
 import pl.pabilo8.immersiveintelligence.api.data.operations.DataOperation.DataOperationMeta;
 import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression;
@@ -46,6 +46,7 @@ import java.util.List;
  * @since 25-06-2019
  * @author Avalon
  * @since 20-09-2024
+ * @updated 18.10.2026
  */
 @IIItemProperties(category = IICategory.ELECTRONICS)
 public class ItemIIFunctionalCircuit extends ItemIISubItemsBase<Circuits> implements IDataStorageItem, IAdvancedTooltipItem
@@ -331,15 +332,13 @@ public class ItemIIFunctionalCircuit extends ItemIISubItemsBase<Circuits> implem
 	@Override
 	public DataPacket getStoredData(ItemStack stack)
 	{
-		DataPacket data = new DataPacket();
-		data.fromNBT(ItemNBTHelper.getTagCompound(stack, "operations"));
-		return data;
+		return DataStorageCache.getStoredData(stack, "operations");
 	}
 
 	@Override
 	public void writeDataToItem(DataPacket packet, ItemStack stack)
 	{
-		ItemNBTHelper.setTagCompound(stack, "operations", packet.toNBT());
+		DataStorageCache.writeStoredData(stack, "operations", packet);
 	}
 
 
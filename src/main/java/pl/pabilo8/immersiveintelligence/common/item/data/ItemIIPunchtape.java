@@ -1,6 +1,5 @@
 package pl.pabilo8.immersiveintelligence.common.item.data;
 
-import blusunrize.immersiveengineering.common.util.ItemNBTHelper;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.item.ItemStack;
@@ -10,6 +9,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.lwjgl.input.Keyboard;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
+import pl.pabilo8.immersiveintelligence.api.data.device.DataStorageCache;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataStorageItem;
 import pl.pabilo8.immersiveintelligence.api.utils.ItemTooltipHandler;
 import pl.pabilo8.immersiveintelligence.common.util.IIReference;
@@ -23,6 +23,7 @@ import java.util.List;
 /**
  * @author Pabilo8
  * @since 25-06-2019
+ * @updated 18.10.2026
  */
 @IIItemProperties(category = IICategory.ELECTRONICS)
 public class ItemIIPunchtape extends ItemIIBase implements IDataStorageItem
@@ -56,14 +57,12 @@ public class ItemIIPunchtape extends ItemIIBase implements IDataStorageItem
 	@Override
 	public DataPacket getStoredData(ItemStack stack)
 	{
-		DataPacket data = new DataPacket();
-		data.fromNBT(ItemNBTHelper.getTagCompound(stack, "stored_data"));
-		return data;
+		return DataStorageCache.getStoredData(stack, "stored_data");
 	}
 
 	@Override
 	public void writeDataToItem(DataPacket packet, ItemStack stack)
 	{
-		ItemNBTHelper.setTagCompound(stack, "stored_data", packet.toNBT());
+		DataStorageCache.writeStoredData(stack, "stored_data", packet);
 	}
 }
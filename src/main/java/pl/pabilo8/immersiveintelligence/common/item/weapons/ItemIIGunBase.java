@@ -429,6 +429,7 @@ public abstract class ItemIIGunBase extends ItemIIUpgradableTool implements ISki
 				.setPositionAndVelocity(pos, dir, getVelocityModifier(weapon, nbt, ammo))
 				.setStack(ammo)
 				.setOwner(user)
+				.setPooled(true)
 				.create();
 	}
 
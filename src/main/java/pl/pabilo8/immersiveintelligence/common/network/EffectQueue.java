@@ -0,0 +1,64 @@
+package pl.pabilo8.immersiveintelligence.common.network;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import pl.pabilo8.immersiveintelligence.common.network.messages.IEffectMessage;
+import pl.pabilo8.immersiveintelligence.common.network.messages.MessageEffectBatch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Collects effect messages (particles, sounds, block damage) sent in a world tick, then sends them as a single {@link MessageEffectBatch} per player at the end of it.<br>
+ * Low priority effects are skipped for players further than {@link #LOW_PRIORITY_RANGE} of the effect's range.
+ *
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public class EffectQueue
+{
+	/**
+	 * Fraction of the range low priority effects are sent within
+	 */
+	public static final float LOW_PRIORITY_RANGE = 0.5f;
+
+	private static final PlayerMessageQueue<MessageEffectBatch> QUEUE = new PlayerMessageQueue<>(MessageEffectBatch::new, MessageEffectBatch::getDimension);
+
+	/**
+	 * Queues an effect for players near it
+	 *
+	 * @param world  world of the effect
+	 * @param pos    position of the effect
+	 * @param range  max distance of players receiving the effect
+	 * @param effect effect message
+	 */
+	public static void queue(World world, Vec3d pos, int range, IEffectMessage effect)
+	{
+		if(world.isRemote)
+			return;
+
+		double rangeSq = range*range;
+		if(effect.isLowPriority())
+			rangeSq *= LOW_PRIORITY_RANGE*LOW_PRIORITY_RANGE;
+
+		//Encoded once for all players
+		ByteBuffer encoded = null;
+		for(EntityPlayer player : world.playerEntities)
+			if(player instanceof EntityPlayerMP&&player.getDistanceSq(pos.x, pos.y, pos.z) <= rangeSq)
+			{
+				if(encoded==null)
+					encoded = MessageEffectBatch.encode(effect);
+				QUEUE.getMessage((EntityPlayerMP)player).addEffect(encoded, effect.getStateKey());
+			}
+	}
+
+	/**
+	 * Sends the queued effects to players in a world, should be called at the end of every world tick
+	 */
+	public static void flush(World world)
+	{
+		QUEUE.flush(world);
+	}
+}
@@ -8,6 +8,7 @@ import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
@@ -22,9 +23,15 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  *
  * @author Pabilo8
  * @since 30.08.2022
+ * @updated 18.10.2026
  */
 public abstract class IIMessage implements IMessage
 {
+	/**
+	 * Steps per block of positions written by {@link #writeEffectPos(ByteBuf, Vec3d)}
+	 */
+	private static final int EFFECT_POS_XZ = 2048, EFFECT_POS_Y = 32;
+
 	public IIMessage()
 	{
 
@@ -116,6 +123,63 @@ public abstract class IIMessage implements IMessage
 		return new Vec3d(buf.readDouble(), buf.readDouble(), buf.readDouble());
 	}
 
+	/**
+	 * Writes a position with a precision sufficient for effects, as the chunk it's in and a quantised offset from the chunk's origin
+	 *
+	 * @param buf   buffer to write to
+	 * @param value value to save, y must be within +-1024
+	 * @return buf
+	 */
+	protected ByteBuf writeEffectPos(ByteBuf buf, Vec3d value)
+	{
+		int chunkX = MathHelper.floor(value.x)>>4, chunkZ = MathHelper.floor(value.z)>>4;
+		//Zigzag encoded, so chunks near 0,0 take a single byte
+		ByteBufUtils.writeVarInt(buf, (chunkX<<1)^(chunkX>>31), 5);
+		ByteBufUtils.writeVarInt(buf, (chunkZ<<1)^(chunkZ>>31), 5);
+		buf.writeShort((int)((value.x-(chunkX<<4))*EFFECT_POS_XZ));
+		buf.writeShort(MathHelper.clamp((int)(value.y*EFFECT_POS_Y), Short.MIN_VALUE, Short.MAX_VALUE));
+		buf.writeShort((int)((value.z-(chunkZ<<4))*EFFECT_POS_XZ));
+		return buf;
+	}
+
+	/**
+	 * @param buf buffer to read from
+	 * @return value read
+	 * @see #writeEffectPos(ByteBuf, Vec3d)
+	 */
+	protected Vec3d readEffectPos(ByteBuf buf)
+	{
+		int chunkX = ByteBufUtils.readVarInt(buf, 5), chunkZ = ByteBufUtils.readVarInt(buf, 5);
+		chunkX = (chunkX>>>1)^-(chunkX&1);
+		chunkZ = (chunkZ>>>1)^-(chunkZ&1);
+		return new Vec3d(
+				(chunkX<<4)+buf.readUnsignedShort()/(double)EFFECT_POS_XZ,
+				buf.readShort()/(double)EFFECT_POS_Y,
+				(chunkZ<<4)+buf.readUnsignedShort()/(double)EFFECT_POS_XZ
+		);
+	}
+
+	/**
+	 * Writes a vector with float precision, i.e. a direction or motion
+	 *
+	 * @param buf   buffer to write to
+	 * @param value value to save
+	 * @return buf
+	 */
+	protected ByteBuf writeVec3f(ByteBuf buf, Vec3d value)
+	{
+		return buf.writeFloat((float)value.x).writeFloat((float)value.y).writeFloat((float)value.z);
+	}
+
+	/**
+	 * @param buf buffer to read from
+	 * @return value read
+	 */
+	protected Vec3d readVec3f(ByteBuf buf)
+	{
+		return new Vec3d(buf.readFloat(), buf.readFloat(), buf.readFloat());
+	}
+
 	/**
 	 * @param buf   buffer to write to
 	 * @param value value to save
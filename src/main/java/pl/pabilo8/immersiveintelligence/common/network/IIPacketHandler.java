@@ -24,6 +24,7 @@ import pl.pabilo8.immersiveintelligence.common.util.AdvancedSounds.RangedSound;
 /**
  * @author Pabilo8
  * @since 2019-05-26
+ * @updated 18.10.2026
  */
 public class IIPacketHandler
 {
@@ -56,6 +57,9 @@ public class IIPacketHandler
 		registerMessage(MessageParticleGunfire.class, true, false);
 		registerMessage(MessageManualClose.class, false, true);
 		registerMessage(MessagePlayIISound.class, true, false);
+		registerMessage(MessageProjectileBatch.class, true, false);
+		registerMessage(MessageFieldSync.class, true, false);
+		registerMessage(MessageEffectBatch.class, true, false);
 	}
 
 	private static <T extends IIMessage> void registerMessage(Class<T> message, boolean clientSide, boolean serverSide)
@@ -125,12 +129,12 @@ public class IIPacketHandler
 
 	public static void playMultiSound(World world, Vec3d pos, MultiSound sound, SoundCategory category, int distance, int time, float volume, float pitch)
 	{
-		INSTANCE.sendToAllAround(new MessagePlayIISound(sound, category, time, pos, volume, pitch), targetPointFromPos(pos, world, distance));
+		EffectQueue.queue(world, pos, distance, new MessagePlayIISound(sound, category, time, pos, volume, pitch));
 	}
 
 	public static void playRangedSound(World world, Vec3d pos, RangedSound sound, SoundCategory category, int distance, float volume, float pitch)
 	{
-		INSTANCE.sendToAllAround(new MessagePlayIISound(sound, category, distance, pos, volume, pitch), targetPointFromPos(pos, world, distance));
+		EffectQueue.queue(world, pos, distance, new MessagePlayIISound(sound, category, distance, pos, volume, pitch));
 	}
 
 	//--- TargetPoint Utils ---//
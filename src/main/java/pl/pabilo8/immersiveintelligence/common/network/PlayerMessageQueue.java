@@ -0,0 +1,72 @@
+package pl.pabilo8.immersiveintelligence.common.network;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Collects data sent to players during a world tick into a single message per player, which is sent at the end of the tick.<br>
+ * Messages are created per dimension, data queued before a player changed dimension is discarded.
+ *
+ * @param <M> the batch message
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class PlayerMessageQueue<M extends IMessage>
+{
+	private final IdentityHashMap<EntityPlayerMP, M> queued = new IdentityHashMap<>();
+	private final IntFunction<M> factory;
+	private final ToIntFunction<M> dimension;
+
+	/**
+	 * @param factory   creates a message for a dimension
+	 * @param dimension gets the dimension of a message
+	 */
+	public PlayerMessageQueue(IntFunction<M> factory, ToIntFunction<M> dimension)
+	{
+		this.factory = factory;
+		this.dimension = dimension;
+	}
+
+	/**
+	 * @param player receiving player
+	 * @return the message to be sent to the player at the end of the tick
+	 */
+	public M getMessage(EntityPlayerMP player)
+	{
+		int dim = player.world.provider.getDimension();
+		M message = queued.get(player);
+		//Data from the previous dimension is outdated
+		if(message==null||dimension.applyAsInt(message)!=dim)
+			queued.put(player, message = factory.apply(dim));
+		return message;
+	}
+
+	/**
+	 * Sends the queued messages to players in a world, should be called at the end of every world tick.<br>
+	 * Messages queued for another dimension than the player's current one are discarded.
+	 */
+	public void flush(World world)
+	{
+		Iterator<Entry<EntityPlayerMP, M>> iterator = queued.entrySet().iterator();
+		while(iterator.hasNext())
+		{
+			Entry<EntityPlayerMP, M> entry = iterator.next();
+			EntityPlayerMP player = entry.getKey();
+			if(player.hasDisconnected())
+				iterator.remove();
+			else if(player.world==world)
+			{
+				if(dimension.applyAsInt(entry.getValue())==world.provider.getDimension())
+					IIPacketHandler.INSTANCE.sendTo(entry.getValue(), player);
+				iterator.remove();
+			}
+		}
+	}
+}
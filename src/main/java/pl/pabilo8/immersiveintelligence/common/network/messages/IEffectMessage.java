@@ -0,0 +1,41 @@
+package pl.pabilo8.immersiveintelligence.common.network.messages;
+
+import net.minecraft.client.multiplayer.WorldClient;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import pl.pabilo8.immersiveintelligence.common.network.EffectQueue;
+
+import javax.annotation.Nullable;
+
+/**
+ * A visual or sound effect message, which can be sent in a {@link MessageEffectBatch} using the {@link EffectQueue}.<br>
+ * Identical effects sent in the same tick are only received once, of effects setting the same state only the last one is received.
+ *
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public interface IEffectMessage extends IMessage
+{
+	/**
+	 * @return whether this effect can be skipped for players far from it
+	 */
+	boolean isLowPriority();
+
+	/**
+	 * @return key of the state this effect sets on the client (i.e. damage of a block), null if the effect is stateless
+	 */
+	@Nullable
+	default Object getStateKey()
+	{
+		return null;
+	}
+
+	/**
+	 * Called when the batch containing this effect is received
+	 */
+	@SideOnly(Side.CLIENT)
+	void onClientReceive(WorldClient world, NetHandlerPlayClient handler);
+}
@@ -18,8 +18,9 @@ import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
 /**
  * @author Pabilo8
  * @since 2020-01-11
+ * @updated 18.10.2026
  */
-public class MessageBlockDamageSync extends IIMessage
+public class MessageBlockDamageSync extends IIMessage implements IEffectMessage
 {
 	private float damage;
 	private DimensionBlockPos dPos;
@@ -50,9 +51,22 @@ public class MessageBlockDamageSync extends IIMessage
 
 	}
 
+	@Override
+	public boolean isLowPriority()
+	{
+		//Damage state has to be synced
+		return false;
+	}
+
+	@Override
+	public Object getStateKey()
+	{
+		return dPos;
+	}
+
 	@SideOnly(Side.CLIENT)
 	@Override
-	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	public void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
 	{
 		DamageBlockPos dmgPos = new DamageBlockPos(dPos, damage);
 
@@ -105,7 +119,7 @@ public class MessageBlockDamageSync extends IIMessage
 		if(direction!=null)
 		{
 			buf.writeBoolean(true);
-			writeVec3(buf, direction);
+			writeVec3f(buf, direction);
 		}
 		else
 			buf.writeBoolean(false);
@@ -117,7 +131,7 @@ public class MessageBlockDamageSync extends IIMessage
 		this.damage = buf.readFloat();
 		this.dPos = readDimPos(buf);
 		if(buf.readBoolean())
-			this.direction = readVec3(buf);
+			this.direction = readVec3f(buf);
 
 	}
 
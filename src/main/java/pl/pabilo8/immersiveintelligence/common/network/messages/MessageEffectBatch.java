@@ -0,0 +1,156 @@
+package pl.pabilo8.immersiveintelligence.common.network.messages;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.multiplayer.WorldClient;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import pl.pabilo8.immersiveintelligence.common.network.EffectQueue;
+import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Sends all effects queued by the {@link EffectQueue} for a player in a tick.<br>
+ * Effects are encoded once when queued, so identical effects can be coalesced.
+ * Effects setting a state replace the previous effect with the same {@link IEffectMessage#getStateKey()}.
+ *
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public class MessageEffectBatch extends IIMessage
+{
+	private static final ArrayList<Class<? extends IEffectMessage>> TYPES = new ArrayList<>();
+	private static final ArrayList<Supplier<? extends IEffectMessage>> FACTORIES = new ArrayList<>();
+
+	static
+	{
+		registerEffect(MessageParticleEffect.class, MessageParticleEffect::new);
+		registerEffect(MessageParticleGunfire.class, MessageParticleGunfire::new);
+		registerEffect(MessageBlockDamageSync.class, MessageBlockDamageSync::new);
+		registerEffect(MessagePlayIISound.class, MessagePlayIISound::new);
+	}
+
+	private int dimension;
+	/**
+	 * Encoded effects (see {@link #encode(IEffectMessage)}), by their state key and type, or by themselves if they're stateless
+	 */
+	private final LinkedHashMap<Object, ByteBuffer> encoded = new LinkedHashMap<>();
+	private final ArrayList<IEffectMessage> effects = new ArrayList<>();
+
+	public MessageEffectBatch(int dimension)
+	{
+		this.dimension = dimension;
+	}
+
+	public MessageEffectBatch()
+	{
+	}
+
+	private static <T extends IEffectMessage> void registerEffect(Class<T> type, Supplier<T> factory)
+	{
+		TYPES.add(type);
+		FACTORIES.add(factory);
+	}
+
+	/**
+	 * @param effect effect message
+	 * @return the effect's type and data, equal for identical effects
+	 */
+	public static ByteBuffer encode(IEffectMessage effect)
+	{
+		ByteBuf buf = Unpooled.buffer();
+		buf.writeByte(TYPES.indexOf(effect.getClass()));
+		effect.toBytes(buf);
+
+		byte[] data = new byte[buf.readableBytes()];
+		buf.readBytes(data);
+		return ByteBuffer.wrap(data);
+	}
+
+	/**
+	 * @param effect effect encoded by {@link #encode(IEffectMessage)}
+	 * @param state  key returned by {@link IEffectMessage#getStateKey()}, null if the effect is stateless and should be ignored if an identical one was already added
+	 */
+	public void addEffect(ByteBuffer effect, @Nullable Object state)
+	{
+		if(state==null)
+			encoded.putIfAbsent(effect, effect);
+		else
+		{
+			//The state is set by the last effect, different effect types can share keys
+			Object key = new SimpleImmutableEntry<>(effect.get(0), state);
+			encoded.remove(key);
+			encoded.put(key, effect);
+		}
+	}
+
+	public int getDimension()
+	{
+		return dimension;
+	}
+
+	public Collection<IEffectMessage> getEffects()
+	{
+		return effects;
+	}
+
+	@Override
+	protected void onServerReceive(WorldServer world, NetHandlerPlayServer handler)
+	{
+
+	}
+
+	@SideOnly(Side.CLIENT)
+	@Override
+	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	{
+		//Effects queued before the player changed dimension
+		if(world.provider.getDimension()!=dimension)
+			return;
+
+		for(IEffectMessage effect : effects)
+			effect.onClientReceive(world, handler);
+	}
+
+	@Override
+	public void fromBytes(ByteBuf buf)
+	{
+		this.dimension = buf.readInt();
+		int count = ByteBufUtils.readVarInt(buf, 5);
+		for(int i = 0; i < count; i++)
+		{
+			ByteBuf data = buf.readSlice(ByteBufUtils.readVarInt(buf, 5));
+			int type = data.readUnsignedByte();
+			if(type >= FACTORIES.size())
+				continue;
+
+			IEffectMessage effect = FACTORIES.get(type).get();
+			effect.fromBytes(data);
+			effects.add(effect);
+		}
+	}
+
+	@Override
+	public void toBytes(ByteBuf buf)
+	{
+		buf.writeInt(dimension);
+		ByteBufUtils.writeVarInt(buf, encoded.size(), 5);
+		for(ByteBuffer effect : encoded.values())
+		{
+			ByteBufUtils.writeVarInt(buf, effect.remaining(), 5);
+			buf.writeBytes(effect.duplicate());
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package pl.pabilo8.immersiveintelligence.common.network.messages;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.multiplayer.WorldClient;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.FieldSyncQueue;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.NBTSerialisation;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT;
+
+import java.util.ArrayList;
+
+/**
+ * Changed {@link SyncNBT} fields of tile entities and entities, sent to a player once per tick by {@link FieldSyncQueue}
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class MessageFieldSync extends IIMessage
+{
+	private int dimension;
+	private final ArrayList<BlockPos> tiles = new ArrayList<>();
+	private final ArrayList<byte[]> tileData = new ArrayList<>();
+	private final ArrayList<Integer> entities = new ArrayList<>();
+	private final ArrayList<byte[]> entityData = new ArrayList<>();
+
+	public MessageFieldSync(int dimension)
+	{
+		this.dimension = dimension;
+	}
+
+	public MessageFieldSync()
+	{
+	}
+
+	public int getDimension()
+	{
+		return dimension;
+	}
+
+	public void addTile(BlockPos pos, byte[] data)
+	{
+		tiles.add(pos);
+		tileData.add(data);
+	}
+
+	public void addEntity(int entityID, byte[] data)
+	{
+		entities.add(entityID);
+		entityData.add(data);
+	}
+
+	@Override
+	protected void onServerReceive(WorldServer world, NetHandlerPlayServer handler)
+	{
+
+	}
+
+	@SideOnly(Side.CLIENT)
+	@Override
+	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	{
+		if(world.provider.getDimension()!=dimension)
+			return;
+
+		for(int i = 0; i < tiles.size(); i++)
+		{
+			BlockPos pos = tiles.get(i);
+			if(!world.isBlockLoaded(pos))
+				continue;
+			TileEntity tile = world.getTileEntity(pos);
+			if(tile!=null)
+			{
+				ByteBuf data = Unpooled.wrappedBuffer(tileData.get(i));
+				NBTSerialisation.synchroniseFor(tile, (tag, t) -> tag.readChanged(t, data));
+			}
+		}
+
+		for(int i = 0; i < entities.size(); i++)
+		{
+			Entity entity = world.getEntityByID(entities.get(i));
+			if(entity!=null)
+			{
+				ByteBuf data = Unpooled.wrappedBuffer(entityData.get(i));
+				NBTSerialisation.synchroniseFor(entity, (tag, e) -> tag.readChanged(e, data));
+			}
+		}
+	}
+
+	@Override
+	public void fromBytes(ByteBuf buf)
+	{
+		this.dimension = buf.readInt();
+		int count = ByteBufUtils.readVarInt(buf, 5);
+		for(int i = 0; i < count; i++)
+			addTile(readPos(buf), readData(buf));
+		count = ByteBufUtils.readVarInt(buf, 5);
+		for(int i = 0; i < count; i++)
+			addEntity(buf.readInt(), readData(buf));
+	}
+
+	@Override
+	public void toBytes(ByteBuf buf)
+	{
+		buf.writeInt(dimension);
+		ByteBufUtils.writeVarInt(buf, tiles.size(), 5);
+		for(int i = 0; i < tiles.size(); i++)
+		{
+			writePos(buf, tiles.get(i));
+			writeData(buf, tileData.get(i));
+		}
+		ByteBufUtils.writeVarInt(buf, entities.size(), 5);
+		for(int i = 0; i < entities.size(); i++)
+		{
+			buf.writeInt(entities.get(i));
+			writeData(buf, entityData.get(i));
+		}
+	}
+
+	private static byte[] readData(ByteBuf buf)
+	{
+		byte[] data = new byte[ByteBufUtils.readVarInt(buf, 5)];
+		buf.readBytes(data);
+		return data;
+	}
+
+	private static void writeData(ByteBuf buf, byte[] data)
+	{
+		ByteBufUtils.writeVarInt(buf, data.length, 5);
+		buf.writeBytes(data);
+	}
+}
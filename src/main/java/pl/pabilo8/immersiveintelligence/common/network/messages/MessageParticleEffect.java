@@ -8,7 +8,8 @@ import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
-import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import pl.pabilo8.immersiveintelligence.client.fx.utils.ParticleRegistry;
 import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.EasyNBT;
@@ -18,8 +19,9 @@ import static pl.pabilo8.immersiveintelligence.client.fx.utils.IIParticlePropert
 /**
  * @author Pabilo8
  * @since 20.01.2021
+ * @updated 18.10.2026
  */
-public class MessageParticleEffect extends IIMessage implements IPositionBoundMessage
+public class MessageParticleEffect extends IIMessage implements IPositionBoundMessage, IEffectMessage
 {
 	private String id;
 	private World world;
@@ -57,7 +59,14 @@ public class MessageParticleEffect extends IIMessage implements IPositionBoundMe
 	}
 
 	@Override
-	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	public boolean isLowPriority()
+	{
+		return true;
+	}
+
+	@SideOnly(Side.CLIENT)
+	@Override
+	public void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
 	{
 		ParticleRegistry.spawnParticle(id, nbt);
 
@@ -85,20 +94,25 @@ public class MessageParticleEffect extends IIMessage implements IPositionBoundMe
 	@Override
 	public void fromBytes(ByteBuf buf)
 	{
-		this.id = ByteBufUtils.readUTF8String(buf);
-		this.nbt = ByteBufUtils.readTag(buf);
+		this.id = readString(buf);
+		this.pos = readEffectPos(buf);
+		this.motion = readVec3f(buf);
+		this.dir = readVec3f(buf);
+		this.nbt = EasyNBT.wrapNBT(readTagCompound(buf))
+				.withVec3d(POSITION, pos)
+				.withVec3d(MOTION, motion)
+				.withVec3d(ROTATION, dir)
+				.unwrap();
 	}
 
 	@Override
 	public void toBytes(ByteBuf buf)
 	{
-		EasyNBT.wrapNBT(nbt)
-				.withVec3d(POSITION, pos)
-				.withVec3d(MOTION, motion)
-				.withVec3d(ROTATION, dir);
-
-		ByteBufUtils.writeUTF8String(buf, id);
-		ByteBufUtils.writeTag(buf, nbt);
+		writeString(buf, id);
+		writeEffectPos(buf, pos);
+		writeVec3f(buf, motion);
+		writeVec3f(buf, dir);
+		writeTagCompound(buf, nbt);
 	}
 
 	@Override
@@ -8,6 +8,8 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import pl.pabilo8.immersiveintelligence.client.ClientEventHandler;
 import pl.pabilo8.immersiveintelligence.client.fx.utils.ParticleRegistry;
 import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
@@ -15,8 +17,9 @@ import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
 /**
  * @author Pabilo8
  * @since 20.07.2021
+ * @updated 18.10.2026
  */
-public class MessageParticleGunfire extends IIMessage
+public class MessageParticleGunfire extends IIMessage implements IEffectMessage
 {
 	private boolean usesEntity;
 	private int entityID;
@@ -61,7 +64,14 @@ public class MessageParticleGunfire extends IIMessage
 	}
 
 	@Override
-	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	public boolean isLowPriority()
+	{
+		return true;
+	}
+
+	@SideOnly(Side.CLIENT)
+	@Override
+	public void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
 	{
 		if(usesEntity)
 		{
@@ -81,8 +91,8 @@ public class MessageParticleGunfire extends IIMessage
 			this.entityID = buf.readInt();
 		else
 		{
-			this.pos = readVec3(buf);
-			this.dir = readVec3(buf);
+			this.pos = readEffectPos(buf);
+			this.dir = readVec3f(buf);
 		}
 		this.size = buf.readFloat();
 
@@ -97,8 +107,8 @@ public class MessageParticleGunfire extends IIMessage
 			buf.writeInt(this.entityID);
 		else
 		{
-			writeVec3(buf, pos);
-			writeVec3(buf, dir);
+			writeEffectPos(buf, pos);
+			writeVec3f(buf, dir);
 		}
 		buf.writeFloat(size);
 	}
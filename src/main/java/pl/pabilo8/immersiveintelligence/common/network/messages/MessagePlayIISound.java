@@ -20,8 +20,9 @@ import pl.pabilo8.immersiveintelligence.common.util.AdvancedSounds.RangedSound;
 /**
  * @author Pabilo8
  * @since 23.09.2022
+ * @updated 18.10.2026
  */
-public class MessagePlayIISound extends IIMessage
+public class MessagePlayIISound extends IIMessage implements IEffectMessage
 {
 	//type dependant
 	private RangedSound soundRanged;
@@ -72,9 +73,15 @@ public class MessagePlayIISound extends IIMessage
 
 	}
 
+	@Override
+	public boolean isLowPriority()
+	{
+		return false;
+	}
+
 	@SideOnly(Side.CLIENT)
 	@Override
-	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	public void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
 	{
 		//empty or invalid
 		if(soundCompound==null&&soundRanged==null)
@@ -94,9 +101,9 @@ public class MessagePlayIISound extends IIMessage
 	@Override
 	public void fromBytes(ByteBuf buf)
 	{
-		this.type = Type.values()[buf.readInt()];
-		this.category = SoundCategory.values()[buf.readInt()];
-		this.pos = readVec3(buf);
+		this.type = Type.values()[buf.readByte()];
+		this.category = SoundCategory.values()[buf.readByte()];
+		this.pos = readEffectPos(buf);
 		this.volume = buf.readFloat();
 		this.pitch = buf.readFloat();
 
@@ -118,9 +125,9 @@ public class MessagePlayIISound extends IIMessage
 	public void toBytes(ByteBuf buf)
 	{
 		//all types
-		buf.writeInt(type.ordinal());
-		buf.writeInt(category.ordinal());
-		writeVec3(buf, pos);
+		buf.writeByte(type.ordinal());
+		buf.writeByte(category.ordinal());
+		writeEffectPos(buf, pos);
 		buf.writeFloat(volume);
 		buf.writeFloat(pitch);
 
@@ -0,0 +1,104 @@
+package pl.pabilo8.immersiveintelligence.common.network.messages;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.client.multiplayer.WorldClient;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.world.WorldServer;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.ProjectileManager;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.ProjectileManager.ProjectileEvent;
+import pl.pabilo8.immersiveintelligence.common.network.IIMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Sends all events of projectiles simulated by the {@link ProjectileManager} in a tick to a player.<br>
+ * Ammo properties are sent once per message, bullets fired from the same gun share them.
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class MessageProjectileBatch extends IIMessage
+{
+	private List<ProjectileEvent> events;
+
+	public MessageProjectileBatch(List<ProjectileEvent> events)
+	{
+		this.events = events;
+	}
+
+	public MessageProjectileBatch()
+	{
+	}
+
+	@Override
+	protected void onServerReceive(WorldServer world, NetHandlerPlayServer handler)
+	{
+
+	}
+
+	@Override
+	protected void onClientReceive(WorldClient world, NetHandlerPlayClient handler)
+	{
+		ProjectileManager.handleEvents(world, events);
+	}
+
+	@Override
+	public void fromBytes(ByteBuf buf)
+	{
+		NBTTagCompound[] ammo = new NBTTagCompound[buf.readShort()];
+		for(int i = 0; i < ammo.length; i++)
+			ammo[i] = readTagCompound(buf);
+
+		int count = buf.readShort();
+		events = new ArrayList<>(count);
+		for(int i = 0; i < count; i++)
+		{
+			byte type = buf.readByte();
+			int id = buf.readInt();
+			if(type==ProjectileEvent.REMOVE)
+				events.add(new ProjectileEvent(type, id, 0, 0, 0, 0, 0, 0, 0, 0, null));
+			else
+				events.add(new ProjectileEvent(type, id,
+						buf.readDouble(), buf.readDouble(), buf.readDouble(),
+						buf.readFloat(), buf.readFloat(), buf.readFloat(), buf.readFloat(), buf.readFloat(),
+						type==ProjectileEvent.SPAWN?ammo[buf.readShort()]: null));
+		}
+	}
+
+	@Override
+	public void toBytes(ByteBuf buf)
+	{
+		//Equal ammo tags are only written once
+		LinkedHashMap<NBTTagCompound, Integer> ammo = new LinkedHashMap<>();
+		for(ProjectileEvent event : events)
+			if(event.ammo!=null)
+				ammo.putIfAbsent(event.ammo, ammo.size());
+
+		buf.writeShort(ammo.size());
+		for(NBTTagCompound tag : ammo.keySet())
+			writeTagCompound(buf, tag);
+
+		buf.writeShort(events.size());
+		for(ProjectileEvent event : events)
+		{
+			buf.writeByte(event.type);
+			buf.writeInt(event.id);
+			if(event.type==ProjectileEvent.REMOVE)
+				continue;
+			buf.writeDouble(event.x);
+			buf.writeDouble(event.y);
+			buf.writeDouble(event.z);
+			buf.writeFloat(event.motionX);
+			buf.writeFloat(event.motionY);
+			buf.writeFloat(event.motionZ);
+			buf.writeFloat(event.velocity);
+			buf.writeFloat(event.gravityMotionY);
+			if(event.type==ProjectileEvent.SPAWN)
+				buf.writeShort(ammo.get(event.ammo));
+		}
+	}
+}
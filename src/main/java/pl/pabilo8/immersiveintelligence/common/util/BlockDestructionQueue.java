@@ -0,0 +1,267 @@
+package pl.pabilo8.immersiveintelligence.common.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import pl.pabilo8.immersiveintelligence.api.ammo.enums.ComponentEffectShape;
+import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Ammunition;
+import pl.pabilo8.immersiveintelligence.common.IISaveData;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.EasyNBT;
+
+import java.util.*;
+
+/**
+ * Destroys blocks of large explosions over multiple ticks, spending at most {@link Ammunition#explosionTickBudget} per tick in each dimension.<br>
+ * Blocks are destroyed a whole chunk at a time, starting with chunks closest to the explosion, so each chunk is synced to clients once per tick.
+ * Remaining edits are saved in {@link IISaveData}, so they're finished after a restart.
+ * Edits in unloaded chunks are skipped.
+ *
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public class BlockDestructionQueue
+{
+	/**
+	 * State ID of edits destroying the block as if it were hit by the explosion
+	 */
+	public static final int EXPLODE = -1;
+
+	private static final HashMap<Integer, ArrayDeque<DestructionJob>> QUEUES = new HashMap<>();
+
+	/**
+	 * Queues block edits
+	 *
+	 * @param world      world of the edits
+	 * @param center     center of the explosion, closer blocks are edited first
+	 * @param size       size of the explosion, used for drop chance
+	 * @param causesFire whether fire should be placed on destroyed blocks
+	 * @param doDrops    whether destroyed blocks should drop items
+	 * @param edits      state IDs (see {@link Block#getStateId(IBlockState)}) to be set, by their position, or {@link #EXPLODE}.
+	 *                   Exploded blocks are skipped if they're changed before the edit is applied
+	 */
+	public static void queue(World world, Vec3d center, float size, boolean causesFire, boolean doDrops, Map<BlockPos, Integer> edits)
+	{
+		if(world.isRemote||edits.isEmpty())
+			return;
+
+		//Group edits per chunk
+		HashMap<Long, ArrayList<BlockPos>> chunks = new HashMap<>();
+		for(BlockPos pos : edits.keySet())
+			chunks.computeIfAbsent(((long)(pos.getX()>>4)<<32)|((pos.getZ()>>4)&0xFFFFFFFFL), c -> new ArrayList<>()).add(pos);
+
+		ArrayList<ChunkEdits> ordered = new ArrayList<>();
+		Comparator<BlockPos> byDistance = Comparator.comparingDouble(pos -> pos.distanceSqToCenter(center.x, center.y, center.z));
+		for(ArrayList<BlockPos> chunk : chunks.values())
+		{
+			chunk.sort(byDistance);
+			long[] positions = new long[chunk.size()];
+			int[] states = new int[chunk.size()], expected = new int[chunk.size()];
+			for(int i = 0; i < positions.length; i++)
+			{
+				BlockPos pos = chunk.get(i);
+				positions[i] = pos.toLong();
+				states[i] = edits.get(pos);
+				if(states[i]==EXPLODE)
+					expected[i] = Block.getStateId(world.getBlockState(pos));
+			}
+			ordered.add(new ChunkEdits(positions, states, expected, chunk.get(0).distanceSqToCenter(center.x, center.y, center.z)));
+		}
+		//Chunks with the closest block are edited first
+		ordered.sort(Comparator.comparingDouble(chunk -> chunk.distance));
+
+		int dimension = world.provider.getDimension();
+		QUEUES.computeIfAbsent(dimension, d -> new ArrayDeque<>())
+				.add(new DestructionJob(center, size, causesFire, doDrops, new ArrayDeque<>(ordered)));
+		IISaveData.setDirty(dimension);
+	}
+
+	/**
+	 * Applies queued edits in a world until the time budget is spent, should be called every tick
+	 */
+	public static void updateWorld(World world)
+	{
+		int dimension = world.provider.getDimension();
+		ArrayDeque<DestructionJob> jobs = QUEUES.get(dimension);
+		if(jobs==null||jobs.isEmpty())
+			return;
+
+		long end = System.nanoTime()+Ammunition.explosionTickBudget*1000000L;
+		//At least one chunk is edited per tick
+		do
+		{
+			DestructionJob job = jobs.peek();
+			ChunkEdits chunk = job.chunks.poll();
+			if(chunk!=null)
+				job.apply(world, chunk);
+			if(job.chunks.isEmpty())
+				jobs.poll();
+		}
+		while(!jobs.isEmpty()&&System.nanoTime() < end);
+		IISaveData.setDirty(dimension);
+	}
+
+	/**
+	 * Removes all queued edits, should be called before save data is loaded
+	 */
+	public static void clear()
+	{
+		QUEUES.clear();
+	}
+
+	//--- Saving ---//
+
+	public static NBTTagList writeToNBT()
+	{
+		NBTTagList list = new NBTTagList();
+		QUEUES.forEach((dimension, jobs) -> jobs.forEach(job -> list.appendTag(job.writeToNBT(dimension))));
+		return list;
+	}
+
+	public static void readFromNBT(NBTTagList list)
+	{
+		clear();
+		for(int i = 0; i < list.tagCount(); i++)
+		{
+			EasyNBT nbt = EasyNBT.wrapNBT(list.getCompoundTagAt(i));
+			ArrayDeque<ChunkEdits> chunks = new ArrayDeque<>();
+			nbt.streamList(NBTTagIntArray.class, "chunks", EasyNBT.TAG_INT_ARRAY)
+					.map(NBTTagIntArray::getIntArray)
+					.map(ChunkEdits::fromArray)
+					.forEach(chunks::add);
+			if(chunks.isEmpty())
+				continue;
+
+			QUEUES.computeIfAbsent(nbt.getInt("dimension"), d -> new ArrayDeque<>())
+					.add(new DestructionJob(nbt.getVec3d("center"), nbt.getFloat("size"),
+							nbt.getBoolean("fire"), nbt.getBoolean("drops"), chunks));
+		}
+	}
+
+	private static class DestructionJob
+	{
+		final Vec3d center;
+		final float size;
+		final boolean causesFire, doDrops;
+		final ArrayDeque<ChunkEdits> chunks;
+		/**
+		 * Explosion passed to destroyed blocks, created when the job is first updated
+		 */
+		IIExplosion explosion = null;
+
+		DestructionJob(Vec3d center, float size, boolean causesFire, boolean doDrops, ArrayDeque<ChunkEdits> chunks)
+		{
+			this.center = center;
+			this.size = size;
+			this.causesFire = causesFire;
+			this.doDrops = doDrops;
+			this.chunks = chunks;
+		}
+
+		void apply(World world, ChunkEdits chunk)
+		{
+			//Edits would load the chunk
+			if(chunk.positions.length==0||!world.isBlockLoaded(BlockPos.fromLong(chunk.positions[0])))
+				return;
+			//The exploder isn't saved, so it's not known after a restart
+			if(explosion==null)
+				explosion = new IIExplosion(world, null, center, null, size, 0, ComponentEffectShape.ORB, causesFire, true, doDrops);
+
+			for(int i = 0; i < chunk.positions.length; i++)
+			{
+				BlockPos blockPos = BlockPos.fromLong(chunk.positions[i]);
+				if(chunk.states[i]!=EXPLODE)
+				{
+					world.setBlockState(blockPos, Block.getStateById(chunk.states[i]));
+					continue;
+				}
+
+				IBlockState state = world.getBlockState(blockPos);
+				Block block = state.getBlock();
+				//The block was changed since the explosion
+				if(state.getMaterial()==Material.AIR||Block.getStateId(state)!=chunk.expected[i])
+					continue;
+				if(doDrops&&block.canDropFromExplosion(explosion))
+					block.dropBlockAsItemWithChance(world, blockPos, state, 1.0F/size, 0);
+				block.onBlockExploded(world, blockPos, explosion);
+			}
+
+			if(causesFire)
+				for(long position : chunk.positions)
+				{
+					BlockPos pos = BlockPos.fromLong(position);
+					if(world.getBlockState(pos).getMaterial()==Material.AIR&&world.getBlockState(pos.down()).isFullBlock()&&world.rand.nextInt(3)==0)
+						world.setBlockState(pos, Blocks.FIRE.getDefaultState());
+				}
+		}
+
+		NBTTagCompound writeToNBT(int dimension)
+		{
+			return EasyNBT.newNBT()
+					.withInt("dimension", dimension)
+					.withVec3d("center", center)
+					.withFloat("size", size)
+					.withBoolean("fire", causesFire)
+					.withBoolean("drops", doDrops)
+					.withList("chunks", (ChunkEdits chunk) -> new NBTTagIntArray(chunk.toArray()), chunks)
+					.unwrap();
+		}
+	}
+
+	static class ChunkEdits
+	{
+		final long[] positions;
+		final int[] states;
+		/**
+		 * State IDs of blocks when the edits were queued, only used by {@link #EXPLODE} edits
+		 */
+		final int[] expected;
+		final double distance;
+
+		ChunkEdits(long[] positions, int[] states, int[] expected, double distance)
+		{
+			this.positions = positions;
+			this.states = states;
+			this.expected = expected;
+			this.distance = distance;
+		}
+
+		/**
+		 * @return positions (as two ints each) followed by the states and the expected states
+		 */
+		int[] toArray()
+		{
+			int count = positions.length;
+			int[] array = new int[count*4];
+			for(int i = 0; i < count; i++)
+			{
+				array[i*2] = (int)(positions[i]>>32);
+				array[i*2+1] = (int)positions[i];
+				array[count*2+i] = states[i];
+				array[count*3+i] = expected[i];
+			}
+			return array;
+		}
+
+		static ChunkEdits fromArray(int[] array)
+		{
+			int count = array.length/4;
+			long[] positions = new long[count];
+			int[] states = new int[count], expected = new int[count];
+			for(int i = 0; i < count; i++)
+			{
+				positions[i] = ((long)array[i*2]<<32)|(array[i*2+1]&0xFFFFFFFFL);
+				states[i] = array[count*2+i];
+				expected[i] = array[count*3+i];
+			}
+			return new ChunkEdits(positions, states, expected, 0);
+		}
+	}
+}
@@ -2,6 +2,9 @@ package pl.pabilo8.immersiveintelligence.common.util;
 
 import blusunrize.immersiveengineering.common.util.Utils;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -18,8 +21,11 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.Explosion;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.event.ForgeEventFactory;
 import pl.pabilo8.immersiveintelligence.api.ammo.enums.ComponentEffectShape;
+import pl.pabilo8.immersiveintelligence.common.IIConfigHandler.IIConfig.Ammunition;
 import pl.pabilo8.immersiveintelligence.common.IISounds;
 import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
 import pl.pabilo8.immersiveintelligence.common.network.messages.MessageExplosion;
@@ -29,14 +35,14 @@ import javax.annotation.Nullable;
 import javax.vecmath.AxisAngle4f;
 import javax.vecmath.Matrix4f;
 import javax.vecmath.Vector4f;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * @author Pabilo8
- * @updated 03.04.2024
+ * @updated 18.10.2026
  * @ii-approved 0.3.1
  * @since 25.12.2020
  */
@@ -47,13 +53,41 @@ public class IIExplosion extends Explosion
 	 * The loss of energy for a explosion line trace
 	 */
 	private static final float LOSS = 0.3F*0.75F*5;
+	/**
+	 * Explosions with fewer rays are marched on the calling thread
+	 */
+	private static final int PARALLEL_RAYS = 1024;
+	/**
+	 * Amount of rays marched by a single fork-join task
+	 */
+	private static final int RAYS_PER_TASK = 256;
+	/**
+	 * Ray directions of orb explosions, by steps per rotation
+	 */
+	private static final ConcurrentHashMap<Integer, double[]> ORB_RAYS = new ConcurrentHashMap<>();
+	/**
+	 * Ray angles of cone explosions, by steps per rotation
+	 */
+	private static final ConcurrentHashMap<Integer, float[]> CONE_RAYS = new ConcurrentHashMap<>();
 	@Nonnull
 	private final Vec3d center, direction;
 	private final ComponentEffectShape shape;
 	private final float power;
 	private final boolean doDrops;
+	/**
+	 * Random used for ray power instead of the world's one, see {@link #setSeed(long)}
+	 */
+	@Nullable
+	private Random seededRandom = null;
+	/**
+	 * Whether rays can be marched on multiple threads
+	 */
+	boolean parallel = true;
 
-	public IIExplosion(World world, @Nonnull Entity exploder,
+	/**
+	 * @param exploder entity that caused the explosion, null if it's not known (i.e. for explosions finished by the {@link BlockDestructionQueue})
+	 */
+	public IIExplosion(World world, @Nullable Entity exploder,
 					   Vec3d position, @Nullable Vec3d direction,
 					   float size, float power, ComponentEffectShape shape,
 					   boolean flaming, boolean damagesTerrain, boolean doDrops
@@ -67,6 +101,18 @@ public class IIExplosion extends Explosion
 		this.doDrops = doDrops;
 	}
 
+	/**
+	 * Makes the explosion use its own random with a fixed seed, so the affected blocks are always the same for the same world
+	 *
+	 * @param seed seed of the random
+	 * @return this
+	 */
+	public IIExplosion setSeed(long seed)
+	{
+		this.seededRandom = new Random(seed);
+		return this;
+	}
+
 	@Override
 	public void doExplosionA()
 	{
@@ -159,65 +205,47 @@ public class IIExplosion extends Explosion
 	 */
 	private Set<BlockPos> generateOrbBlockPos(boolean getLastOnly, float densityScale, float powerMultiplier)
 	{
-		ArrayList<BlockPos> set = new ArrayList<>();
-		ArrayList<BlockPos> firsts = new ArrayList<>();
 		//Steps per rotation
 		final int steps = MathHelper.ceil(Math.PI*size*densityScale);
-		float power, pitch, yaw;
-		Vec3d current, direction;
+		double[] directions = ORB_RAYS.computeIfAbsent(steps, IIExplosion::createOrbRays);
+
+		//Calculate power of each ray, in the same order as the directions
+		Random random = seededRandom!=null?seededRandom: world.rand;
+		float[] powers = new float[directions.length/3];
+		for(int i = 0; i < powers.length; i++)
+			powers[i] = this.power*powerMultiplier-(this.size*random.nextFloat()/2);
+
+		BlockSnapshot snapshot = new BlockSnapshot();
+		if(getLastOnly)
+		{
+			Set<BlockPos> lasts = collect(march(directions, powers, snapshot, MarchMode.LAST), true);
+			if(!lasts.isEmpty())
+				return lasts;
+		}
+		return collect(march(directions, powers, snapshot, MarchMode.ALL), true);
+	}
 
-		//REFACTOR: 03.04.2024 use matrix4
+	/**
+	 * @param steps steps per rotation
+	 * @return ray directions (x, y, z) for an orb shaped explosion, half a block long
+	 */
+	private static double[] createOrbRays(int steps)
+	{
+		double[] directions = new double[2*steps*steps*3];
+		int i = 0;
 		for(int yawSlices = 0; yawSlices < 2*steps; yawSlices++)
 			for(int pitchSlice = 0; pitchSlice < steps; pitchSlice++)
 			{
-				//Calculate power
-				power = this.power*powerMultiplier-(this.size*world.rand.nextFloat()/2);
 				//Get angles for rotation steps
-				yaw = (float)((Math.PI/steps)*yawSlices);
-				pitch = (float)((Math.PI/steps)*pitchSlice);
-
-				//Figure out vector to move for trace (cut in half to improve trace skipping blocks)
-				direction = new Vec3d(
-						MathHelper.sin(pitch)*MathHelper.cos(yaw)*0.5,
-						MathHelper.cos(pitch)*0.5,
-						MathHelper.sin(pitch)*MathHelper.sin(yaw)*0.5
-				);
-
-				//Revert position to explosion center
-				current = center;
-				boolean atLeastOne = false;
-
-				//Trace from start to end
-				while(center.distanceTo(current) <= size&&power > 0)
-				{
-					//Consume power per loop
-					power -= LOSS;
-
-					//Convert double position to int position as block pos
-					final BlockPos pos = new BlockPos(MathHelper.floor(current.x), MathHelper.floor(current.y), MathHelper.floor(current.z));
-
-					//Stops from scanning the same position twice
-					if(!set.contains(pos))
-					{
-						//Cannot destroy unloaded blocks
-						if(!world.isBlockLoaded(pos))
-							continue;
-						if(canDestroyBlock(pos, power))
-						{
-							set.add(pos);
-							atLeastOne = true;
-						}
-					}
-
-					//Move forward
-					current = current.add(direction);
-				}
+				float yaw = (float)((Math.PI/steps)*yawSlices);
+				float pitch = (float)((Math.PI/steps)*pitchSlice);
 
-				//Add last block if it was not added before
-				if(getLastOnly&&atLeastOne&&!firsts.contains(set.get(set.size()-1)))
-					firsts.add(new BlockPos(set.get(set.size()-1)));
+				//Cut in half to improve trace skipping blocks
+				directions[i++] = MathHelper.sin(pitch)*MathHelper.cos(yaw)*0.5;
+				directions[i++] = MathHelper.cos(pitch)*0.5;
+				directions[i++] = MathHelper.sin(pitch)*MathHelper.sin(yaw)*0.5;
 			}
-		return Sets.newHashSet(getLastOnly&&!firsts.isEmpty()?firsts: set);
+		return directions;
 	}
 
 	/**
@@ -248,46 +276,152 @@ public class IIExplosion extends Explosion
 	 */
 	private Set<BlockPos> generateConeBlockPos(boolean getLastOnly, float densityScale, float powerMultiplier)
 	{
-		ArrayList<BlockPos> set = new ArrayList<>();
-		ArrayList<BlockPos> firsts = new ArrayList<>();
-
 		//Steps per rotation
 		final int steps = MathHelper.ceil(0.5f*size*densityScale);
-		final float step = 0.5f/steps;
-		float power;
+		float[] angles = CONE_RAYS.computeIfAbsent(steps, IIExplosion::createConeRays);
 
+		double[] directions = new double[angles.length/2*3];
+		float[] powers = new float[angles.length/2];
+		for(int i = 0; i < powers.length; i++)
+		{
+			Vec3d initial = rotateVector(direction, (float)(angles[i*2]*Math.PI), (float)(angles[i*2+1]*Math.PI));
+			directions[i*3] = initial.x;
+			directions[i*3+1] = initial.y;
+			directions[i*3+2] = initial.z;
+			powers[i] = this.power*powerMultiplier;
+		}
+
+		BlockSnapshot snapshot = new BlockSnapshot();
+		if(getLastOnly)
+		{
+			//Ends of the rays, no matter whether the blocks there can be destroyed
+			Set<BlockPos> ends = collect(march(directions, powers, snapshot, MarchMode.END), false);
+			if(!ends.isEmpty())
+				return ends;
+		}
+		return collect(march(directions, powers, snapshot, MarchMode.ALL), true);
+	}
+
+	/**
+	 * @param steps steps per rotation
+	 * @return ray angles (pitch, yaw) for a cone shaped explosion, as fractions of a full rotation
+	 */
+	private static float[] createConeRays(int steps)
+	{
+		final float step = 0.5f/steps;
+		FloatArrayList angles = new FloatArrayList();
 		for(float pitch = -0.25f; pitch < 0.25f; pitch += step)
 			for(float yaw = -0.25f; yaw < 0.25f; yaw += step)
 			{
-				Vec3d initial = rotateVector(direction, (float)(pitch*Math.PI), (float)(yaw*Math.PI));
-				Vec3d current = this.center;
-				power = this.power*powerMultiplier;
+				angles.add(pitch);
+				angles.add(yaw);
+			}
+		return angles.toFloatArray();
+	}
 
-				while(this.center.distanceTo(current) <= size&&power > 0)
-				{
-					//Consume power per loop
-					power -= LOSS;
+	//--- Ray Marching ---//
 
-					//Convert double position to int position as block pos
-					final BlockPos pos = new BlockPos(MathHelper.floor(current.x), MathHelper.floor(current.y), MathHelper.floor(current.z));
+	/**
+	 * Marches the rays, in parallel for larger explosions.<br>
+	 * Results are merged by taking the highest power for each position, so they don't depend on the order the rays are marched in.
+	 *
+	 * @param directions ray directions (x, y, z), one step long
+	 * @param powers     starting power of each ray
+	 * @param snapshot   blocks in range of the explosion
+	 * @param mode       which positions should be returned
+	 * @return positions (in {@link BlockPos#toLong()} format) with the highest power a ray reached them with
+	 */
+	private Long2FloatOpenHashMap march(double[] directions, float[] powers, BlockSnapshot snapshot, MarchMode mode)
+	{
+		if(!parallel||powers.length < PARALLEL_RAYS)
+			return marchRays(directions, powers, 0, powers.length, snapshot, mode);
 
-					//Stops from scanning the same position twice
-					if(!set.contains(pos))
-					{
-						//Cannot destroy unloaded blocks
-						if(!world.isBlockLoaded(pos))
-							continue;
-						if(canDestroyBlock(pos, power))
-							set.add(pos);
-					}
+		ArrayList<ForkJoinTask<Long2FloatOpenHashMap>> tasks = new ArrayList<>();
+		for(int from = 0; from < powers.length; from += RAYS_PER_TASK)
+		{
+			final int start = from, end = Math.min(powers.length, from+RAYS_PER_TASK);
+			tasks.add(ForkJoinPool.commonPool().submit(() -> marchRays(directions, powers, start, end, snapshot, mode)));
+		}
+
+		Long2FloatOpenHashMap merged = new Long2FloatOpenHashMap();
+		for(ForkJoinTask<Long2FloatOpenHashMap> task : tasks)
+			for(Long2FloatMap.Entry entry : task.join().long2FloatEntrySet())
+				if(entry.getFloatValue() > merged.get(entry.getLongKey()))
+					merged.put(entry.getLongKey(), entry.getFloatValue());
+		return merged;
+	}
 
-					//Move forward
-					current = current.add(initial);
+	private Long2FloatOpenHashMap marchRays(double[] directions, float[] powers, int from, int to, BlockSnapshot snapshot, MarchMode mode)
+	{
+		Long2FloatOpenHashMap found = new Long2FloatOpenHashMap();
+		for(int ray = from; ray < to; ray++)
+		{
+			double dx = directions[ray*3], dy = directions[ray*3+1], dz = directions[ray*3+2];
+			double stepLength = Math.sqrt(dx*dx+dy*dy+dz*dz);
+			float power = powers[ray];
+			long last = 0;
+			float lastPower = 0;
+
+			//Trace from start to end
+			int k = 0;
+			for(; k*stepLength <= size&&power > 0; k++)
+			{
+				//Consume power per loop
+				power -= LOSS;
+
+				int bx = MathHelper.floor(x+dx*k), by = MathHelper.floor(y+dy*k), bz = MathHelper.floor(z+dz*k);
+				IBlockState state = snapshot.get(bx, by, bz);
+				//Cannot destroy unloaded blocks
+				if(state==null)
+					break;
+				//Ignore air, other blocks are checked precisely on the main thread
+				if(mode==MarchMode.END||state.getMaterial()==Material.AIR||power <= 0)
+					continue;
+				//The last block has to be one the ray can destroy
+				if(mode==MarchMode.LAST&&power < state.getBlock().getExplosionResistance(exploder))
+					continue;
+
+				long pos = toLong(bx, by, bz);
+				if(mode==MarchMode.LAST)
+				{
+					last = pos;
+					lastPower = power;
 				}
-				if(getLastOnly&&!current.equals(center)&&!firsts.contains(new BlockPos(current)))
-					firsts.add(new BlockPos(current));
+				else if(power > found.get(pos))
+					found.put(pos, power);
 			}
-		return Sets.newHashSet(getLastOnly&&!firsts.isEmpty()?firsts: set);
+
+			if(mode==MarchMode.LAST&&lastPower > found.get(last))
+				found.put(last, lastPower);
+			else if(mode==MarchMode.END&&k > 0)
+				found.put(toLong(MathHelper.floor(x+dx*k), MathHelper.floor(y+dy*k), MathHelper.floor(z+dz*k)), Float.MAX_VALUE);
+		}
+		return found;
+	}
+
+	/**
+	 * @param found  positions found by {@link #march(double[], float[], BlockSnapshot, MarchMode)}
+	 * @param verify whether the blocks should be checked with {@link #canDestroyBlock(BlockPos, float)}
+	 * @return affected block positions
+	 */
+	private Set<BlockPos> collect(Long2FloatOpenHashMap found, boolean verify)
+	{
+		HashSet<BlockPos> set = new HashSet<>();
+		for(Long2FloatMap.Entry entry : found.long2FloatEntrySet())
+		{
+			BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+			if(!verify||canDestroyBlock(pos, entry.getFloatValue()))
+				set.add(pos);
+		}
+		return set;
+	}
+
+	/**
+	 * Same layout as {@link BlockPos#toLong()}, without creating a BlockPos
+	 */
+	private static long toLong(int x, int y, int z)
+	{
+		return ((long)x&0x3FFFFFFL)<<38|((long)y&0xFFFL)<<26|((long)z&0x3FFFFFFL);
 	}
 
 	public Vec3d rotateVector(Vec3d vec, float pitch, float yaw)
@@ -321,6 +455,16 @@ public class IIExplosion extends Explosion
 		if(spawnParticles)
 			IIPacketHandler.INSTANCE.sendToAllAround(new MessageExplosion(this.causesFire, this.damagesTerrain, this.size, this.power, center, direction, shape), IIPacketHandler.targetPointFromPos(getPos(), world, (int)(64+size)));
 
+		//Large explosions are destroyed over multiple ticks
+		if(this.damagesTerrain&&!world.isRemote&&this.affectedBlockPositions.size() > Ammunition.queuedExplosionBlocks)
+		{
+			HashMap<BlockPos, Integer> edits = new HashMap<>();
+			for(BlockPos pos : this.affectedBlockPositions)
+				edits.put(pos, BlockDestructionQueue.EXPLODE);
+			BlockDestructionQueue.queue(world, center, size, causesFire, doDrops, edits);
+			return;
+		}
+
 		if(this.damagesTerrain)
 			for(BlockPos blockpos : this.affectedBlockPositions)
 			{
@@ -359,6 +503,68 @@ public class IIExplosion extends Explosion
 
 	//--- Utilities ---//
 
+	/**
+	 * Which positions are returned by ray marching
+	 */
+	private enum MarchMode
+	{
+		/**
+		 * All blocks the rays can destroy
+		 */
+		ALL,
+		/**
+		 * The farthest block each ray can destroy
+		 */
+		LAST,
+		/**
+		 * The position each ray ends at
+		 */
+		END
+	}
+
+	/**
+	 * Chunks in range of the explosion, taken on the main thread, so block states can be read by ray marching threads.<br>
+	 * Blocks are read directly from chunk sections, the world isn't modified while the rays are marched.
+	 */
+	private class BlockSnapshot
+	{
+		final int minChunkX, minChunkZ, width;
+		final Chunk[] chunks;
+
+		BlockSnapshot()
+		{
+			//Rays can't go further than the size
+			minChunkX = MathHelper.floor(x-size-1)>>4;
+			minChunkZ = MathHelper.floor(z-size-1)>>4;
+			int maxChunkX = MathHelper.floor(x+size+1)>>4;
+			int maxChunkZ = MathHelper.floor(z+size+1)>>4;
+			width = maxChunkZ-minChunkZ+1;
+
+			chunks = new Chunk[(maxChunkX-minChunkX+1)*width];
+			for(int cx = minChunkX; cx <= maxChunkX; cx++)
+				for(int cz = minChunkZ; cz <= maxChunkZ; cz++)
+					chunks[(cx-minChunkX)*width+(cz-minChunkZ)] = world.getChunkProvider().getLoadedChunk(cx, cz);
+		}
+
+		/**
+		 * @return block state at the position, null if it isn't loaded
+		 */
+		@Nullable
+		IBlockState get(int x, int y, int z)
+		{
+			if(y < 0||y >= 256)
+				return null;
+			int cx = (x>>4)-minChunkX, cz = (z>>4)-minChunkZ;
+			if(cx < 0||cz < 0||cz >= width||cx*width+cz >= chunks.length)
+				return null;
+			Chunk chunk = chunks[cx*width+cz];
+			if(chunk==null)
+				return null;
+			ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y>>4];
+			return storage==Chunk.NULL_BLOCK_STORAGE?Blocks.AIR.getDefaultState(): storage.get(x&15, y&15, z&15);
+		}
+	}
+
 	private boolean canDestroyBlock(BlockPos pos, float power)
 	{
 		//Get block state from position
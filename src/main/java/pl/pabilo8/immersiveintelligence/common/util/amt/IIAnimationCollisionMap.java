@@ -2,47 +2,69 @@ package pl.pabilo8.immersiveintelligence.common.util.amt;
 
 import blusunrize.immersiveengineering.common.util.chickenbones.Matrix4;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import pl.pabilo8.immersiveintelligence.common.entity.tactile.EntityAMTTactile;
 import pl.pabilo8.immersiveintelligence.common.util.amt.IIAnimation.IIAnimationGroup;
+import pl.pabilo8.immersiveintelligence.common.util.amt.IIAnimation.IIVectorLine;
 
-import java.util.HashMap;
-import java.util.List;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.UnaryOperator;
 
 /**
  * A map used for easily animating an array of AMTs
- * Use one per a single renderer per animation
+ * Use one per a single renderer per animation<br>
+ * Animations are sampled in fixed steps with facing already applied, samples are shared by all maps of the same animation and facing.
  *
  * @author Pabilo8
  * @since 05.04.2022
+ * @updated 18.10.2026
  */
-public class IIAnimationCollisionMap extends HashMap<EntityAMTTactile, IIAnimationGroup>
+public class IIAnimationCollisionMap
 {
-	private Matrix4 mat;
-	private EnumFacing facing;
+	/**
+	 * Number of steps animations are sampled in, values between steps are interpolated
+	 */
+	private static final int SAMPLE_STEPS = 128;
+	private static final IdentityHashMap<IIAnimation, EnumMap<EnumFacing, SampledGroup[]>> SAMPLED = new IdentityHashMap<>();
 
-	private IIAnimationCollisionMap()
+	private final EntityAMTTactile[] tactiles;
+	private final SampledGroup[] groups;
+	/**
+	 * Time the animation was last applied at, NaN if it wasn't applied
+	 */
+	private float lastTime = Float.NaN;
+
+	private IIAnimationCollisionMap(EntityAMTTactile[] tactiles, SampledGroup[] groups)
 	{
-		super();
+		this.tactiles = tactiles;
+		this.groups = groups;
 	}
 
 	public static IIAnimationCollisionMap create(List<EntityAMTTactile> tactiles, IIAnimation animation, EnumFacing facing, boolean isMirrored)
 	{
-		IIAnimationCollisionMap map = new IIAnimationCollisionMap();
-		map.mat = new Matrix4(facing);
-		map.facing = facing;
+		SampledGroup[] sampled = SAMPLED.computeIfAbsent(animation, a -> new EnumMap<>(EnumFacing.class))
+				.computeIfAbsent(facing, f -> sample(animation, f));
 
-		//iterate through all animation groups, if name matches, put the part into the animation map
-		for(IIAnimationGroup group : animation.groups)
-			for(EntityAMTTactile tactile : tactiles)
-				if(isTactileGroup(group)&&group.groupName.equals(tactile.name))
-				{
-					map.put(tactile, group);
-					break;
-				}
+		ArrayList<EntityAMTTactile> mappedTactiles = new ArrayList<>();
+		ArrayList<SampledGroup> mappedGroups = new ArrayList<>();
 
+		//iterate through all animation groups, if name matches, put the part into the animation map
+		for(int i = 0; i < animation.groups.length; i++)
+		{
+			IIAnimationGroup group = animation.groups[i];
+			if(isTactileGroup(group))
+				for(EntityAMTTactile tactile : tactiles)
+					if(group.groupName.equals(tactile.name))
+					{
+						mappedTactiles.add(tactile);
+						mappedGroups.add(sampled[i]);
+						break;
+					}
+		}
 
-		return map;
+		return new IIAnimationCollisionMap(mappedTactiles.toArray(new EntityAMTTactile[0]), mappedGroups.toArray(new SampledGroup[0]));
 	}
 
 	private static boolean isTactileGroup(IIAnimationGroup group)
@@ -51,58 +73,158 @@ public class IIAnimationCollisionMap extends HashMap<EntityAMTTactile, IIAnimati
 	}
 
 	/**
-	 * Applies the animation to a group of AMTs
+	 * Applies the animation to a group of AMTs.<br>
+	 * Skipped if the time hasn't changed since the last call and no other map has animated the AMTs since.
 	 *
 	 * @param time time of the animation, 0.0-1.0
 	 */
 	public void apply(float time)
 	{
-		forEach((key, value) -> setAnimationGroups(key, value, time));
+		time = MathHelper.clamp(time, 0, 1);
+		if(time==lastTime&&isLastApplied())
+			return;
+		lastTime = time;
+
+		float step = time*SAMPLE_STEPS;
+		int sample = Math.min((int)step, SAMPLE_STEPS-1);
+		float progress = step-sample;
+
+		for(int i = 0; i < groups.length; i++)
+		{
+			SampledGroup group = groups[i];
+			EntityAMTTactile tactile = tactiles[i];
+
+			if(group.position!=null)
+				tactile.translation = interpolate(group.position, sample, progress);
+			if(group.rotation!=null)
+				tactile.rotation = interpolate(group.rotation, sample, progress);
+			if(group.scale!=null)
+				tactile.scale = interpolate(group.scale, sample, progress);
+			if(group.visibility!=null)
+				tactile.visibility = group.visibility.get((int)step);
+			tactile.animatedBy = this;
+		}
+	}
+
+	/**
+	 * @return whether this map was the last one to animate all of its AMTs
+	 */
+	private boolean isLastApplied()
+	{
+		for(EntityAMTTactile tactile : tactiles)
+			if(tactile.animatedBy!=this)
+				return false;
+		return true;
 	}
 
-	private void setAnimationGroups(EntityAMTTactile tactile, IIAnimationGroup group, float time)
+	/**
+	 * Makes the next {@link #apply(float)} call update the AMTs, should be called when they were reset
+	 */
+	public void reset()
+	{
+		lastTime = Float.NaN;
+	}
+
+	private static Vec3d interpolate(float[] samples, int sample, float progress)
 	{
-		//translation
-		if(group.position!=null)
+		int i = sample*3;
+		return new Vec3d(
+				samples[i]+(samples[i+3]-samples[i])*progress,
+				samples[i+1]+(samples[i+4]-samples[i+1])*progress,
+				samples[i+2]+(samples[i+5]-samples[i+2])*progress
+		);
+	}
+
+	//--- Sampling ---//
+
+	private static SampledGroup[] sample(IIAnimation animation, EnumFacing facing)
+	{
+		Matrix4 mat = new Matrix4(facing);
+		SampledGroup[] sampled = new SampledGroup[animation.groups.length];
+
+		for(int i = 0; i < sampled.length; i++)
 		{
-			tactile.translation = group.position.getForTime(time);
+			IIAnimationGroup group = animation.groups[i];
+			BitSet visibility = null;
+			if(group.visibility!=null)
+			{
+				visibility = new BitSet(SAMPLE_STEPS+1);
+				for(int s = 0; s <= SAMPLE_STEPS; s++)
+					visibility.set(s, group.visibility.getForTime(s/(float)SAMPLE_STEPS));
+			}
 
-			//swap axis depending on facing
-			if(facing==EnumFacing.EAST)
-				tactile.translation = new Vec3d(-tactile.translation.z, tactile.translation.y, tactile.translation.x);
-			else if(facing==EnumFacing.WEST)
-				tactile.translation = new Vec3d(tactile.translation.z, tactile.translation.y, tactile.translation.x);
-			else if(facing==EnumFacing.NORTH)
-				tactile.translation = new Vec3d(-tactile.translation.x, tactile.translation.y, tactile.translation.z);
+			sampled[i] = new SampledGroup(
+					sampleLine(group.position, vec -> rotateTranslation(vec, facing)),
+					sampleLine(group.rotation, vec -> rotateRotation(vec, facing)),
+					sampleLine(group.scale, mat::apply),
+					visibility
+			);
+		}
+		return sampled;
+	}
 
+	@Nullable
+	private static float[] sampleLine(@Nullable IIVectorLine line, UnaryOperator<Vec3d> transform)
+	{
+		if(line==null)
+			return null;
+		float[] samples = new float[(SAMPLE_STEPS+1)*3];
+		for(int s = 0; s <= SAMPLE_STEPS; s++)
+		{
+			Vec3d vec = transform.apply(line.getForTime(s/(float)SAMPLE_STEPS));
+			samples[s*3] = (float)vec.x;
+			samples[s*3+1] = (float)vec.y;
+			samples[s*3+2] = (float)vec.z;
 		}
-		//rotation
-		if(group.rotation!=null)
+		return samples;
+	}
+
+	private static Vec3d rotateTranslation(Vec3d vec, EnumFacing facing)
+	{
+		//swap axis depending on facing
+		switch(facing)
 		{
-			tactile.rotation = group.rotation.getForTime(time);
+			case EAST:
+				return new Vec3d(-vec.z, vec.y, vec.x);
+			case WEST:
+				return new Vec3d(vec.z, vec.y, vec.x);
+			case NORTH:
+				return new Vec3d(-vec.x, vec.y, vec.z);
+			default:
+				return vec;
+		}
+	}
 
-			switch(facing)
-			{
-				case NORTH:
-					break;
-				case SOUTH:
-					break;
-				case WEST:
-					break;
-				case EAST:
-					break;
-			}
+	private static Vec3d rotateRotation(Vec3d vec, EnumFacing facing)
+	{
+		switch(facing)
+		{
+			case EAST:
+			case WEST:
+				return new Vec3d(-vec.z, vec.y, vec.x);
+			case SOUTH:
+				return new Vec3d(-vec.x, vec.y, -vec.z);
+			default:
+				return vec;
+		}
+	}
+
+	/**
+	 * Sampled values of an animation group, null if the group doesn't animate a property
+	 */
+	private static class SampledGroup
+	{
+		@Nullable
+		final float[] position, rotation, scale;
+		@Nullable
+		final BitSet visibility;
 
-			if(facing==EnumFacing.EAST)
-				tactile.rotation = new Vec3d(-tactile.rotation.z, tactile.rotation.y, tactile.rotation.x);
-			else if(facing==EnumFacing.WEST)
-				tactile.rotation = new Vec3d(-tactile.rotation.z, tactile.rotation.y, tactile.rotation.x);
-			else if(facing==EnumFacing.SOUTH)
-				tactile.rotation = new Vec3d(-tactile.rotation.x, tactile.rotation.y, -tactile.rotation.z);
+		SampledGroup(@Nullable float[] position, @Nullable float[] rotation, @Nullable float[] scale, @Nullable BitSet visibility)
+		{
+			this.position = position;
+			this.rotation = rotation;
+			this.scale = scale;
+			this.visibility = visibility;
 		}
-		if(group.scale!=null)
-			tactile.scale = mat.apply(group.scale.getForTime(time));
-		if(group.visibility!=null)
-			tactile.visibility = group.visibility.getForTime(time);
 	}
 }
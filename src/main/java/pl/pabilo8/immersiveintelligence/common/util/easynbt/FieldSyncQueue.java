@@ -0,0 +1,98 @@
+package pl.pabilo8.immersiveintelligence.common.util.easynbt;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
+import pl.pabilo8.immersiveintelligence.common.network.PlayerMessageQueue;
+import pl.pabilo8.immersiveintelligence.common.network.messages.MessageFieldSync;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.NBTSerialisation.NBTSerializer;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+/**
+ * Collects {@link SyncNBT} field updates of tile entities and entities, then sends them as a single {@link MessageFieldSync} per player at the end of a world tick.<br>
+ * Updates are written separately for each receiving player, so players who weren't in range when a field changed still receive it later.
+ *
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public class FieldSyncQueue
+{
+	private static final PlayerMessageQueue<MessageFieldSync> QUEUE = new PlayerMessageQueue<>(MessageFieldSync::new, MessageFieldSync::getDimension);
+
+	/**
+	 * @param tile tile entity the fields belong to
+	 * @return players near the tile entity, which receive its updates
+	 */
+	public static List<EntityPlayerMP> getReceivers(TileEntity tile)
+	{
+		if(tile.getWorld().isRemote)
+			return Collections.emptyList();
+
+		WorldServer world = (WorldServer)tile.getWorld();
+		BlockPos pos = tile.getPos();
+		double rangeSq = IIPacketHandler.DEFAULT_RANGE*IIPacketHandler.DEFAULT_RANGE;
+		ArrayList<EntityPlayerMP> receivers = new ArrayList<>();
+		for(EntityPlayer player : world.playerEntities)
+			if(player instanceof EntityPlayerMP&&player.getDistanceSq(pos) <= rangeSq&&
+					world.getPlayerChunkMap().isPlayerWatchingChunk((EntityPlayerMP)player, pos.getX()>>4, pos.getZ()>>4))
+				receivers.add((EntityPlayerMP)player);
+		return receivers;
+	}
+
+	/**
+	 * @param entity entity the fields belong to
+	 * @return players tracking the entity, which receive its updates
+	 */
+	public static List<EntityPlayerMP> getReceivers(Entity entity)
+	{
+		if(entity.world.isRemote)
+			return Collections.emptyList();
+
+		ArrayList<EntityPlayerMP> receivers = new ArrayList<>();
+		for(EntityPlayer player : ((WorldServer)entity.world).getEntityTracker().getTrackingPlayers(entity))
+			if(player instanceof EntityPlayerMP)
+				receivers.add((EntityPlayerMP)player);
+		return receivers;
+	}
+
+	/**
+	 * Queues a tile entity update
+	 *
+	 * @param tile tile entity the fields belong to
+	 * @param data data written by {@link NBTSerializer} for each of the {@link #getReceivers(TileEntity)}
+	 */
+	public static void queue(TileEntity tile, Map<EntityPlayerMP, byte[]> data)
+	{
+		BlockPos pos = tile.getPos();
+		for(Entry<EntityPlayerMP, byte[]> entry : data.entrySet())
+			QUEUE.getMessage(entry.getKey()).addTile(pos, entry.getValue());
+	}
+
+	/**
+	 * Queues an entity update
+	 *
+	 * @param entity entity the fields belong to
+	 * @param data   data written by {@link NBTSerializer} for each of the {@link #getReceivers(Entity)}
+	 */
+	public static void queue(Entity entity, Map<EntityPlayerMP, byte[]> data)
+	{
+		for(Entry<EntityPlayerMP, byte[]> entry : data.entrySet())
+			QUEUE.getMessage(entry.getKey()).addEntity(entity.getEntityId(), entry.getValue());
+	}
+
+	/**
+	 * Sends the queued updates to players in a world, should be called at the end of every world tick
+	 */
+	public static void flush(World world)
+	{
+		QUEUE.flush(world);
+	}
+}
@@ -2,12 +2,15 @@ package pl.pabilo8.immersiveintelligence.common.util.easynbt;
 
 import blusunrize.immersiveengineering.api.energy.immersiveflux.FluxStorage;
 import blusunrize.immersiveengineering.common.util.inventory.MultiFluidTank;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.*;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.common.util.INBTSerializable;
 import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import pl.pabilo8.immersiveintelligence.common.IILogger;
 import pl.pabilo8.immersiveintelligence.common.util.IIStringUtil;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT.SyncEvents;
@@ -17,9 +20,7 @@ import javax.annotation.Nullable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -28,9 +29,11 @@ import java.util.function.Function;
  * This class is used to sync fields in any class<br>
  * To use it, create a new class and add the {@link SyncNBT} annotation to the fields you want to sync<br>
  * Any non-static field, declared or inherited with the annotation will be synced automatically<br>
+ * Network sync only sends fields that changed since they were last sent, using binary codecs where available, see {@link NBTSerializer#writeChangedForEvent(Object, SyncEvents, Collection)}
  *
  * @author Pabilo8
  * @ii-approved 0.3.1
+ * @updated 18.10.2026
  * @since 25.12.2023
  */
 @SuppressWarnings({"rawtypes", "unused"})
@@ -44,6 +47,10 @@ public class NBTSerialisation
 	 * Registry of all serializers for a tile entity class
 	 */
 	private static final HashMap<Class<?>, NBTSerializer<?>> serializers = new HashMap<>();
+	/**
+	 * Registry of binary codecs for field types, fields of other types are sent as NBT
+	 */
+	private static final HashMap<Class<?>, FieldCodec<?>> codecRegistry = new HashMap<>();
 
 	static
 	{
@@ -121,6 +128,37 @@ public class NBTSerialisation
 					return field;
 				}
 		);
+
+		//Register binary codecs for immutable types
+		registerCodec(String.class, ByteBufUtils::writeUTF8String, ByteBufUtils::readUTF8String);
+		registerCodec(int.class, (buf, i) -> ByteBufUtils.writeVarInt(buf, i, 5), buf -> ByteBufUtils.readVarInt(buf, 5));
+		registerCodec(boolean.class, ByteBuf::writeBoolean, ByteBuf::readBoolean);
+		registerCodec(float.class, ByteBuf::writeFloat, ByteBuf::readFloat);
+		registerCodec(double.class, ByteBuf::writeDouble, ByteBuf::readDouble);
+		registerCodec(int[].class,
+				(buf, array) ->
+				{
+					ByteBufUtils.writeVarInt(buf, array.length, 5);
+					for(int i : array)
+						buf.writeInt(i);
+				},
+				buf ->
+				{
+					int[] array = new int[ByteBufUtils.readVarInt(buf, 5)];
+					for(int i = 0; i < array.length; i++)
+						array[i] = buf.readInt();
+					return array;
+				}
+		);
+		registerCodec(Vec3d.class,
+				(buf, vec) -> buf.writeDouble(vec.x).writeDouble(vec.y).writeDouble(vec.z),
+				buf -> new Vec3d(buf.readDouble(), buf.readDouble(), buf.readDouble())
+		);
+	}
+
+	private static <FIELD> void registerCodec(Class<FIELD> dataClass, BiConsumer<ByteBuf, FIELD> write, Function<ByteBuf, FIELD> read)
+	{
+		codecRegistry.put(dataClass, new FieldCodec<>(write, read));
 	}
 
 	private static <FIELD, NBT extends NBTBase> void registerSerializer(Class<FIELD> dataClass, Class<NBT> nbtClass,
@@ -191,15 +229,20 @@ public class NBTSerialisation
 		private final List<FieldSerializer<?, ?>> fields;
 		private final HashMap<Integer, List<FieldSerializer<?, ?>>> timeFields;
 		private final HashMap<SyncEvents, List<FieldSerializer<?, ?>>> eventFields;
+		/**
+		 * Values of fields last sent to each player, by object, encoded with {@link FieldSerializer#writeField(Object, ByteBuf)}
+		 */
+		private final WeakHashMap<Object, WeakHashMap<Object, byte[][]>> sentValues = new WeakHashMap<>();
 
 		NBTSerializer(Class<T> clazz)
 		{
-			serializers.put(clazz, this);
 			fields = new ArrayList<>();
 			timeFields = new HashMap<>();
 			eventFields = new HashMap<>();
 
+			//Fields are sorted, so their indices are the same on both sides
 			Field[] fields = clazz.getFields();
+			Arrays.sort(fields, Comparator.comparing(Field::getName).thenComparing(field -> field.getDeclaringClass().getName()));
 			for(Field field : fields)
 				if(field.isAnnotationPresent(SyncNBT.class))
 				{
@@ -214,6 +257,7 @@ public class NBTSerialisation
 					}
 
 					//Add to all matching lists
+					serializer.index = this.fields.size();
 
 					//All fields
 					this.fields.add(serializer);
@@ -304,6 +348,103 @@ public class NBTSerialisation
 			for(FieldSerializer<?, ?> field : fields)
 				field.deserializeField(tile, from, canSkip);
 		}
+
+		/**
+		 * Writes fields for the given time, which changed since they were last sent to each receiver
+		 *
+		 * @param tile      The tile entity
+		 * @param time      The time to serialize for
+		 * @param receivers The players the data will be sent to
+		 * @return Data readable by {@link #readChanged(Object, ByteBuf)} for each receiver, receivers to which no field has changed are skipped
+		 */
+		public <R> Map<R, byte[]> writeChangedForTime(T tile, int time, Collection<R> receivers)
+		{
+			return writeChanged(tile, timeFields.get(time), false, receivers);
+		}
+
+		/**
+		 * Writes fields for the given event, which changed since they were last sent to each receiver.<br>
+		 * Fields are always written when a GUI is opened, as the player opening it might've not received them before.
+		 *
+		 * @param tile      The tile entity
+		 * @param event     The event to serialize for
+		 * @param receivers The players the data will be sent to
+		 * @return Data readable by {@link #readChanged(Object, ByteBuf)} for each receiver, receivers to which no field has changed are skipped
+		 */
+		public <R> Map<R, byte[]> writeChangedForEvent(T tile, SyncEvents event, Collection<R> receivers)
+		{
+			return writeChanged(tile, eventFields.get(event), event==SyncEvents.TILE_GUI_OPENED, receivers);
+		}
+
+		private <R> Map<R, byte[]> writeChanged(T tile, @Nullable List<FieldSerializer<?, ?>> fields, boolean force, Collection<R> receivers)
+		{
+			if(fields==null||receivers.isEmpty())
+				return Collections.emptyMap();
+
+			//Each field is encoded once for all receivers
+			byte[][] values = new byte[fields.size()][];
+			ByteBuf out = Unpooled.buffer();
+			for(int i = 0; i < values.length; i++)
+			{
+				out.clear();
+				if(fields.get(i).writeField(tile, out))
+				{
+					values[i] = new byte[out.readableBytes()];
+					out.readBytes(values[i]);
+				}
+			}
+
+			//Players who didn't receive the previous update, have to receive all fields again
+			WeakHashMap<Object, byte[][]> sentTo = sentValues.computeIfAbsent(tile, t -> new WeakHashMap<>());
+			sentTo.keySet().retainAll(receivers);
+
+			IdentityHashMap<R, byte[]> data = new IdentityHashMap<>();
+			for(R receiver : receivers)
+			{
+				byte[][] sent = sentTo.computeIfAbsent(receiver, r -> new byte[this.fields.size()][]);
+				int changed = 0;
+				out.clear();
+				out.writeByte(0);
+
+				for(int i = 0; i < values.length; i++)
+				{
+					int index = fields.get(i).index;
+					if(values[i]==null||(!force&&Arrays.equals(values[i], sent[index])))
+						continue;
+
+					sent[index] = values[i];
+					out.writeByte(index);
+					out.writeBytes(values[i]);
+					changed++;
+				}
+
+				if(changed==0)
+					continue;
+				out.setByte(0, changed);
+				byte[] bytes = new byte[out.readableBytes()];
+				out.readBytes(bytes);
+				data.put(receiver, bytes);
+			}
+			return data;
+		}
+
+		/**
+		 * Reads fields written by {@link #writeChangedForEvent(Object, SyncEvents, Collection)} or {@link #writeChangedForTime(Object, int, Collection)}
+		 *
+		 * @param tile The tile entity
+		 * @param from The data to read
+		 */
+		public void readChanged(T tile, ByteBuf from)
+		{
+			int count = from.readUnsignedByte();
+			for(int i = 0; i < count; i++)
+			{
+				int index = from.readUnsignedByte();
+				//The rest of the data can't be read without knowing the field
+				if(index >= fields.size()||!fields.get(index).readField(tile, from))
+					return;
+			}
+		}
 	}
 
 	/**
@@ -314,12 +455,22 @@ public class NBTSerialisation
 		private final String nbtName, fieldName;
 		private final Field field;
 		protected MethodHandle getter, setter;
+		/**
+		 * Binary codec for the field type, null if the field is sent as NBT
+		 */
+		@Nullable
+		private final FieldCodec<FIELD> codec;
+		/**
+		 * Position of this field in the {@link NBTSerializer}, used as its ID in network sync
+		 */
+		int index;
 
 		FieldSerializer(@Nonnull Field field, SyncNBT annotation)
 		{
 			this.field = field;
 			this.nbtName = !annotation.name().isEmpty()?annotation.name(): IIStringUtil.toSnakeCase(field.getName());
 			this.fieldName = field.getName();
+			this.codec = (FieldCodec<FIELD>)codecRegistry.get(field.getType());
 
 			field.setAccessible(true);
 
@@ -363,6 +514,58 @@ public class NBTSerialisation
 			}
 		}
 
+		/**
+		 * @param tile The tile entity
+		 * @param into The buffer to write the field value into
+		 * @return whether the field was written
+		 */
+		@SuppressWarnings("unchecked")
+		boolean writeField(@Nonnull Object tile, @Nonnull ByteBuf into)
+		{
+			try
+			{
+				FIELD value = (FIELD)getter.invoke(tile);
+				if(codec!=null)
+					codec.write.accept(into, value);
+				else
+				{
+					NBTTagCompound wrapper = new NBTTagCompound();
+					wrapper.setTag(nbtName, toNBT(value));
+					ByteBufUtils.writeTag(into, wrapper);
+				}
+				return true;
+			} catch(Throwable e)
+			{
+				IILogger.error("Error serializing field "+fieldName+" in "+tile.getClass().getName());
+			}
+			return false;
+		}
+
+		/**
+		 * @param tile The tile entity
+		 * @param from The buffer to read the field value from
+		 * @return whether the field was read
+		 */
+		@SuppressWarnings("unchecked")
+		boolean readField(@Nonnull Object tile, @Nonnull ByteBuf from)
+		{
+			try
+			{
+				if(codec!=null)
+					setter.invoke(tile, codec.read.apply(from));
+				else
+				{
+					NBTTagCompound wrapper = ByteBufUtils.readTag(from);
+					setter.invoke(tile, fromNBT(tile, (NBT)wrapper.getTag(nbtName)));
+				}
+				return true;
+			} catch(Throwable e)
+			{
+				IILogger.error("Error deserializing field "+fieldName+" in "+tile.getClass().getName());
+			}
+			return false;
+		}
+
 		/**
 		 * Override if you want to get the current value from the tile entity
 		 *
@@ -379,4 +582,19 @@ public class NBTSerialisation
 
 		protected abstract NBT toNBT(FIELD field);
 	}
+
+	/**
+	 * Writes and reads a field value directly to a {@link ByteBuf}
+	 */
+	private static class FieldCodec<FIELD>
+	{
+		final BiConsumer<ByteBuf, FIELD> write;
+		final Function<ByteBuf, FIELD> read;
+
+		FieldCodec(BiConsumer<ByteBuf, FIELD> write, Function<ByteBuf, FIELD> read)
+		{
+			this.write = write;
+			this.read = read;
+		}
+	}
 }
@@ -0,0 +1,248 @@
+package pl.pabilo8.immersiveintelligence.common.util.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.RayTraceResult.Type;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import pl.pabilo8.immersiveintelligence.common.util.raytracer.BlacklistedRayTracer;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Server side index of loaded entities, built once per tick for each dimension, when it's queried for the first time.<br>
+ * Queries are widened by the motion of the fastest indexed entity, as entities can move after the index was built.
+ * Entities spawned later in the tick are checked separately.<br>
+ * Used by emplacements, radars and Hanses, instead of searching the world's chunks for large boxes on their own.<br>
+ * Line of sight checks are cached for the tick as well, see {@link #canSee(World, Vec3d, Entity, Vec3d, List, int)}.<br>
+ * Queries on client side are passed to the world directly.
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ * @updated 18.10.2026
+ */
+public class EntityTargetIndex
+{
+	/**
+	 * Size of a grid cell in blocks, as a power of 2, same as a chunk
+	 */
+	private static final int CELL_SHIFT = 4;
+	/**
+	 * Margin added to queried boxes, entities are indexed by position, not by their bounding box
+	 */
+	private static final double MARGIN = 2;
+
+	private static final HashMap<Integer, EntityTargetIndex> INDICES = new HashMap<>();
+
+	/**
+	 * World tick this index was built in
+	 */
+	private long tick = -1;
+	/**
+	 * All entities, grouped by chunk columns
+	 */
+	private final HashMap<Long, ArrayList<Entity>> cells = new HashMap<>();
+	/**
+	 * Living {@link IMob}s, grouped by chunk columns
+	 */
+	private final HashMap<Long, ArrayList<Entity>> hostileCells = new HashMap<>();
+	/**
+	 * Entities which joined the world after the index was built
+	 */
+	private final ArrayList<Entity> joined = new ArrayList<>();
+	/**
+	 * Fastest horizontal motion of the indexed entities, in blocks per tick
+	 */
+	private double maxMotion = 0;
+	/**
+	 * Line of sight results for this tick
+	 */
+	private final HashMap<SightLine, Boolean> sightCache = new HashMap<>();
+
+	/**
+	 * @param world     world to search in
+	 * @param clazz     class of the entities
+	 * @param aabb      box the entities' bounding boxes have to intersect
+	 * @param predicate filter, null to accept all entities
+	 * @return entities within the box
+	 */
+	public static <T extends Entity> List<T> getEntitiesWithinAABB(World world, Class<? extends T> clazz, AxisAlignedBB aabb, @Nullable Predicate<? super T> predicate)
+	{
+		if(world.isRemote)
+			return world.<T>getEntitiesWithinAABB(clazz, aabb, predicate==null?null: predicate::test);
+		return getIndex(world).query(false, clazz, aabb, predicate);
+	}
+
+	/**
+	 * @param world     world to search in
+	 * @param aabb      box the entities' bounding boxes have to intersect
+	 * @param predicate filter, null to accept all entities
+	 * @return living {@link IMob}s within the box
+	 */
+	public static List<EntityLivingBase> getHostilesWithinAABB(World world, AxisAlignedBB aabb, @Nullable Predicate<? super EntityLivingBase> predicate)
+	{
+		if(world.isRemote)
+			return world.getEntitiesWithinAABB(EntityLivingBase.class, aabb, input -> input instanceof IMob&&(predicate==null||predicate.test(input)));
+		return getIndex(world).query(true, EntityLivingBase.class, aabb, predicate);
+	}
+
+	/**
+	 * Checks whether an entity can be seen, using {@link BlacklistedRayTracer}.<br>
+	 * Results are cached for the current tick.
+	 *
+	 * @param world       world of the entity
+	 * @param posStart    position of the observer
+	 * @param entity      the observed entity
+	 * @param posEnd      observed position of the entity
+	 * @param blockFilter blocks ignored by the trace, i.e. the observer's own
+	 * @param tries       how many blocks of wall can the entity be behind
+	 * @return whether the entity is visible
+	 */
+	public static boolean canSee(World world, Vec3d posStart, Entity entity, Vec3d posEnd, List<BlockPos> blockFilter, int tries)
+	{
+		if(world.isRemote)
+			return traceSight(world, posStart, posEnd, blockFilter, tries);
+
+		EntityTargetIndex index = getIndex(world);
+		return index.sightCache.computeIfAbsent(new SightLine(entity.getEntityId(), posStart, posEnd, blockFilter, tries),
+				key -> traceSight(world, posStart, posEnd, blockFilter, tries));
+	}
+
+	/**
+	 * Adds an entity spawned after the index was built in this tick, called on {@link net.minecraftforge.event.entity.EntityJoinWorldEvent}
+	 */
+	public static void onEntityJoin(World world, Entity entity)
+	{
+		EntityTargetIndex index = INDICES.get(world.provider.getDimension());
+		//Outdated indices are rebuilt on the next query anyway
+		if(index!=null&&index.tick==world.getTotalWorldTime())
+			index.joined.add(entity);
+	}
+
+	/**
+	 * Removes the index of an unloaded dimension
+	 */
+	public static void clear(int dimension)
+	{
+		INDICES.remove(dimension);
+	}
+
+	private static boolean traceSight(World world, Vec3d posStart, Vec3d posEnd, List<BlockPos> blockFilter, int tries)
+	{
+		RayTraceResult rt = BlacklistedRayTracer.traceIgnoringBlocks(world, posStart, posEnd, blockFilter, tries);
+		return rt==null||rt.typeOfHit==Type.MISS;
+	}
+
+	private static EntityTargetIndex getIndex(World world)
+	{
+		EntityTargetIndex index = INDICES.computeIfAbsent(world.provider.getDimension(), d -> new EntityTargetIndex());
+		if(index.tick!=world.getTotalWorldTime())
+			index.build(world);
+		return index;
+	}
+
+	private void build(World world)
+	{
+		cells.clear();
+		hostileCells.clear();
+		joined.clear();
+		sightCache.clear();
+		maxMotion = 0;
+		tick = world.getTotalWorldTime();
+
+		for(Entity entity : world.loadedEntityList)
+		{
+			if(entity.isDead)
+				continue;
+			long key = getCellKey(((int)Math.floor(entity.posX))>>CELL_SHIFT, ((int)Math.floor(entity.posZ))>>CELL_SHIFT);
+			cells.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+			if(entity instanceof IMob&&entity instanceof EntityLivingBase)
+				hostileCells.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+			maxMotion = Math.max(maxMotion, Math.max(Math.abs(entity.motionX), Math.abs(entity.motionZ)));
+		}
+	}
+
+	private <T extends Entity> List<T> query(boolean hostile, Class<? extends T> clazz, AxisAlignedBB aabb, @Nullable Predicate<? super T> predicate)
+	{
+		HashMap<Long, ArrayList<Entity>> grid = hostile?hostileCells: cells;
+		ArrayList<T> found = new ArrayList<>();
+		for(Entity entity : joined)
+			if(!hostile||(entity instanceof IMob&&entity instanceof EntityLivingBase))
+				test(entity, clazz, aabb, predicate, found);
+		if(grid.isEmpty())
+			return found;
+
+		//Entities could've moved since the index was built
+		double margin = MARGIN+maxMotion;
+		int minX = ((int)Math.floor(aabb.minX-margin))>>CELL_SHIFT, maxX = ((int)Math.floor(aabb.maxX+margin))>>CELL_SHIFT;
+		int minZ = ((int)Math.floor(aabb.minZ-margin))>>CELL_SHIFT, maxZ = ((int)Math.floor(aabb.maxZ+margin))>>CELL_SHIFT;
+
+		for(int cx = minX; cx <= maxX; cx++)
+			for(int cz = minZ; cz <= maxZ; cz++)
+			{
+				ArrayList<Entity> cell = grid.get(getCellKey(cx, cz));
+				if(cell!=null)
+					for(Entity entity : cell)
+						test(entity, clazz, aabb, predicate, found);
+			}
+		return found;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Entity> void test(Entity entity, Class<? extends T> clazz, AxisAlignedBB aabb, @Nullable Predicate<? super T> predicate, List<T> found)
+	{
+		//Entities could've been killed earlier in this tick
+		if(entity.isDead||!clazz.isInstance(entity)||!entity.getEntityBoundingBox().intersects(aabb))
+			return;
+		T t = (T)entity;
+		if(predicate==null||predicate.test(t))
+			found.add(t);
+	}
+
+	private static long getCellKey(int cellX, int cellZ)
+	{
+		return ((long)cellX<<32)|(cellZ&0xffffffffL);
+	}
+
+	/**
+	 * Key of a cached line of sight check
+	 */
+	private static class SightLine
+	{
+		final int entity, tries;
+		final Vec3d start, end;
+		final List<BlockPos> blockFilter;
+
+		SightLine(int entity, Vec3d start, Vec3d end, List<BlockPos> blockFilter, int tries)
+		{
+			this.entity = entity;
+			this.tries = tries;
+			this.start = start;
+			this.end = end;
+			this.blockFilter = blockFilter;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if(this==o)
+				return true;
+			if(!(o instanceof SightLine))
+				return false;
+			SightLine other = (SightLine)o;
+			return entity==other.entity&&tries==other.tries&&start.equals(other.start)&&end.equals(other.end)&&blockFilter.equals(other.blockFilter);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(entity, tries, start, end, blockFilter);
+		}
+	}
+}
@@ -4,13 +4,13 @@ import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
-import pl.pabilo8.immersiveintelligence.common.network.IIPacketHandler;
-import pl.pabilo8.immersiveintelligence.common.network.messages.MessageEntityNBTSync;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.FieldSyncQueue;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.NBTSerialisation;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT;
 
 /**
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 23.12.2022
  */
 public interface ISyncNBTEntity<T extends Entity & ISyncNBTEntity<T>>
@@ -30,22 +30,23 @@ public interface ISyncNBTEntity<T extends Entity & ISyncNBTEntity<T>>
 		NBTSerialisation.synchroniseFor(tis, (tag, tile) -> tag.deserializeAll(tis, nbt, true));
 	}
 
+	/**
+	 * Sends fields synced at the current time, which changed since they were last sent
+	 */
 	@SuppressWarnings({"unchecked"})
 	default void updateEntityForTime()
 	{
-		@SuppressWarnings({"unchecked"})
 		T tis = ((T)this);
-		NBTTagCompound nbt = new NBTTagCompound();
-		NBTSerialisation.synchroniseFor(tis, (tag, tile) -> tag.serializeForTime(tile, nbt, tis.ticksExisted));
-		IIPacketHandler.sendToClient(new MessageEntityNBTSync(tis, nbt));
+		NBTSerialisation.synchroniseFor(tis, (tag, tile) -> FieldSyncQueue.queue(tis, tag.writeChangedForTime(tile, tis.ticksExisted, FieldSyncQueue.getReceivers(tis))));
 	}
 
+	/**
+	 * Sends fields synced on an event, which changed since they were last sent
+	 */
 	@SuppressWarnings({"unchecked"})
 	default void updateEntityForEvent(SyncNBT.SyncEvents event)
 	{
 		T tis = ((T)this);
-		NBTTagCompound nbt = new NBTTagCompound();
-		NBTSerialisation.synchroniseFor(tis, (tag, tile) -> tag.serializeForEvent(tile, nbt, event));
-		IIPacketHandler.sendToClient(new MessageEntityNBTSync(tis, nbt));
+		NBTSerialisation.synchroniseFor(tis, (tag, tile) -> FieldSyncQueue.queue(tis, tag.writeChangedForEvent(tile, event, FieldSyncQueue.getReceivers(tis))));
 	}
 }
@@ -27,6 +27,7 @@ import net.minecraftforge.items.CapabilityItemHandler;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.api.data.IIDataHandlingUtils;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.FieldSyncQueue;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.NBTSerialisation;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT;
 import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT.SyncEvents;
@@ -43,6 +44,7 @@ import javax.annotation.Nullable;
  * Closer to {@link TileEntityMultiblockMetal} functionally, but doesn't feature recipes.<br>
  *
  * @author Pabilo8
+ * @updated 18.10.2026
  * @since 04.08.2022
  */
 @SuppressWarnings("unused")
@@ -108,18 +110,20 @@ public abstract class TileEntityMultiblockIIGeneric<T extends TileEntityMultiblo
 		NBTSerialisation.synchroniseFor(this, (tag, tile) -> tag.deserializeAll(tile, message, true));
 	}
 
+	/**
+	 * Sends fields synced at the current time, which changed since they were last sent
+	 */
 	protected void updateTileForTime()
 	{
-		NBTTagCompound nbt = new NBTTagCompound();
-		NBTSerialisation.synchroniseFor(this, (tag, tile) -> tag.serializeForTime(tile, nbt, (int)(world.getTotalWorldTime()%1000)));
-		sendNBTMessageClient(nbt);
+		NBTSerialisation.synchroniseFor(this, (tag, tile) -> FieldSyncQueue.queue(this, tag.writeChangedForTime(tile, (int)(world.getTotalWorldTime()%1000), FieldSyncQueue.getReceivers(this))));
 	}
 
+	/**
+	 * Sends fields synced on an event, which changed since they were last sent
+	 */
 	protected void updateTileForEvent(SyncNBT.SyncEvents event)
 	{
-		NBTTagCompound nbt = new NBTTagCompound();
-		NBTSerialisation.synchroniseFor(this, (tag, tile) -> tag.serializeForEvent(tile, nbt, event));
-		sendNBTMessageClient(nbt);
+		NBTSerialisation.synchroniseFor(this, (tag, tile) -> FieldSyncQueue.queue(this, tag.writeChangedForEvent(tile, event, FieldSyncQueue.getReceivers(this))));
 	}
 
 	//--- Redstone ---//
@@ -169,7 +173,18 @@ public abstract class TileEntityMultiblockIIGeneric<T extends TileEntityMultiblo
 	{
 		T master = master();
 		if(master!=null&&isPOI(MultiblockPOI.DATA_INPUT))
+		{
+			master.onInputChanged();
 			master.receiveData(packet, pos);
+		}
+	}
+
+	/**
+	 * Called on master when its items, fluids, energy or data change
+	 */
+	protected void onInputChanged()
+	{
+
 	}
 
 
@@ -3,6 +3,7 @@ package pl.pabilo8.immersiveintelligence.common.util.multiblock.production;
 import blusunrize.immersiveengineering.common.blocks.IEBlockInterfaces.IGuiTile;
 import blusunrize.immersiveengineering.common.blocks.metal.TileEntityMultiblockMetal;
 import blusunrize.immersiveengineering.common.util.Utils;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTBase;
@@ -32,17 +33,87 @@ import java.util.function.Consumer;
  *
  * @author Pabilo8
  * @since 13.04.2023
+ * @updated 18.10.2026
  */
 
 public abstract class TileEntityMultiblockProductionBase<T extends TileEntityMultiblockProductionBase<T, R>, R extends IIIMultiblockRecipe>
 		extends TileEntityMultiblockIIGeneric<T>
 		implements IGuiTile
 {
+	/**
+	 * Ticks after which a sleeping machine checks for a new process, even if its inputs haven't changed
+	 */
+	private static final int IDLE_RECHECK_TICKS = 40;
+	/**
+	 * World time until which the machine doesn't look for new processes, as none could be started with the current inputs
+	 */
+	private long sleepUntil = 0;
+
 	public TileEntityMultiblockProductionBase(MultiblockStuctureBase<T> multiblock)
 	{
 		super(multiblock);
 	}
 
+	//--- Idle Sleeping ---//
+
+	/**
+	 * @return whether the machine should look for a new process this tick
+	 */
+	protected boolean isAwake()
+	{
+		return world.getTotalWorldTime() >= sleepUntil;
+	}
+
+	/**
+	 * Stops looking for new processes until the inputs change, see {@link #wakeUp()}
+	 */
+	protected void sleep()
+	{
+		sleepUntil = world.getTotalWorldTime()+IDLE_RECHECK_TICKS;
+	}
+
+	/**
+	 * Makes the machine look for a new process in the next tick
+	 */
+	public void wakeUp()
+	{
+		sleepUntil = 0;
+	}
+
+	@Override
+	protected void onInputChanged()
+	{
+		wakeUp();
+	}
+
+	@Override
+	public void doGraphicalUpdates(int slot)
+	{
+		T master = master();
+		if(master!=null)
+			master.onInputChanged();
+	}
+
+	@Override
+	public void updateMasterBlock(IBlockState state, boolean blockUpdate)
+	{
+		super.updateMasterBlock(state, blockUpdate);
+		//Called when fluid is inserted
+		T master = master();
+		if(master!=null)
+			master.onInputChanged();
+	}
+
+	@Override
+	public void postEnergyTransferUpdate(int energy, boolean simulate)
+	{
+		super.postEnergyTransferUpdate(energy, simulate);
+		//Only matters if the machine was out of energy
+		T master = master();
+		if(!simulate&&energy > 0&&master!=null&&master.energyStorage.getEnergyStored()==energy)
+			master.onInputChanged();
+	}
+
 
 	//--- Production-related Utilities ---//
 
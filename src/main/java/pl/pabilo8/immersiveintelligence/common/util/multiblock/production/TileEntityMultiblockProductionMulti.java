@@ -16,6 +16,7 @@ import java.util.Iterator;
  *
  * @author Pabilo8
  * @since 13.04.2023
+ * @updated 18.10.2026
  */
 
 public abstract class TileEntityMultiblockProductionMulti<T extends TileEntityMultiblockProductionMulti<T, R>, R extends IIIMultiblockRecipe>
@@ -61,6 +62,7 @@ public abstract class TileEntityMultiblockProductionMulti<T extends TileEntityMu
 						//Remove the process from the queue
 						onProductionFinish(process);
 						iterator.remove();
+						wakeUp();
 					}
 					break;
 				}
@@ -84,10 +86,12 @@ public abstract class TileEntityMultiblockProductionMulti<T extends TileEntityMu
 				canAdd = lastProcess.ticks/lastProcess.maxTicks >= getMinProductionOffset();
 			}
 
-			if(canAdd)
+			if(canAdd&&isAwake())
 			{
 				IIMultiblockProcess<R> process = findNewProductionProcess();
-				if(process!=null)
+				if(process==null)
+					sleep();
+				else
 				{
 					processQueue.add(process);
 					updateTileForEvent(SyncEvents.TILE_RECIPE_CHANGED);
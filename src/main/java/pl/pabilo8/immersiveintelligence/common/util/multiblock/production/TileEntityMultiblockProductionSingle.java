@@ -15,6 +15,7 @@ import javax.annotation.Nullable;
  *
  * @author Pabilo8
  * @since 13.04.2023
+ * @updated 18.10.2026
  */
 
 public abstract class TileEntityMultiblockProductionSingle<T extends TileEntityMultiblockProductionSingle<T, R>, R extends IIIMultiblockRecipe>
@@ -62,7 +63,11 @@ public abstract class TileEntityMultiblockProductionSingle<T extends TileEntityM
 		}
 
 		//Add new process to the queue (no matter whether it's null)
+		if(existingProcess==null&&!isAwake())
+			return;
 		this.currentProcess = findNewProductionProcess();
+		if(this.currentProcess==null)
+			sleep();
 
 		//Send block update on changes
 		if(this.currentProcess!=existingProcess)
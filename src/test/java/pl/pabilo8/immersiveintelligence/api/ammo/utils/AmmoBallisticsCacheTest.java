@@ -0,0 +1,66 @@
+package pl.pabilo8.immersiveintelligence.api.ammo.utils;
+
+import net.minecraft.util.math.MathHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Accuracy of ballistic angles calculated using firing tables, their speed is measured by {@code BallisticsBenchmark} in the jmh source set
+ *
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class AmmoBallisticsCacheTest
+{
+	private static final float FORCE = 6f;
+	private static final double GRAVITY = 0.1, DRAG = 0.99;
+
+	@Test
+	public void testFiringTableAccuracy()
+	{
+		for(int height = -60; height <= 60; height += 15)
+			for(int distance = 20; distance < 300; distance += 20)
+			{
+				float reference = IIAmmoUtils.simulateBallisticAngle(distance, height, FORCE, GRAVITY, DRAG, 0.002);
+				double referenceError = Math.abs(landingDistance(reference, height)-distance);
+				//Skip targets out of range
+				if(referenceError > 1)
+					continue;
+
+				float angle = IIAmmoUtils.calculateBallisticAngle(distance, height, FORCE, GRAVITY, DRAG, 0.002);
+				assertEquals(distance, landingDistance(angle, height), 1.5, "distance "+distance+", height "+height);
+			}
+	}
+
+	@Test
+	public void testSolverFallback()
+	{
+		//Below the firing table
+		double height = -160, distance = 200;
+		float angle = IIAmmoUtils.calculateBallisticAngle(distance, height, FORCE, GRAVITY, DRAG, 0.002);
+		assertEquals(distance, landingDistance(angle, height), 1.5);
+	}
+
+	/**
+	 * @param pitch angle returned by {@link IIAmmoUtils#calculateBallisticAngle(double, double, float, double, double, double)}
+	 */
+	private static double landingDistance(float pitch, double height)
+	{
+		double angle = (90F-pitch)*Math.PI/180D;
+		double motionX = MathHelper.cos((float)angle)*FORCE, motionY = MathHelper.sin((float)angle)*FORCE;
+		double posX = 0, posY = 0, prevX = 0, prevY = 0;
+		while(posY > height||motionY > 0)
+		{
+			prevX = posX;
+			prevY = posY;
+			motionX *= DRAG;
+			motionY *= DRAG;
+			motionY -= GRAVITY;
+			posX += motionX;
+			posY += motionY;
+		}
+		//interpolate between ticks
+		return prevY > height?prevX+(posX-prevX)*(prevY-height)/(prevY-posY): posX;
+	}
+}
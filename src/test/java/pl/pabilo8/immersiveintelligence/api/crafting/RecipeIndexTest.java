@@ -0,0 +1,71 @@
+package pl.pabilo8.immersiveintelligence.api.crafting;
+
+import blusunrize.immersiveengineering.api.crafting.IngredientStack;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.test.GameTestBasic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+class RecipeIndexTest extends GameTestBasic
+{
+	@Test
+	void itemCandidatesKeepOrder()
+	{
+		ArrayList<IngredientStack> recipes = new ArrayList<>(Arrays.asList(
+				new IngredientStack(new ItemStack(Items.STICK)),
+				new IngredientStack(new ItemStack(Items.COAL)),
+				new IngredientStack(Arrays.asList(new ItemStack(Items.COAL, 1, 1), new ItemStack(Items.STICK)))
+		));
+		RecipeIndex<IngredientStack> index = RecipeIndex.ofItems(() -> recipes, recipe -> recipe);
+
+		assertEquals(Arrays.asList(recipes.get(0), recipes.get(2)), index.getCandidates(new ItemStack(Items.STICK)));
+		assertEquals(Collections.emptyList(), index.getCandidates(new ItemStack(Items.APPLE)));
+	}
+
+	@Test
+	void rebuiltWhenRecipesChange()
+	{
+		ArrayList<FluidStack> recipes = new ArrayList<>();
+		recipes.add(new FluidStack(FluidRegistry.WATER, 1000));
+		RecipeIndex<FluidStack> index = RecipeIndex.ofFluids(() -> recipes, recipe -> recipe);
+		assertTrue(index.getCandidates(new FluidStack(FluidRegistry.LAVA, 1000)).isEmpty());
+
+		recipes.add(new FluidStack(FluidRegistry.LAVA, 500));
+		assertEquals(Collections.singletonList(recipes.get(1)), index.getCandidates(new FluidStack(FluidRegistry.LAVA, 1000)));
+
+		recipes.set(1, new FluidStack(FluidRegistry.WATER, 500));
+		RecipeIndex.invalidateAll();
+		assertEquals(recipes, index.getCandidates(new FluidStack(FluidRegistry.WATER, 1000)));
+	}
+
+	@Test
+	void missCacheForgetsChangedInputs()
+	{
+		RecipeMissCache cache = new RecipeMissCache();
+		ItemStack input = new ItemStack(Items.STICK, 4);
+		cache.setMiss(input, new FluidStack(FluidRegistry.WATER, 1000));
+
+		assertTrue(cache.isKnownMiss(new ItemStack(Items.STICK, 4), new FluidStack(FluidRegistry.WATER, 1000)));
+		assertFalse(cache.isKnownMiss(new ItemStack(Items.STICK, 5), new FluidStack(FluidRegistry.WATER, 1000)));
+		assertFalse(cache.isKnownMiss(new ItemStack(Items.STICK, 4), new FluidStack(FluidRegistry.WATER, 500)));
+
+		//The cached stack is a copy
+		input.grow(1);
+		assertTrue(cache.isKnownMiss(new ItemStack(Items.STICK, 4), new FluidStack(FluidRegistry.WATER, 1000)));
+
+		RecipeIndex.invalidateAll();
+		assertFalse(cache.isKnownMiss(new ItemStack(Items.STICK, 4), new FluidStack(FluidRegistry.WATER, 1000)));
+	}
+}
@@ -4,8 +4,15 @@ import net.minecraft.item.EnumDyeColor;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeBoolean;
-import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeInteger;
+import pl.pabilo8.immersiveintelligence.api.data.operations.arithmetic.DataOperationAdd;
+import pl.pabilo8.immersiveintelligence.api.data.operations.arithmetic.DataOperationDivide;
+import pl.pabilo8.immersiveintelligence.api.data.operations.arithmetic.DataOperationMultiply;
+import pl.pabilo8.immersiveintelligence.api.data.operations.array.DataOperationArrayPush;
+import pl.pabilo8.immersiveintelligence.api.data.operations.comparators.DataOperationEqual;
+import pl.pabilo8.immersiveintelligence.api.data.operations.comparators.DataOperationGreater;
+import pl.pabilo8.immersiveintelligence.api.data.operations.logic.DataOperationNOT;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
+import pl.pabilo8.immersiveintelligence.api.data.types.*;
 import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -13,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * @author Pabilo8 (pabilo@iiteam.net)
  * @since 28.08.2024
+ * @updated 18.10.2026
  */
 public class DataPacketTest
 {
@@ -89,4 +97,119 @@ public class DataPacketTest
 		DataPacket clonedPacket = dataPacket.clone();
 		assertEquals(dataPacket, clonedPacket);
 	}
+
+	@Test
+	public void testCloneMatchesNBTRoundTrip()
+	{
+		dataPacket.setVariable('a', new DataTypeInteger(7));
+		dataPacket.setVariable('b', new DataTypeString("radar"));
+		dataPacket.setVariable('c', new DataTypeArray(
+				new DataTypeFloat(1.5f),
+				new DataTypeArray(new DataTypeString("nested"), new DataTypeBoolean(false))
+		));
+		dataPacket.setVariable('d', new DataTypeMap(new DataTypeString("key"), new DataTypeInteger(3)));
+		dataPacket.setVariable('e', new DataTypeExpression(
+				new DataType[]{new DataTypeAccessor('a'), new DataTypeInteger(2)}, new DataOperationAdd(), 'a'));
+		dataPacket.setPacketColor(EnumDyeColor.RED).setPacketAddress(12);
+
+		DataPacket nbtClone = new DataPacket().fromNBT(dataPacket.toNBT());
+		DataPacket clonedPacket = dataPacket.clone();
+
+		assertEquals(nbtClone.toNBT(), clonedPacket.toNBT());
+		assertEquals(nbtClone, clonedPacket);
+	}
+
+	@Test
+	public void testCloneIsCopyOnWrite()
+	{
+		DataTypeInteger integerType = new DataTypeInteger(42);
+		dataPacket.setVariable('a', integerType);
+		dataPacket.setVariable('b', new DataTypeArray(new DataTypeInteger(1)));
+
+		//Immutable variables are shared between clones
+		DataPacket clonedPacket = dataPacket.clone();
+		assertSame(integerType, clonedPacket.getPacketVariable('a'));
+
+		//Modifying the clone doesn't affect the original
+		clonedPacket.setVariable('a', new DataTypeInteger(13));
+		assertEquals(42, ((DataTypeInteger)dataPacket.getPacketVariable('a')).value);
+
+		//Mutable variables modified in place don't leak into the original
+		DataPacket secondClone = dataPacket.clone();
+		new DataOperationArrayPush().execute(secondClone, new DataTypeExpression(
+				new DataType[]{new DataTypeAccessor('b'), new DataTypeInteger(2)}, new DataOperationArrayPush(), 'a'));
+		assertEquals(2, ((DataTypeArray)secondClone.getPacketVariable('b')).size());
+		assertEquals(1, ((DataTypeArray)dataPacket.getPacketVariable('b')).size());
+	}
+
+	@Test
+	public void testCompiledExpressionMatchesInterpreted()
+	{
+		dataPacket.setVariable('a', new DataTypeInteger(7));
+		dataPacket.setVariable('b', new DataTypeFloat(1.5f));
+		dataPacket.setVariable('c', new DataTypeString("not a number"));
+
+		DataTypeExpression[] expressions = {
+				//@a+(@b*2)
+				new DataTypeExpression(new DataType[]{new DataTypeAccessor('a'),
+						new DataTypeExpression(new DataType[]{new DataTypeAccessor('b'), new DataTypeInteger(2)}, new DataOperationMultiply(), 'a')
+				}, new DataOperationAdd(), 'a'),
+				//@a/0 and @c/2
+				new DataTypeExpression(new DataType[]{new DataTypeAccessor('a'), new DataTypeInteger(0)}, new DataOperationDivide(), 'a'),
+				new DataTypeExpression(new DataType[]{new DataTypeAccessor('c'), new DataTypeInteger(2)}, new DataOperationDivide(), 'a'),
+				//!(@a>@b), @a==7, @z==@z
+				new DataTypeExpression(new DataType[]{
+						new DataTypeExpression(new DataType[]{new DataTypeAccessor('a'), new DataTypeAccessor('b')}, new DataOperationGreater(), 'a')
+				}, new DataOperationNOT(), 'a'),
+				new DataTypeExpression(new DataType[]{new DataTypeAccessor('a'), new DataTypeInteger(7)}, new DataOperationEqual(), 'a'),
+				new DataTypeExpression(new DataType[]{new DataTypeAccessor('z'), new DataTypeAccessor('z')}, new DataOperationEqual(), 'a')
+		};
+
+		for(DataTypeExpression expression : expressions)
+		{
+			ICompiledValue compiled = expression.compile();
+			assertEquals(expression.getValue(dataPacket), compiled.evaluate(dataPacket), expression.toString());
+		}
+
+		//Constants are not copied on each evaluation
+		DataTypeArray array = new DataTypeArray(new DataTypeInteger(1));
+		assertSame(array, DataTypeExpression.compileValue(array).evaluate(dataPacket));
+	}
+
+	@Test
+	public void testPrimitiveAccess()
+	{
+		dataPacket.setVariable('a', new DataTypeFloat(3.75f));
+		dataPacket.setVariable('b', new DataTypeAccessor('a'));
+		dataPacket.setVariable('c', new DataTypeString("not a number"));
+
+		assertEquals(3, dataPacket.getInt('a'));
+		assertEquals(3.75f, dataPacket.getFloat('b'));
+		assertEquals(0, dataPacket.getInt('c'));
+		assertEquals(0, dataPacket.getInt('z'));
+		assertEquals(0, dataPacket.getInt('#'));
+	}
+
+	@Test
+	public void testSlotOrderIteration()
+	{
+		dataPacket.setVariable('0', new DataTypeInteger(3));
+		dataPacket.setVariable('z', new DataTypeInteger(2));
+		dataPacket.setVariable('a', new DataTypeInteger(1));
+		assertFalse(dataPacket.setVariable('#', new DataTypeInteger(4)));
+		assertEquals(3, dataPacket.size());
+
+		StringBuilder names = new StringBuilder();
+		dataPacket.forEachVariable((name, value) -> names.append(name));
+		assertEquals("az0", names.toString());
+
+		int expected = 1;
+		for(DataType type : dataPacket)
+			assertEquals(expected++, ((DataTypeInteger)type).value);
+
+		assertTrue(dataPacket.variables.containsKey('z'));
+		dataPacket.removeAllVariables();
+		assertFalse(dataPacket.hasAnyVariables());
+		assertTrue(dataPacket.variables.isEmpty());
+	}
 }
@@ -0,0 +1,63 @@
+package pl.pabilo8.immersiveintelligence.api.data.device;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
+import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeInteger;
+import pl.pabilo8.immersiveintelligence.test.GameTestBasic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+class DataStorageCacheTest extends GameTestBasic
+{
+	@BeforeAll
+	static void beforeAll()
+	{
+		IIDataTypeUtils.registerDataTypes();
+	}
+
+	@Test
+	void repeatedReadsAreCached()
+	{
+		ItemStack stack = new ItemStack(Items.PAPER);
+		DataPacket packet = new DataPacket();
+		packet.setVariable('a', new DataTypeInteger(7));
+		DataStorageCache.writeStoredData(stack, "stored_data", packet);
+
+		long hits = DataStorageCache.getHitCount(), misses = DataStorageCache.getMissCount();
+		DataPacket first = DataStorageCache.getStoredData(stack, "stored_data");
+		DataPacket second = DataStorageCache.getStoredData(stack, "stored_data");
+		assertEquals(misses+1, DataStorageCache.getMissCount());
+		assertEquals(hits+1, DataStorageCache.getHitCount());
+		assertEquals(7, first.getInt('a'));
+
+		//Modifying a returned packet doesn't affect the cached one
+		first.setVariable('a', new DataTypeInteger(13));
+		assertEquals(7, second.getInt('a'));
+		assertEquals(7, DataStorageCache.getStoredData(stack, "stored_data").getInt('a'));
+	}
+
+	@Test
+	void writingInvalidatesData()
+	{
+		ItemStack stack = new ItemStack(Items.PAPER);
+		DataPacket packet = new DataPacket();
+		packet.setVariable('a', new DataTypeInteger(1));
+		DataStorageCache.writeStoredData(stack, "stored_data", packet);
+		assertEquals(1, DataStorageCache.getStoredData(stack, "stored_data").getInt('a'));
+
+		packet.setVariable('a', new DataTypeInteger(2));
+		DataStorageCache.writeStoredData(stack, "stored_data", packet);
+		assertEquals(2, DataStorageCache.getStoredData(stack, "stored_data").getInt('a'));
+
+		//Items without data return an empty packet
+		assertFalse(DataStorageCache.getStoredData(new ItemStack(Items.PAPER), "stored_data").hasAnyVariables());
+	}
+}
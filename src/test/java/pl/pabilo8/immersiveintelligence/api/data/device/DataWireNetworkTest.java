@@ -1,5 +1,8 @@
 package pl.pabilo8.immersiveintelligence.api.data.device;
 
+import blusunrize.immersiveengineering.api.ApiUtils;
+import blusunrize.immersiveengineering.api.energy.wires.ImmersiveNetHandler;
+import blusunrize.immersiveengineering.api.energy.wires.ImmersiveNetHandler.Connection;
 import blusunrize.immersiveengineering.common.blocks.TileEntityIEBase;
 import net.minecraft.item.EnumDyeColor;
 import net.minecraft.nbt.NBTTagCompound;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
 import pl.pabilo8.immersiveintelligence.common.block.data_device.tileentity.TileEntityDataConnector;
+import pl.pabilo8.immersiveintelligence.common.wire.IIDataWireType;
 import pl.pabilo8.immersiveintelligence.test.GameTestWorld;
 
 import javax.annotation.Nullable;
@@ -18,6 +22,10 @@ import java.lang.ref.WeakReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+/**
+ * @author Pabilo8
+ * @updated 18.10.2026
+ */
 class DataWireNetworkTest extends GameTestWorld
 {
 	private DataWireNetwork dataWireNetwork;
@@ -103,6 +111,67 @@ class DataWireNetworkTest extends GameTestWorld
 //		assertNotNull(((TestDevice)receiver).received);
 	}
 
+	@Test
+	void testRemoveBridgeWire()
+	{
+		//Setup, 1 - 2 - 3
+		TestConnector first = placeConnector(new BlockPos(0, 5, 0)), second = placeConnector(new BlockPos(2, 5, 0)), third = placeConnector(new BlockPos(4, 5, 0));
+		connect(first, second);
+		Connection bridge = connect(second, third);
+		assertSame(first.getDataNetwork(), third.getDataNetwork());
+
+		//Both ends report the removal, the network is split once
+		ImmersiveNetHandler.INSTANCE.removeConnection(world, bridge);
+		DataWireNetwork remaining = first.getDataNetwork(), splitOff = third.getDataNetwork();
+		assertSame(remaining, second.getDataNetwork());
+		assertNotSame(remaining, splitOff);
+		assertEquals(2, remaining.connectors.size());
+		assertEquals(1, splitOff.connectors.size());
+
+		//A repeated removal doesn't search again
+		splitOff.removeConnection(third, bridge);
+		assertSame(splitOff, third.getDataNetwork());
+		assertSame(remaining, second.getDataNetwork());
+	}
+
+	@Test
+	void testRemoveNonBridgeWire()
+	{
+		//Setup, 1 - 2 - 3 - 1
+		TestConnector first = placeConnector(new BlockPos(0, 5, 0)), second = placeConnector(new BlockPos(2, 5, 0)), third = placeConnector(new BlockPos(4, 5, 0));
+		Connection removed = connect(first, second);
+		connect(second, third);
+		connect(third, first);
+		DataWireNetwork network = first.getDataNetwork();
+
+		//The network stays connected through the third connector
+		ImmersiveNetHandler.INSTANCE.removeConnection(world, removed);
+		assertSame(network, first.getDataNetwork());
+		assertSame(network, second.getDataNetwork());
+		assertSame(network, third.getDataNetwork());
+		assertEquals(3, network.connectors.size());
+	}
+
+	private TestConnector placeConnector(BlockPos pos)
+	{
+		TestConnector connector = new TestConnector();
+		world.setTileEntity(pos, connector);
+		return connector;
+	}
+
+	private Connection connect(TestConnector first, TestConnector second)
+	{
+		if(ImmersiveNetHandler.INSTANCE==null)
+			ImmersiveNetHandler.INSTANCE = new ImmersiveNetHandler();
+		if(IIDataWireType.DATA==null)
+			IIDataWireType.init();
+
+		Connection connection = ImmersiveNetHandler.INSTANCE.addAndGetConnection(world, first.getPos(), second.getPos(),
+				(int)Math.sqrt(first.getPos().distanceSq(second.getPos())), IIDataWireType.DATA);
+		DataWireNetwork.connectConnectors(first, ApiUtils.toIIC(second.getPos(), world));
+		return connection;
+	}
+
 	private static class TestConnector extends TileEntityDataConnector
 	{
 		public boolean packetReceived, packetSent;
@@ -0,0 +1,56 @@
+package pl.pabilo8.immersiveintelligence.api.data.operations.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+class TextPatternsTest
+{
+	@Test
+	void literalPatternsMatchStringMethods()
+	{
+		String text = ",radar,,contact, bearing,,";
+		assertTrue(TextPatterns.isLiteral(","));
+		assertArrayEquals(text.split(","), TextPatterns.split(text, ","));
+		assertArrayEquals(text.split(",,"), TextPatterns.split(text, ",,"));
+		assertArrayEquals(",,,".split(","), TextPatterns.split(",,,", ","));
+		assertEquals(text.replaceAll(",", ";"), TextPatterns.replaceAll(text, ",", ";"));
+		assertEquals(text.replaceFirst(",", ";"), TextPatterns.replaceFirst(text, ",", ";"));
+	}
+
+	@Test
+	void regexPatternsMatchStringMethods()
+	{
+		String text = "x=12 y=-7 z=300";
+		assertFalse(TextPatterns.isLiteral("-?\\d+"));
+		assertArrayEquals(text.split("\\s+"), TextPatterns.split(text, "\\s+"));
+		assertArrayEquals("abc".split(""), TextPatterns.split("abc", ""));
+		assertEquals(text.replaceAll("(\\w)=(-?\\d+)", "$2$1"), TextPatterns.replaceAll(text, "(\\w)=(-?\\d+)", "$2$1"));
+		assertEquals(text.replaceFirst("\\d+", "#"), TextPatterns.replaceFirst(text, "\\d+", "#"));
+		assertSame(TextPatterns.getPattern("\\d+"), TextPatterns.getPattern("\\d+"));
+	}
+
+	@Test
+	void invalidPatternsReturnText()
+	{
+		assertNull(TextPatterns.getPattern("(unclosed"));
+		assertEquals("text", TextPatterns.replaceAll("text", "(unclosed", "x"));
+		assertEquals("text", TextPatterns.replaceAll("text", "t", "$3"));
+		assertArrayEquals(new String[]{"text"}, TextPatterns.split("text", "[a-"));
+	}
+
+	@Test
+	void catastrophicPatternsAreStopped()
+	{
+		StringBuilder text = new StringBuilder();
+		for(int i = 0; i < 40; i++)
+			text.append('a');
+		text.append('!');
+
+		assertEquals(text.toString(), TextPatterns.replaceAll(text.toString(), "(a+)+b", "x"));
+	}
+}
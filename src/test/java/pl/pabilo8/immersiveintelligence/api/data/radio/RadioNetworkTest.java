@@ -13,6 +13,7 @@ import static org.mockito.Mockito.*;
 
 /**
  * @author Pabilo8 (pabilo@iiteam.net)
+ * @updated 18.10.2026
  * @since 13.12.2024
  */
 public class RadioNetworkTest
@@ -74,6 +75,72 @@ public class RadioNetworkTest
 		verify(mockDevice2).onRadioReceive(mockPacket);
 	}
 
+	@Test
+	public void testSendPacketAfterRetune()
+	{
+		IRadioDevice mockDevice3 = mock(IRadioDevice.class);
+		when(mockDevice1.getFrequency()).thenReturn(1);
+		when(mockDevice2.getFrequency()).thenReturn(1);
+		when(mockDevice3.getFrequency()).thenReturn(2);
+		when(mockDevice1.getRange()).thenReturn(100.0f);
+		when(mockDevice3.getRange()).thenReturn(100.0f);
+		when(mockDevice1.getDevicePosition()).thenReturn(new DimensionBlockPos(0, 0, 0, 0));
+		when(mockDevice2.getDevicePosition()).thenReturn(new DimensionBlockPos(0, 0, 50, 0));
+		when(mockDevice3.getDevicePosition()).thenReturn(new DimensionBlockPos(0, 0, -50, 0));
+
+		radioNetwork.addDevice(mockDevice1);
+		radioNetwork.addDevice(mockDevice2);
+		radioNetwork.addDevice(mockDevice3);
+		radioNetwork.sendPacket(mockPacket, mockDevice1, new ArrayList<>());
+		verify(mockDevice2).onRadioReceive(mockPacket);
+
+		//Move the second device from channel 1 to channel 2
+		when(mockDevice2.getFrequency()).thenReturn(2);
+		radioNetwork.updateDevice(mockDevice2);
+
+		//Old channel
+		radioNetwork.sendPacket(mockPacket, mockDevice1, new ArrayList<>());
+		verify(mockDevice2, times(1)).onRadioReceive(mockPacket);
+
+		//New channel
+		radioNetwork.sendPacket(mockPacket, mockDevice3, new ArrayList<>());
+		verify(mockDevice2, times(2)).onRadioReceive(mockPacket);
+	}
+
+	@Test
+	public void testSendPacketAcrossCellBorder()
+	{
+		//Cells are 32 blocks wide, the devices are 2 blocks apart in different cells
+		when(mockDevice1.getFrequency()).thenReturn(1);
+		when(mockDevice2.getFrequency()).thenReturn(1);
+		when(mockDevice1.getRange()).thenReturn(10.0f);
+		when(mockDevice1.getDevicePosition()).thenReturn(new DimensionBlockPos(31, 0, 0, 0));
+		when(mockDevice2.getDevicePosition()).thenReturn(new DimensionBlockPos(33, 0, 0, 0));
+
+		radioNetwork.addDevice(mockDevice1);
+		radioNetwork.addDevice(mockDevice2);
+		radioNetwork.sendPacket(mockPacket, mockDevice1, new ArrayList<>());
+
+		verify(mockDevice2).onRadioReceive(mockPacket);
+	}
+
+	@Test
+	public void testSendPacketToEdgeCell()
+	{
+		//A range of 40 reaches 2 cells away from the sender's cell
+		when(mockDevice1.getFrequency()).thenReturn(1);
+		when(mockDevice2.getFrequency()).thenReturn(1);
+		when(mockDevice1.getRange()).thenReturn(40.0f);
+		when(mockDevice1.getDevicePosition()).thenReturn(new DimensionBlockPos(0, 0, 0, 0));
+		when(mockDevice2.getDevicePosition()).thenReturn(new DimensionBlockPos(-39, 0, 0, 0));
+
+		radioNetwork.addDevice(mockDevice1);
+		radioNetwork.addDevice(mockDevice2);
+		radioNetwork.sendPacket(mockPacket, mockDevice1, new ArrayList<>());
+
+		verify(mockDevice2).onRadioReceive(mockPacket);
+	}
+
 	@Test
 	public void testDistanceCheck()
 	{
@@ -0,0 +1,92 @@
+package pl.pabilo8.immersiveintelligence.api.data.types;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
+import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+class DataTypeArrayTest
+{
+	@BeforeAll
+	static void beforeAll()
+	{
+		IIDataTypeUtils.registerDataTypes();
+	}
+
+	@Test
+	void pushAndPop()
+	{
+		DataTypeArray array = new DataTypeArray();
+		for(int i = 0; i < 1000; i++)
+			array.push(new DataTypeInteger(i));
+
+		//Not limited to the size arrays are created with
+		assertEquals(1000, array.size());
+		assertEquals(999, ((DataTypeInteger)array.pop()).value);
+		assertEquals(998, ((DataTypeInteger)array.get(998)).value);
+		assertEquals(999, array.asList().size());
+
+		while(!array.isEmpty())
+			array.pop();
+		assertTrue(array.pop() instanceof DataTypeNull);
+	}
+
+	@Test
+	void mixedValuesChangeStorage()
+	{
+		DataTypeArray array = new DataTypeArray(new DataTypeFloat(1.5f), new DataTypeFloat(2.5f));
+		array.push(new DataTypeString("text"));
+		array.insert(0, new DataTypeInteger(7));
+
+		assertEquals(4, array.size());
+		assertEquals(7, ((DataTypeInteger)array.get(0)).value);
+		assertEquals(2.5f, ((DataTypeFloat)array.get(2)).value);
+
+		array.swap(0, 3);
+		assertTrue(array.get(0) instanceof DataTypeString);
+		assertEquals(7, ((DataTypeInteger)array.get(3)).value);
+	}
+
+	@Test
+	void nbtFormatIsKept()
+	{
+		DataType[] values = {new DataTypeInteger(1), new DataTypeInteger(2), new DataTypeInteger(3)};
+		NBTTagCompound expected = new NBTTagCompound();
+		expected.setString("Type", "array");
+		NBTTagList list = new NBTTagList();
+		for(DataType value : values)
+			list.appendTag(value.valueToNBT());
+		expected.setTag("Values", list);
+
+		DataTypeArray array = new DataTypeArray(values);
+		assertEquals(expected, array.valueToNBT());
+
+		DataTypeArray read = new DataTypeArray();
+		read.valueFromNBT(expected);
+		assertEquals(3, read.size());
+		assertEquals(expected, read.copy().valueToNBT());
+	}
+
+	@Test
+	void nbtKeepsPushedValues()
+	{
+		//Pushed past the size arrays are created with
+		DataTypeArray array = new DataTypeArray();
+		for(int i = 0; i < 300; i++)
+			array.push(new DataTypeInteger(i));
+
+		DataTypeArray read = new DataTypeArray();
+		read.valueFromNBT(array.valueToNBT());
+		assertEquals(300, read.size());
+		assertEquals(299, ((DataTypeInteger)read.get(299)).value);
+		assertEquals(array.valueToNBT(), read.valueToNBT());
+	}
+}
@@ -0,0 +1,53 @@
+package pl.pabilo8.immersiveintelligence.api.data.types;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.api.data.DataPacket;
+import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
+import pl.pabilo8.immersiveintelligence.api.data.operations.array.DataOperationArrayPush;
+import pl.pabilo8.immersiveintelligence.api.data.types.DataTypeExpression.ICompiledValue;
+import pl.pabilo8.immersiveintelligence.api.data.types.generic.DataType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+class DataTypeExpressionTest
+{
+	@BeforeAll
+	static void beforeAll()
+	{
+		IIDataTypeUtils.registerDataTypes();
+	}
+
+	@Test
+	void compiledPushKeepsConstant()
+	{
+		//A circuit pushing into a constant array, executed for two packets
+		DataTypeArray constant = new DataTypeArray(new DataTypeInteger(1));
+		DataTypeExpression push = new DataTypeExpression(new DataType[]{constant, new DataTypeInteger(2)}, new DataOperationArrayPush(), ' ');
+		ICompiledValue compiled = push.compile();
+
+		compiled.evaluate(new DataPacket());
+		compiled.evaluate(new DataPacket());
+		assertEquals(1, constant.size());
+	}
+
+	@Test
+	void compiledConstantIsCopied()
+	{
+		DataTypeArray constant = new DataTypeArray(new DataTypeInteger(1));
+		ICompiledValue compiled = DataTypeExpression.compileValue(constant);
+
+		DataTypeArray first = (DataTypeArray)compiled.evaluate(new DataPacket());
+		first.push(new DataTypeInteger(2));
+		assertNotSame(constant, first);
+		assertEquals(1, ((DataTypeArray)compiled.evaluate(new DataPacket())).size());
+
+		//Immutable constants are shared
+		DataTypeInteger integer = new DataTypeInteger(3);
+		assertSame(integer, DataTypeExpression.compileValue(integer).evaluate(new DataPacket()));
+	}
+}
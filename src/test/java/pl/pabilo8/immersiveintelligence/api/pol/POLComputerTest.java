@@ -7,6 +7,7 @@ import pl.pabilo8.immersiveintelligence.api.data.IIDataTypeUtils;
 import pl.pabilo8.immersiveintelligence.api.data.device.IDataDevice;
 import pl.pabilo8.immersiveintelligence.api.data.pol.POLComputerMemory;
 import pl.pabilo8.immersiveintelligence.api.data.pol.POLProcess;
+import pl.pabilo8.immersiveintelligence.api.data.pol.POLScheduler;
 import pl.pabilo8.immersiveintelligence.api.data.pol.POLScript;
 import pl.pabilo8.immersiveintelligence.api.data.pol.POLTerminal;
 
@@ -15,9 +16,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -25,7 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *
  * @author Pabilo8 (pabilo@iiteam.net)
  * @ii-approved 0.3.1
- * @updated 13.12.2024
+ * @updated 18.10.2026
  * @since 23.02.2021
  */
 public class POLComputerTest
@@ -64,6 +67,133 @@ public class POLComputerTest
 		compareOutputs("loading_bar");
 	}
 
+	@Test
+	public void scriptCacheTest()
+	{
+		ArrayList<String> lines = new ArrayList<>(Arrays.asList("integer a = 2", "type @a ;comment", "end"));
+		POLScript script = POLScript.prepareScript(lines);
+
+		//identical text shares one compiled script
+		assertSame(script, POLScript.prepareScript(new ArrayList<>(lines)));
+		//which can be run by many processes
+		MEMORY.putScript("cached", script);
+		execute("cached");
+		execute("cached");
+		assertEquals(2, ((POLMockupTerminal)TERMINAL).output.size());
+		assertEquals("[POL] 2", ((POLMockupTerminal)TERMINAL).output.get(1));
+	}
+
+	@Test
+	public void schedulerTest()
+	{
+		POLScheduler scheduler = new POLScheduler(MEMORY, TERMINAL, 100);
+		POLProcess waiting = scheduler.start(POLScript.prepareScript(new ArrayList<>(Arrays.asList("type \"a1\"", "wait 2", "type \"a2\"", "end"))));
+		scheduler.start(POLScript.prepareScript(new ArrayList<>(Arrays.asList("type \"b1\"", "type \"b2\"", "end"))));
+		ArrayList<String> output = ((POLMockupTerminal)TERMINAL).output;
+
+		//processes take turns, the waiting one is suspended
+		tick(scheduler);
+		assertEquals(Arrays.asList("[POL] a1", "[POL] b1", "[POL] b2"), output);
+		assertEquals(1, scheduler.getProcesses().size());
+		assertTrue(waiting.isSleeping());
+
+		tick(scheduler);
+		assertEquals(3, output.size());
+		assertEquals(0, scheduler.getLastTickCycles());
+
+		tick(scheduler);
+		assertEquals("[POL] a2", output.get(3));
+		assertTrue(scheduler.getProcesses().isEmpty());
+		assertEquals(7, scheduler.getCycles());
+	}
+
+	@Test
+	public void schedulerBudgetTest()
+	{
+		POLScheduler scheduler = new POLScheduler(MEMORY, TERMINAL, 1);
+		scheduler.start(POLScript.prepareScript(new ArrayList<>(Arrays.asList("type \"1\"", "type \"2\"", "end"))));
+		ArrayList<String> output = ((POLMockupTerminal)TERMINAL).output;
+
+		//a single instruction per tick
+		tick(scheduler);
+		assertEquals(1, output.size());
+		assertEquals(1, scheduler.getLastTickCycles());
+		tick(scheduler);
+		assertEquals(2, output.size());
+		tick(scheduler);
+		assertTrue(scheduler.getProcesses().isEmpty());
+	}
+
+	@Test
+	public void schedulerOverdraftTest()
+	{
+		//an instruction with 34 operations takes 35 cycles
+		String expression = "+ 1 1";
+		for(int i = 0; i < 33; i++)
+			expression = "+ 1 ("+expression+")";
+		ArrayList<String> lines = new ArrayList<>(Arrays.asList("use ADVANCED_ARITHMETIC"));
+		for(int i = 0; i < 4; i++)
+			lines.add("integer a = "+expression);
+
+		POLScheduler scheduler = new POLScheduler(MEMORY, TERMINAL, 10);
+		scheduler.start(POLScript.prepareScript(lines));
+
+		//on a budget of 10 the excess 25 cycles are paid off in the next ticks, with the last 5 taken from the budget of the 4th
+		ArrayList<Integer> executed = new ArrayList<>();
+		for(int tick = 1; tick <= 15; tick++)
+		{
+			tick(scheduler);
+			if(scheduler.getLastTickCycles() > 0)
+			{
+				assertEquals(35, scheduler.getLastTickCycles());
+				executed.add(tick);
+			}
+		}
+		assertEquals(Arrays.asList(1, 4, 8, 11), executed);
+		assertTrue(scheduler.getProcesses().isEmpty());
+		assertEquals(140, scheduler.getCycles());
+	}
+
+	@Test
+	public void schedulerGlobalBudgetTest()
+	{
+		POLScheduler.onServerTick();
+		int globalBudget = POLScheduler.globalBudget;
+		POLScheduler.globalBudget = 10;
+		try
+		{
+			POLScheduler expensive = new POLScheduler(MEMORY, TERMINAL, 10);
+			expensive.start(POLScript.prepareScript(new ArrayList<>(Arrays.asList("use ADVANCED_ARITHMETIC", "integer a = + 1 (+ 1 (+ 1 (+ 1 (+ 1 (+ 1 (+ 1 (+ 1 (+ 1 (+ 1 (+ 1 1))))))))))", "integer a = 1", "integer a = 1"))));
+			ArrayList<String> lines = new ArrayList<>();
+			for(int i = 0; i < 10; i++)
+				lines.add("type \"b\"");
+			POLScheduler cheap = new POLScheduler(MEMORY, TERMINAL, 10);
+			cheap.start(POLScript.prepareScript(lines));
+
+			//the first computer exceeds the global budget with a 12-cycle instruction, the second one is skipped
+			expensive.tick();
+			cheap.tick();
+			POLScheduler.onServerTick();
+			assertEquals(12, expensive.getLastTickCycles());
+			assertEquals(0, cheap.getLastTickCycles());
+
+			//both get half of their budget, the skipped tick isn't the second computer's debt
+			expensive.tick();
+			cheap.tick();
+			POLScheduler.onServerTick();
+			assertEquals(5, cheap.getLastTickCycles());
+		} finally
+		{
+			POLScheduler.globalBudget = globalBudget;
+			POLScheduler.onServerTick();
+		}
+	}
+
+	private static void tick(POLScheduler scheduler)
+	{
+		scheduler.tick();
+		POLScheduler.onServerTick();
+	}
 
 	/**
 	 * load a POL file into scripts
@@ -0,0 +1,87 @@
+package pl.pabilo8.immersiveintelligence.api.rotary;
+
+import net.minecraft.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class MotorBeltNetworkTest
+{
+	private MotorBeltNetwork network;
+	private World mockWorld;
+	private IMotorBeltConnector connector1, connector2;
+	private RotaryStorage storage1, storage2;
+
+	@BeforeEach
+	public void setUp()
+	{
+		mockWorld = mock(World.class);
+		when(mockWorld.getTotalWorldTime()).thenReturn(1L);
+
+		storage1 = new RotaryStorage(10, 20);
+		storage2 = new RotaryStorage(5, 40);
+		connector1 = mockConnector(storage1);
+		connector2 = mockConnector(storage2);
+
+		network = new MotorBeltNetwork().add(connector1).add(connector2);
+		network.updateValues();
+	}
+
+	@Test
+	public void testAggregates()
+	{
+		assertEquals(15, network.getNetworkTorque(), 0.001);
+		assertEquals(40, network.getNetworkSpeed(), 0.001);
+		verify(connector1, times(1)).onChange();
+	}
+
+	@Test
+	public void testConnectorUpdate()
+	{
+		storage2.setRotationSpeed(10);
+		storage2.setTorque(1);
+		network.updateConnector(connector2);
+
+		assertEquals(11, network.getNetworkTorque(), 0.001);
+		assertEquals(20, network.getNetworkSpeed(), 0.001);
+		verify(connector1, times(2)).onChange();
+	}
+
+	@Test
+	public void testSyncThreshold()
+	{
+		//A change below the threshold doesn't notify the connectors
+		storage1.setTorque(10.2f);
+		network.updateConnector(connector1);
+
+		assertEquals(15.2, network.getNetworkTorque(), 0.001);
+		verify(connector1, times(1)).onChange();
+
+		//Connectors are notified after some time
+		when(mockWorld.getTotalWorldTime()).thenReturn(200L);
+		network.updateConnector(connector1);
+		verify(connector1, times(2)).onChange();
+	}
+
+	@Test
+	public void testRemoveConnector()
+	{
+		network.removeConnector(connector2);
+		assertEquals(10, network.getNetworkTorque(), 0.001);
+		assertEquals(20, network.getNetworkSpeed(), 0.001);
+	}
+
+	private IMotorBeltConnector mockConnector(RotaryStorage storage)
+	{
+		IMotorBeltConnector connector = mock(IMotorBeltConnector.class);
+		when(connector.getRotaryStorage()).thenReturn(storage);
+		when(connector.getConnectorWorld()).thenReturn(mockWorld);
+		return connector;
+	}
+}
@@ -0,0 +1,63 @@
+package pl.pabilo8.immersiveintelligence.common.entity.ammo;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.types.EntityAmmoProjectile;
+import pl.pabilo8.immersiveintelligence.test.GameTestWorld;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class ProjectileManagerTest extends GameTestWorld
+{
+	@Test
+	public void testRecycledProjectileIsReset()
+	{
+		World world = testManager.getWorld(0);
+		ProjectileManager.clear(world.provider.getDimension());
+		EntityAmmoProjectile owner = new EntityAmmoProjectile(world);
+
+		//Use a projectile
+		EntityAmmoProjectile projectile = ProjectileManager.obtain(world);
+		projectile.setOwner(owner);
+		projectile.setIgnored(Collections.singletonList(BlockPos.ORIGIN), Collections.<Entity>singletonList(owner));
+		projectile.baseMotion = new Vec3d(1, 0, 0);
+		projectile.velocity = 5;
+		projectile.gravityMotionY = 0.5;
+		projectile.motionX = 5;
+		projectile.ticksExisted = 20;
+		projectile.setDead();
+		ProjectileManager.recycle(world, projectile);
+
+		//The same instance is reused, without the state of the previous shot
+		EntityAmmoProjectile reused = ProjectileManager.obtain(world);
+		assertSame(projectile, reused);
+		assertTrue(reused.isPooled());
+		assertFalse(reused.isDead);
+		assertEquals(0, reused.ticksExisted);
+		assertNull(reused.getOwner());
+		assertEquals(Vec3d.ZERO, reused.baseMotion);
+		assertEquals(0, reused.getVelocity());
+		assertEquals(0, reused.gravityMotionY);
+		assertEquals(0, reused.motionX);
+	}
+
+	@Test
+	public void testObtainWithEmptyPool()
+	{
+		World world = testManager.getWorld(0);
+		ProjectileManager.clear(world.provider.getDimension());
+
+		EntityAmmoProjectile first = ProjectileManager.obtain(world), second = ProjectileManager.obtain(world);
+		assertNotSame(first, second);
+		assertTrue(first.isPooled());
+	}
+}
@@ -0,0 +1,107 @@
+package pl.pabilo8.immersiveintelligence.common.network.messages;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.api.ammo.penetration.DamageBlockPos;
+import pl.pabilo8.immersiveintelligence.test.GameTestBasic;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+class MessageEffectBatchTest extends GameTestBasic
+{
+	@Test
+	void positionsAreQuantised()
+	{
+		Vec3d pos = new Vec3d(-1234.56789, 72.34, 98765.4321);
+		MessageEffectBatch received = sendBatch(new MessageParticleGunfire(pos, new Vec3d(0, 0.5, 1), 2f));
+
+		assertEquals(1, received.getEffects().size());
+		MessageParticleGunfire gunfire = (MessageParticleGunfire)received.getEffects().iterator().next();
+		assertEquals(pos.x, gunfire.pos.x, 1/2048d);
+		assertEquals(pos.y, gunfire.pos.y, 1/32d);
+		assertEquals(pos.z, gunfire.pos.z, 1/2048d);
+		assertEquals(0.5, gunfire.dir.y, 1e-6);
+		assertEquals(2f, gunfire.size);
+	}
+
+	@Test
+	void identicalEffectsAreCoalesced()
+	{
+		Vec3d pos = new Vec3d(16, 64, -16), dir = new Vec3d(0, 1, 0);
+		MessageEffectBatch received = sendBatch(
+				new MessageParticleGunfire(pos, dir, 2f),
+				new MessageParticleGunfire(pos, dir, 2f),
+				new MessageParticleGunfire(pos, dir, 1f)
+		);
+
+		assertEquals(2, received.getEffects().size());
+	}
+
+	@Test
+	void stateEffectsKeepTheLastValue()
+	{
+		BlockPos pos = new BlockPos(16, 64, -16), other = pos.up();
+		MessageEffectBatch received = sendBatch(
+				new MessageBlockDamageSync(new DamageBlockPos(pos, 0, 0.5f)),
+				new MessageBlockDamageSync(new DamageBlockPos(other, 0, 0.75f)),
+				new MessageBlockDamageSync(new DamageBlockPos(pos, 0, 0.25f)),
+				new MessageBlockDamageSync(new DamageBlockPos(pos, 0, 0.5f))
+		);
+
+		//One message per block, with its last damage
+		assertEquals(2, received.getEffects().size());
+		MessageEffectBatch expected = sendBatch(
+				new MessageBlockDamageSync(new DamageBlockPos(other, 0, 0.75f)),
+				new MessageBlockDamageSync(new DamageBlockPos(pos, 0, 0.5f))
+		);
+		assertEquals(encodeAll(expected), encodeAll(received));
+	}
+
+	@Test
+	void dimensionIsSent()
+	{
+		//The client drops batches queued for another dimension
+		MessageEffectBatch batch = new MessageEffectBatch(-1);
+		ByteBuf buf = Unpooled.buffer();
+		batch.toBytes(buf);
+		MessageEffectBatch received = new MessageEffectBatch();
+		received.fromBytes(buf);
+
+		assertEquals(-1, received.getDimension());
+		assertTrue(received.getEffects().isEmpty());
+	}
+
+	private static ArrayList<ByteBuffer> encodeAll(MessageEffectBatch batch)
+	{
+		ArrayList<ByteBuffer> encoded = new ArrayList<>();
+		for(IEffectMessage effect : batch.getEffects())
+			encoded.add(MessageEffectBatch.encode(effect));
+		return encoded;
+	}
+
+	private MessageEffectBatch sendBatch(IEffectMessage... effects)
+	{
+		MessageEffectBatch batch = new MessageEffectBatch(0);
+		for(IEffectMessage effect : effects)
+			batch.addEffect(MessageEffectBatch.encode(effect), effect.getStateKey());
+
+		ByteBuf buf = Unpooled.buffer();
+		batch.toBytes(buf);
+		MessageEffectBatch received = new MessageEffectBatch();
+		received.fromBytes(buf);
+
+		assertFalse(buf.isReadable());
+		return received;
+	}
+}
@@ -0,0 +1,56 @@
+package pl.pabilo8.immersiveintelligence.common.util;
+
+import com.builtbroken.mc.testing.junit.world.FakeWorldServer;
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.common.util.BlockDestructionQueue.ChunkEdits;
+import pl.pabilo8.immersiveintelligence.test.GameTestWorld;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class BlockDestructionQueueTest extends GameTestWorld
+{
+	@Test
+	public void testChunkEditsRoundTrip()
+	{
+		long[] positions = {new BlockPos(3, 64, -5).toLong(), new BlockPos(-30000000, 0, 29999999).toLong(), new BlockPos(0, 255, 0).toLong()};
+		int[] states = {BlockDestructionQueue.EXPLODE, Block.getStateId(Blocks.STONE.getDefaultState()), 0};
+		int[] expected = {Block.getStateId(Blocks.DIRT.getDefaultState()), 0, 0};
+
+		ChunkEdits read = ChunkEdits.fromArray(new ChunkEdits(positions, states, expected, 4).toArray());
+		assertArrayEquals(positions, read.positions);
+		assertArrayEquals(states, read.states);
+		assertArrayEquals(expected, read.expected);
+	}
+
+	@Test
+	public void testChangedBlockIsNotExploded()
+	{
+		FakeWorldServer world = testManager.getWorld(0);
+		BlockPos changed = new BlockPos(1, 64, 1), exploded = new BlockPos(2, 64, 1);
+		world.setBlockState(changed, Blocks.DIRT.getDefaultState());
+		world.setBlockState(exploded, Blocks.DIRT.getDefaultState());
+
+		HashMap<BlockPos, Integer> edits = new HashMap<>();
+		edits.put(changed, BlockDestructionQueue.EXPLODE);
+		edits.put(exploded, BlockDestructionQueue.EXPLODE);
+		BlockDestructionQueue.clear();
+		BlockDestructionQueue.queue(world, new Vec3d(1.5, 64.5, 1.5), 4, false, false, edits);
+
+		//Placed after the explosion, before the edit is applied
+		world.setBlockState(changed, Blocks.STONE.getDefaultState());
+		BlockDestructionQueue.updateWorld(world);
+
+		assertEquals(Blocks.STONE, world.getBlockState(changed).getBlock());
+		assertEquals(Blocks.AIR, world.getBlockState(exploded).getBlock());
+	}
+}
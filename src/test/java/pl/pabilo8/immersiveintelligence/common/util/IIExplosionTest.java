@@ -0,0 +1,71 @@
+package pl.pabilo8.immersiveintelligence.common.util;
+
+import com.builtbroken.mc.testing.junit.world.FakeWorldServer;
+import net.minecraft.entity.passive.EntitySheep;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.api.ammo.enums.ComponentEffectShape;
+import pl.pabilo8.immersiveintelligence.test.GameTestWorld;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class IIExplosionTest extends GameTestWorld
+{
+	private static final Vec3d CENTER = new Vec3d(8.5, 64.5, 8.5);
+	FakeWorldServer world;
+	EntitySheep exploder;
+
+	@BeforeEach
+	public void setUp()
+	{
+		world = testManager.getWorld(0);
+		exploder = new EntitySheep(world);
+		for(BlockPos pos : BlockPos.getAllInBox(new BlockPos(-4, 56, -4), new BlockPos(20, 72, 20)))
+			world.setBlockState(pos, Blocks.DIRT.getDefaultState());
+	}
+
+	@Test
+	public void testParallelMatchesSequential()
+	{
+		//Large enough to be marched in parallel
+		Set<BlockPos> parallel = create(ComponentEffectShape.ORB, 8).generateAffectedBlockPositions(false);
+		IIExplosion explosion = create(ComponentEffectShape.ORB, 8);
+		explosion.parallel = false;
+		Set<BlockPos> sequential = explosion.generateAffectedBlockPositions(false);
+
+		assertFalse(parallel.isEmpty());
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testSeedIsDeterministic()
+	{
+		assertEquals(create(ComponentEffectShape.STAR, 6).generateAffectedBlockPositions(false),
+				create(ComponentEffectShape.STAR, 6).generateAffectedBlockPositions(false));
+	}
+
+	@Test
+	public void testOnlyDestroyableBlocks()
+	{
+		world.setBlockState(new BlockPos(CENTER).up(), Blocks.BEDROCK.getDefaultState());
+		Set<BlockPos> affected = create(ComponentEffectShape.ORB, 4).generateAffectedBlockPositions(false);
+
+		assertFalse(affected.contains(new BlockPos(CENTER).up()));
+		for(BlockPos pos : affected)
+			assertEquals(Blocks.DIRT, world.getBlockState(pos).getBlock());
+	}
+
+	private IIExplosion create(ComponentEffectShape shape, float size)
+	{
+		return new IIExplosion(world, exploder, CENTER, null, size, 20, shape, false, true, false).setSeed(42);
+	}
+}
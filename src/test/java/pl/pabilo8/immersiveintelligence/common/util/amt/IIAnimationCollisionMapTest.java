@@ -0,0 +1,77 @@
+package pl.pabilo8.immersiveintelligence.common.util.amt;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.common.entity.tactile.EntityAMTTactile;
+import pl.pabilo8.immersiveintelligence.common.util.amt.IIAnimation.IIAnimationGroup;
+import pl.pabilo8.immersiveintelligence.common.util.amt.IIAnimation.IIVectorLine;
+import pl.pabilo8.immersiveintelligence.test.GameTestWorld;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class IIAnimationCollisionMapTest extends GameTestWorld
+{
+	private static final double DELTA = 1e-4;
+	private EntityAMTTactile barrel;
+
+	@Override
+	@BeforeEach
+	public void setUp()
+	{
+		super.setUp();
+		barrel = new EntityAMTTactile(testManager.getWorld(0));
+		barrel.name = "barrel";
+	}
+
+	@Test
+	public void testSamplesMatchAnimation()
+	{
+		IIVectorLine line = new IIVectorLine(new float[]{0, 0.25f, 1}, new Vec3d[]{Vec3d.ZERO, new Vec3d(2, -1, 0.5), new Vec3d(-3, 4, 1)});
+		IIAnimationCollisionMap map = createMap(line);
+
+		for(int i = 0; i <= 1000; i++)
+		{
+			float time = i/1000f;
+			map.apply(time);
+			Vec3d expected = line.getForTime(time);
+			assertEquals(expected.x, barrel.translation.x, DELTA, "time "+time);
+			assertEquals(expected.y, barrel.translation.y, DELTA, "time "+time);
+			assertEquals(expected.z, barrel.translation.z, DELTA, "time "+time);
+		}
+	}
+
+	@Test
+	public void testSharedTactiles()
+	{
+		//i.e. firing and loading animations of the howitzer move the same barrel
+		IIAnimationCollisionMap fire = createMap(new IIVectorLine(new float[]{0, 1}, new Vec3d[]{Vec3d.ZERO, new Vec3d(0, 0, -2)}));
+		IIAnimationCollisionMap load = createMap(new IIVectorLine(new float[]{0, 1}, new Vec3d[]{Vec3d.ZERO, new Vec3d(0, 4, 0)}));
+
+		fire.apply(0.5f);
+		assertEquals(new Vec3d(0, 0, -1), barrel.translation);
+		load.apply(0.5f);
+		assertEquals(new Vec3d(0, 2, 0), barrel.translation);
+
+		//Same time, but the barrel was moved by the other animation
+		fire.apply(0.5f);
+		assertEquals(new Vec3d(0, 0, -1), barrel.translation);
+	}
+
+	private IIAnimationCollisionMap createMap(IIVectorLine position)
+	{
+		IIAnimation animation = new IIAnimation(new ResourceLocation("immersiveintelligence", "test"), new IIAnimationGroup[]{
+				new IIAnimationGroup("barrel", position, null, null, null, null, null)
+		});
+		//South facing doesn't rotate positions
+		return IIAnimationCollisionMap.create(Collections.singletonList(barrel), animation, EnumFacing.SOUTH, false);
+	}
+}
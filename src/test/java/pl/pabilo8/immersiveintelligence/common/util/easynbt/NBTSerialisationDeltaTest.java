@@ -0,0 +1,137 @@
+package pl.pabilo8.immersiveintelligence.common.util.easynbt;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.common.util.easynbt.SyncNBT.SyncEvents;
+import pl.pabilo8.immersiveintelligence.test.GameTestBasic;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Pabilo8
+ * @updated 18.10.2026
+ * @since 18.10.2026
+ */
+public class NBTSerialisationDeltaTest extends GameTestBasic
+{
+	/**
+	 * Stand-ins for players receiving the updates
+	 */
+	private final Object player = new Object(), otherPlayer = new Object();
+
+	@Test
+	public void testOnlyChangedFieldsAreWritten()
+	{
+		SyncedObject object = new SyncedObject();
+		assertNotNull(write(object, SyncEvents.TILE_CUSTOM1));
+		//Nothing has changed
+		assertNull(write(object, SyncEvents.TILE_CUSTOM1));
+
+		object.progress = 12.5f;
+		byte[] data = write(object, SyncEvents.TILE_CUSTOM1);
+		assertNotNull(data);
+		//Field count, field index and a float
+		assertEquals(1+1+4, data.length);
+	}
+
+	@Test
+	public void testGuiOpenedAlwaysWrites()
+	{
+		SyncedObject object = new SyncedObject();
+		assertNotNull(write(object, SyncEvents.TILE_GUI_OPENED));
+		assertNotNull(write(object, SyncEvents.TILE_GUI_OPENED));
+	}
+
+	@Test
+	public void testLateReceiverGetsAllFields()
+	{
+		SyncedObject object = new SyncedObject();
+		assertNotNull(write(object, SyncEvents.TILE_CUSTOM1, player));
+
+		//A player who starts tracking later receives all fields, the first one only the changed ones
+		object.amount = 5;
+		Map<Object, byte[]> data = write(object, SyncEvents.TILE_CUSTOM1, player, otherPlayer);
+		assertEquals(1+1+4, data.get(player).length);
+		assertArrayEquals(write(new SyncedObject(5), SyncEvents.TILE_CUSTOM1, new Object()).values().iterator().next(), data.get(otherPlayer));
+	}
+
+	@Test
+	public void testMissedUpdateIsResent()
+	{
+		SyncedObject object = new SyncedObject(), copy = new SyncedObject();
+		write(object, SyncEvents.TILE_CUSTOM1, player, otherPlayer);
+
+		//The other player is out of range when the field changes
+		object.progress = 7;
+		assertTrue(write(object, SyncEvents.TILE_CUSTOM1, player).containsKey(player));
+
+		//It receives the field once it's back in range
+		Map<Object, byte[]> data = write(object, SyncEvents.TILE_CUSTOM1, player, otherPlayer);
+		assertFalse(data.containsKey(player));
+		assertTrue(data.containsKey(otherPlayer));
+		NBTSerialisation.synchroniseFor(copy, (tag, tile) -> tag.readChanged(tile, Unpooled.wrappedBuffer(data.get(otherPlayer))));
+		assertEquals(7, copy.progress);
+	}
+
+	@Test
+	public void testReadChanged()
+	{
+		SyncedObject object = new SyncedObject(), copy = new SyncedObject();
+		object.progress = 3;
+		object.name = "press";
+		object.amount = -40;
+		object.active = true;
+		object.motion = new Vec3d(1, 2, 3);
+
+		byte[] data = write(object, SyncEvents.TILE_CUSTOM1);
+		NBTSerialisation.synchroniseFor(copy, (tag, tile) -> tag.readChanged(tile, Unpooled.wrappedBuffer(data)));
+
+		assertEquals(3, copy.progress);
+		assertEquals("press", copy.name);
+		assertEquals(-40, copy.amount);
+		assertTrue(copy.active);
+		assertEquals(new Vec3d(1, 2, 3), copy.motion);
+	}
+
+	private byte[] write(SyncedObject object, SyncEvents event)
+	{
+		return write(object, event, player).get(player);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Object, byte[]> write(SyncedObject object, SyncEvents event, Object... receivers)
+	{
+		AtomicReference<Map<Object, byte[]>> data = new AtomicReference<>();
+		NBTSerialisation.synchroniseFor(object, (tag, tile) -> data.set(tag.writeChangedForEvent(tile, event, Arrays.asList(receivers))));
+		return data.get();
+	}
+
+	public static class SyncedObject
+	{
+		@SyncNBT(events = {SyncEvents.TILE_CUSTOM1, SyncEvents.TILE_GUI_OPENED})
+		public float progress = 0;
+		@SyncNBT(events = SyncEvents.TILE_CUSTOM1)
+		public String name = "";
+		@SyncNBT(events = SyncEvents.TILE_CUSTOM1)
+		public int amount = 0;
+		@SyncNBT(events = SyncEvents.TILE_CUSTOM1)
+		public boolean active = false;
+		@SyncNBT(events = SyncEvents.TILE_CUSTOM1)
+		public Vec3d motion = Vec3d.ZERO;
+
+		public SyncedObject()
+		{
+
+		}
+
+		public SyncedObject(int amount)
+		{
+			this.amount = amount;
+		}
+	}
+}
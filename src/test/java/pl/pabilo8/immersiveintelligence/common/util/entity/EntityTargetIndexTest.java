@@ -0,0 +1,53 @@
+package pl.pabilo8.immersiveintelligence.common.util.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import org.junit.jupiter.api.Test;
+import pl.pabilo8.immersiveintelligence.common.entity.ammo.types.EntityAmmoProjectile;
+import pl.pabilo8.immersiveintelligence.test.GameTestWorld;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Pabilo8
+ * @since 18.10.2026
+ */
+public class EntityTargetIndexTest extends GameTestWorld
+{
+	@Test
+	public void testFastEntityIsFound()
+	{
+		World world = testManager.getWorld(0);
+		EntityTargetIndex.clear(world.provider.getDimension());
+		EntityAmmoProjectile projectile = new EntityAmmoProjectile(world);
+		projectile.setPosition(0.5, 64, 0.5);
+		projectile.motionX = 40;
+		world.spawnEntity(projectile);
+
+		//Build the index, then move the projectile 2 cells further in the same tick
+		EntityTargetIndex.getEntitiesWithinAABB(world, Entity.class, new AxisAlignedBB(0, 60, 0, 1, 68, 1), null);
+		projectile.setPosition(40.5, 64, 0.5);
+
+		List<Entity> found = EntityTargetIndex.getEntitiesWithinAABB(world, Entity.class, new AxisAlignedBB(40, 60, 0, 41, 68, 1), null);
+		assertTrue(found.contains(projectile));
+	}
+
+	@Test
+	public void testJoinedEntityIsFound()
+	{
+		World world = testManager.getWorld(0);
+		EntityTargetIndex.clear(world.provider.getDimension());
+		AxisAlignedBB aabb = new AxisAlignedBB(-100, 60, -100, -90, 68, -90);
+		EntityTargetIndex.getEntitiesWithinAABB(world, Entity.class, aabb, null);
+
+		//Spawned after the index was built
+		EntityAmmoProjectile projectile = new EntityAmmoProjectile(world);
+		projectile.setPosition(-95, 64, -95);
+		EntityTargetIndex.onEntityJoin(world, projectile);
+
+		assertTrue(EntityTargetIndex.getEntitiesWithinAABB(world, Entity.class, aabb, null).contains(projectile));
+	}
+}